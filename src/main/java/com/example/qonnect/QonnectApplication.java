@@ -10,6 +10,7 @@ import io.swagger.v3.oas.annotations.security.SecurityScheme;
 import io.swagger.v3.oas.annotations.servers.Server;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @OpenAPIDefinition(
         info = @Info(
@@ -38,6 +39,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
         openIdConnectUrl = "http://localhost:9090/realms/Qonnect/.well-known/openid-configuration"
 )
 @SpringBootApplication
+@EnableScheduling
 public class QonnectApplication {
     public static void main(String[] args) {
         SpringApplication.run(QonnectApplication.class, args);
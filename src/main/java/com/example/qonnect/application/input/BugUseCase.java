@@ -1,9 +1,11 @@
 package com.example.qonnect.application.input;
 
 import com.example.qonnect.domain.models.Bug;
+import com.example.qonnect.domain.models.KeysetCursor;
 import com.example.qonnect.domain.models.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.transaction.annotation.Transactional;
 
 public interface BugUseCase {
@@ -18,6 +20,11 @@ public interface BugUseCase {
     @Transactional(readOnly = true)
     Page<Bug> getBugsByCreatedById(Long userId, Pageable pageable);
 
+    Slice<Bug> getBugsInAProjectAfter(User user, Long projectId, KeysetCursor cursor, int size);
+    Slice<Bug> getBugsInATaskAfter(User user, Long taskId, KeysetCursor cursor, int size);
+    Slice<Bug> getBugsByAssignedToIdAfter(Long userId, KeysetCursor cursor, int size);
+    Slice<Bug> getBugsByCreatedByIdAfter(Long userId, KeysetCursor cursor, int size);
+
     Bug reportBug(User user, Bug bug);
     Bug assignBugToDeveloper(User assigner, Long bugId, Long developerId);
 
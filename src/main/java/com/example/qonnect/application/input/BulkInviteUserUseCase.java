@@ -0,0 +1,10 @@
+package com.example.qonnect.application.input;
+
+import com.example.qonnect.domain.models.Invitation;
+import com.example.qonnect.domain.models.User;
+
+import java.util.List;
+
+public interface BulkInviteUserUseCase {
+    List<Invitation> inviteUsers(User inviter, List<Invitation> invitations);
+}
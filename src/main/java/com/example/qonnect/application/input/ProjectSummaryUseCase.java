@@ -0,0 +1,9 @@
+package com.example.qonnect.application.input;
+
+import com.example.qonnect.domain.models.ProjectSummary;
+import com.example.qonnect.domain.models.User;
+
+public interface ProjectSummaryUseCase {
+
+    ProjectSummary getProjectSummary(User user, Long projectId);
+}
@@ -18,6 +18,8 @@ public interface ProjectUseCase {
     Project updateProject(User user, Long projectId, Project updatedProject);
 
     void deleteProject(User user, Long projectId);
-    List<User> getAllUsersInAProject(User user, Long projectId);
+    Page<User> getAllUsersInAProject(User user, Long projectId, Pageable pageable);
     void removeUserFromProject(User user, Long projectId,Long userToRemoveId);
+    int addUsersToProject(User user, Long projectId, List<Long> userIds);
+    int removeUsersFromProject(User user, Long projectId, List<Long> userIds);
 }
\ No newline at end of file
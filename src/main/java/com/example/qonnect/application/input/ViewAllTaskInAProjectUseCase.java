@@ -1,11 +1,12 @@
 package com.example.qonnect.application.input;
 
 import com.example.qonnect.domain.models.Task;
+import com.example.qonnect.domain.models.TaskFilter;
 import com.example.qonnect.domain.models.User;
-
-import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 public interface ViewAllTaskInAProjectUseCase {
 
-    List<Task> getAllTasksInProject(User user, Long projectId);
+    Page<Task> getAllTasksInProject(User user, Long projectId, TaskFilter filter, boolean includeBugCount, Pageable pageable);
 }
@@ -1,10 +1,14 @@
 package com.example.qonnect.application.input;
 
+import com.example.qonnect.domain.models.KeysetCursor;
 import com.example.qonnect.domain.models.Task;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface ViewAllUserTaskUseCase {
 
     Page<Task> getTasksByUserId(Long userId, Pageable pageable);
+
+    Slice<Task> getTasksByUserIdAfter(Long userId, KeysetCursor cursor, int size);
 }
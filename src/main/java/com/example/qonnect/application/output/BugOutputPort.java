@@ -1,13 +1,19 @@
 package com.example.qonnect.application.output;
 
 import com.example.qonnect.domain.models.Bug;
+import com.example.qonnect.domain.models.KeysetCursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.Optional;
 
 public interface BugOutputPort {
 
     Bug getBugByIdAndTaskId(Long id, Long taskId);
 
+    Optional<Bug> findBugInOrganization(Long id, Long taskId, Long organizationId);
+
 
     Bug saveBug(Bug bug);
 
@@ -21,10 +27,16 @@ public interface BugOutputPort {
 
     void deleteBug(Long id);
 
-    boolean existsByTitleAndProjectId(String title, Long projectId);
-
     Bug getBugById(Long bugId);
 
     Page<Bug> getBugsByCreatedById(Long userId, Pageable pageable);
 
+    Slice<Bug> getBugsByProjectIdAfter(Long projectId, KeysetCursor cursor, int size);
+
+    Slice<Bug> getBugsByTaskIdAfter(Long taskId, KeysetCursor cursor, int size);
+
+    Slice<Bug> getBugsByAssignedToIdAfter(Long userId, KeysetCursor cursor, int size);
+
+    Slice<Bug> getBugsByCreatedByIdAfter(Long userId, KeysetCursor cursor, int size);
+
 }
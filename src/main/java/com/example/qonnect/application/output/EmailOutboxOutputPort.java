@@ -0,0 +1,18 @@
+package com.example.qonnect.application.output;
+
+import com.example.qonnect.domain.models.OutboundEmail;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface EmailOutboxOutputPort {
+
+    List<OutboundEmail> claimDue(int batchSize, Duration lease);
+
+    List<OutboundEmail> saveAll(List<OutboundEmail> emails);
+
+    long countPending();
+
+    int purgeFinishedBefore(LocalDateTime cutoff);
+}
@@ -1,5 +1,11 @@
 package com.example.qonnect.application.output;
 
+import com.example.qonnect.domain.models.OutboundEmail;
+
+import java.util.List;
+
 public interface EmailOutputPort {
     void sendEmail(String to, String subject, String body);
+
+    void sendEmails(List<OutboundEmail> emails);
 }
@@ -9,6 +9,8 @@ public interface IdentityManagementOutputPort {
 
     User createUser(User user);
 
+    User assignRole(User user);
+
     boolean doesUserExist(String email);
 
     User login(User userIdentity);
@@ -0,0 +1,19 @@
+package com.example.qonnect.application.output;
+
+import com.example.qonnect.domain.models.IdentityProvisioning;
+import com.example.qonnect.domain.models.User;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+public interface IdentityProvisioningOutputPort {
+
+    IdentityProvisioning enqueue(User user);
+
+    List<IdentityProvisioning> claimDue(int batchSize, Duration lease);
+
+    IdentityProvisioning saveProvisioning(IdentityProvisioning provisioning);
+
+    Optional<IdentityProvisioning> findByEmail(String email);
+}
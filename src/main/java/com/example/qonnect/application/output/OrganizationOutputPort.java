@@ -12,8 +12,6 @@ public interface OrganizationOutputPort {
 
     Organization getOrganizationByName(String name);
 
-    boolean existsByName(String name);
-
     Organization getOrganizationById(Long id);
 
     void removeUserFromOrganization(User userToBeRemoved,Organization organization);
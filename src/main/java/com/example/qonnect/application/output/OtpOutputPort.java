@@ -7,4 +7,10 @@ public interface OtpOutputPort {
     Otp saveOtp(Otp otp);
 
     Otp findByEmailAndOtp(String email, String otp);
+
+    /**
+     * Marks the matching OTP used and returns it as it was before consumption,
+     * so callers can still tell an already used or expired code from a valid one.
+     */
+    Otp consumeOtp(String email, String otp);
 }
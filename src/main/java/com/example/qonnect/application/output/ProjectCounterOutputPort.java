@@ -0,0 +1,12 @@
+package com.example.qonnect.application.output;
+
+import com.example.qonnect.domain.models.ProjectSummary;
+
+public interface ProjectCounterOutputPort {
+
+    ProjectSummary getProjectSummary(Long projectId);
+
+    long countBugsByProjectId(Long projectId);
+
+    int reconcileCounters();
+}
@@ -5,6 +5,7 @@ import com.example.qonnect.domain.models.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.Optional;
 
 public interface ProjectOutputPort {
@@ -13,8 +14,6 @@ public interface ProjectOutputPort {
 
     boolean existById(Long id);
 
-    boolean existsByNameAndOrganizationId(String name, Long organizationId);
-
     Page<Project> getAllProjects(Long organizationId, Pageable pageable);
 
     void deleteProject(Project project);
@@ -23,9 +22,17 @@ public interface ProjectOutputPort {
 
     Project getProjectById(Long projectId);
 
-    boolean existsByNameAndOrganizationIdAndNotId(String name, Long organizationId, Long projectId);
+    boolean isMember(Long projectId, Long userId);
+
+    boolean addMember(Long projectId, Long userId);
+
+    boolean removeMember(Long projectId, Long userId);
+
+    int addMembers(Long projectId, Collection<Long> userIds);
+
+    int removeMembers(Long projectId, Collection<Long> userIds);
 
-    void removeUserFromProject(User userToBeRemoved, Project project);
+    Page<User> getMembers(Long projectId, Pageable pageable);
 
     void deleteProjectById(Long id);
 }
\ No newline at end of file
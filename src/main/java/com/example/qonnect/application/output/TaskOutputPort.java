@@ -1,11 +1,12 @@
 package com.example.qonnect.application.output;
 
+import com.example.qonnect.domain.models.KeysetCursor;
 import com.example.qonnect.domain.models.Task;
+import com.example.qonnect.domain.models.TaskFilter;
 import com.example.qonnect.domain.models.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-
-import java.util.List;
+import org.springframework.data.domain.Slice;
 
 public interface TaskOutputPort {
 
@@ -13,14 +14,15 @@ public interface TaskOutputPort {
 
     Task getTaskByTitle(String name);
 
-    boolean existsByTitleAndProjectId(String title, Long projectId);
-
-
     void deleteTaskById(Long taskId);
 
     Task getTaskById(Long taskId);
 
-    List<Task> getAllTasksByProjectId(Long projectId);
+    boolean existsInOrganization(Long taskId, Long organizationId);
+
+    Page<Task> getTasksByProjectId(Long projectId, TaskFilter filter, boolean withBugCount, Pageable pageable);
 
     Page<Task> getTasksByUserId(Long userId, Pageable pageable);
+
+    Slice<Task> getTasksByUserIdAfter(Long userId, KeysetCursor cursor, int size);
 }
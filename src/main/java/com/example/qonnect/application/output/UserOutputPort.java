@@ -5,6 +5,10 @@ import com.example.qonnect.infrastructure.adapters.output.persistence.entities.U
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
 public interface UserOutputPort {
     User getUserByEmail(String email);
 
@@ -23,4 +27,8 @@ public interface UserOutputPort {
 
 
     void deleteUserById(Long id);
+
+    Set<String> findExistingEmails(Collection<String> emails);
+
+    void saveInvitees(List<User> invitees);
 }
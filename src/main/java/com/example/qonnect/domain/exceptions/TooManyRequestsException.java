@@ -0,0 +1,9 @@
+package com.example.qonnect.domain.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class TooManyRequestsException extends QonnectException {
+    public TooManyRequestsException(String message, HttpStatus status) {
+        super(message, status);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.qonnect.domain.models;
+
+import com.example.qonnect.domain.models.enums.ProvisioningStatus;
+import com.example.qonnect.domain.models.enums.Role;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Setter
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdentityProvisioning {
+
+    private Long id;
+
+    private String email;
+
+    private String firstName;
+
+    private String lastName;
+
+    private String password;
+
+    private Role role;
+
+    private ProvisioningStatus status;
+
+    private int attempts;
+
+    private LocalDateTime nextAttemptAt;
+
+    private String lastError;
+
+    private String keycloakId;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+}
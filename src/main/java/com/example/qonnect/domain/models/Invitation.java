@@ -0,0 +1,22 @@
+package com.example.qonnect.domain.models;
+
+import com.example.qonnect.domain.models.enums.InvitationStatus;
+import lombok.*;
+
+@Setter
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Invitation {
+
+    private int row;
+
+    private String email;
+
+    private String role;
+
+    private InvitationStatus status;
+
+    private String message;
+}
@@ -0,0 +1,20 @@
+package com.example.qonnect.domain.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Position in a listing ordered by {@code (createdAt DESC, id DESC)}; the next page holds rows strictly after it.
+ */
+@Getter
+@AllArgsConstructor
+public class KeysetCursor {
+
+    public static final KeysetCursor START = new KeysetCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private final LocalDateTime createdAt;
+
+    private final Long id;
+}
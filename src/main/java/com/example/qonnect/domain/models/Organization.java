@@ -6,7 +6,7 @@ import java.util.List;
 
 @Setter
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @AllArgsConstructor
 @NoArgsConstructor
 public class Organization {
@@ -0,0 +1,36 @@
+package com.example.qonnect.domain.models;
+
+import com.example.qonnect.domain.models.enums.EmailStatus;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Setter
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboundEmail {
+
+    private Long id;
+
+    private String recipient;
+
+    private String subject;
+
+    private String body;
+
+    private EmailStatus status;
+
+    private int attempts;
+
+    private LocalDateTime nextAttemptAt;
+
+    private String lastError;
+
+    private LocalDateTime sentAt;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+}
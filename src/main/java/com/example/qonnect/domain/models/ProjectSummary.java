@@ -0,0 +1,19 @@
+package com.example.qonnect.domain.models;
+
+import lombok.*;
+
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectSummary {
+    private Long projectId;
+    private long totalBugs;
+    private long totalTasks;
+    private Map<String, Long> bugsByStatus;
+    private Map<String, Map<String, Long>> bugsByStatusAndSeverity;
+    private Map<String, Long> tasksByStatus;
+}
@@ -22,4 +22,5 @@ public class Task {
     private LocalDateTime updatedAt;
     private Long projectId;
     private List<Bug> bugs;
+    private Long bugCount;
 }
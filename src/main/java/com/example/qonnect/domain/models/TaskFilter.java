@@ -0,0 +1,21 @@
+package com.example.qonnect.domain.models;
+
+import com.example.qonnect.domain.models.enums.TaskStatus;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Optional restrictions for a project's task listing; a null field matches every task.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskFilter {
+    private TaskStatus status;
+    private Long assignedToId;
+    private LocalDateTime dueFrom;
+    private LocalDateTime dueTo;
+}
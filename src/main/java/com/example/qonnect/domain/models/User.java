@@ -12,7 +12,7 @@ import static com.example.qonnect.domain.validators.InputValidator.*;
 
 @Setter
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @AllArgsConstructor
 @NoArgsConstructor
 public class User {
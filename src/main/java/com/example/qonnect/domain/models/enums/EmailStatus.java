@@ -0,0 +1,8 @@
+package com.example.qonnect.domain.models.enums;
+
+public enum EmailStatus {
+    PENDING,
+    IN_PROGRESS,
+    SENT,
+    DEAD
+}
@@ -0,0 +1,8 @@
+package com.example.qonnect.domain.models.enums;
+
+public enum InvitationStatus {
+    INVITED,
+    ALREADY_EXISTS,
+    DUPLICATE,
+    INVALID
+}
@@ -0,0 +1,8 @@
+package com.example.qonnect.domain.models.enums;
+
+public enum ProvisioningStatus {
+    PENDING,
+    IN_PROGRESS,
+    PROVISIONED,
+    FAILED
+}
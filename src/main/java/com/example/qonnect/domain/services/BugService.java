@@ -6,6 +6,7 @@ import com.example.qonnect.domain.exceptions.BugNotFoundException;
 import com.example.qonnect.domain.exceptions.QonnectException;
 import com.example.qonnect.domain.exceptions.TaskNotFoundException;
 import com.example.qonnect.domain.models.Bug;
+import com.example.qonnect.domain.models.KeysetCursor;
 import com.example.qonnect.domain.models.Project;
 import com.example.qonnect.domain.models.Task;
 import com.example.qonnect.domain.models.User;
@@ -17,6 +18,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
@@ -45,14 +47,7 @@ public class BugService implements BugUseCase {
         validateUserExists(user);
         validateBugId(id);
         validateTaskId(taskId);
-        Task task = taskOutputPort.getTaskById(taskId);
-        Project project = projectOutputPort.getProjectById(task.getProjectId());
-        validateUserBelongsToProjectOrganization(user, project);
-        Bug bug = bugOutputPort.getBugByIdAndTaskId(id, task.getId());
-
-        if (bug == null) {
-            throw new BugNotFoundException(ErrorMessages.BUG_NOT_FOUND, HttpStatus.NOT_FOUND);
-        }
+        Bug bug = getBugInUserOrganization(user, taskId, id);
 
         log.info("Successfully retrieved bug: {} for user: {}", bug.getId(), user.getId());
         return bug;
@@ -71,14 +66,7 @@ public class BugService implements BugUseCase {
         if (bug.getDescription() == null) {
             throw new QonnectException(ErrorMessages.BUG_SEVERITY_IS_REQUIRED, HttpStatus.BAD_REQUEST);
         }
-        Task task = taskOutputPort.getTaskById(taskId);
-
-        Project project = projectOutputPort.getProjectById(task.getProjectId());
-        validateUserBelongsToProjectOrganization(user, project);
-        Bug existingBug = bugOutputPort.getBugByIdAndTaskId(bug.getId(), taskId);
-        if (existingBug == null) {
-            throw new BugNotFoundException(ErrorMessages.BUG_NOT_FOUND, HttpStatus.NOT_FOUND);
-        }
+        Bug existingBug = getBugInUserOrganization(user, taskId, bug.getId());
 
 
         if (bug.getTitle() != null && !bug.getTitle().isEmpty()) {
@@ -111,16 +99,7 @@ public class BugService implements BugUseCase {
         }
 
 
-        Task task = taskOutputPort.getTaskById(taskId);
-
-        Project project = projectOutputPort.getProjectById(task.getProjectId());
-
-        validateUserBelongsToProjectOrganization(user, project);
-
-        Bug existingBug = bugOutputPort.getBugByIdAndTaskId(bug.getId(), taskId);
-        if (existingBug == null) {
-            throw new BugNotFoundException(ErrorMessages.BUG_NOT_FOUND, HttpStatus.NOT_FOUND);
-        }
+        Bug existingBug = getBugInUserOrganization(user, taskId, bug.getId());
 
         existingBug.setStatus(bug.getStatus());
         existingBug.setUpdatedAt(LocalDateTime.now());
@@ -146,16 +125,7 @@ public class BugService implements BugUseCase {
             throw new QonnectException(ErrorMessages.BUG_SEVERITY_IS_REQUIRED, HttpStatus.BAD_REQUEST);
         }
 
-        Task task = taskOutputPort.getTaskById(taskId);
-
-        Project project = projectOutputPort.getProjectById(task.getProjectId());
-
-        validateUserBelongsToProjectOrganization(user, project);
-
-        Bug existingBug = bugOutputPort.getBugByIdAndTaskId(bug.getId(), taskId);
-        if (existingBug == null) {
-            throw new BugNotFoundException(ErrorMessages.BUG_NOT_FOUND, HttpStatus.NOT_FOUND);
-        }
+        Bug existingBug = getBugInUserOrganization(user, taskId, bug.getId());
 
         existingBug.setSeverity(bug.getSeverity());
         existingBug.setUpdatedAt(LocalDateTime.now());
@@ -190,9 +160,7 @@ public class BugService implements BugUseCase {
 
         validateUserExists(user);
         validateTaskId(taskId);
-        Task task = taskOutputPort.getTaskById(taskId);
-        Project project = projectOutputPort.getProjectById(task.getProjectId());
-        validateUserBelongsToProjectOrganization(user, project);
+        validateTaskInUserOrganization(user, taskId);
         Page<Bug> bugs = bugOutputPort.getAllBugsByTaskId(taskId, pageable);
         log.info("Successfully retrieved {} bugs in task ID: {} for user: {}",
                 bugs.getTotalElements(), taskId, user.getId());
@@ -221,6 +189,69 @@ public class BugService implements BugUseCase {
         return bugOutputPort.getBugsByCreatedById(userId, pageable);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<Bug> getBugsInAProjectAfter(User user, Long projectId, KeysetCursor cursor, int size) {
+        validateUserExists(user);
+        GeneralValidator.validateProjectId(projectId);
+        Project project = projectOutputPort.getProjectById(projectId);
+        validateUserBelongsToProjectOrganization(user, project);
+        return bugOutputPort.getBugsByProjectIdAfter(projectId, cursorOrStart(cursor), size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<Bug> getBugsInATaskAfter(User user, Long taskId, KeysetCursor cursor, int size) {
+        validateUserExists(user);
+        validateTaskId(taskId);
+        validateTaskInUserOrganization(user, taskId);
+        return bugOutputPort.getBugsByTaskIdAfter(taskId, cursorOrStart(cursor), size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<Bug> getBugsByAssignedToIdAfter(Long userId, KeysetCursor cursor, int size) {
+        if (userId == null) {
+            throw new QonnectException(ErrorMessages.USER_NOT_FOUND, HttpStatus.BAD_REQUEST);
+        }
+        return bugOutputPort.getBugsByAssignedToIdAfter(userId, cursorOrStart(cursor), size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<Bug> getBugsByCreatedByIdAfter(Long userId, KeysetCursor cursor, int size) {
+        if (userId == null) {
+            throw new QonnectException(ErrorMessages.USER_NOT_FOUND, HttpStatus.BAD_REQUEST);
+        }
+        return bugOutputPort.getBugsByCreatedByIdAfter(userId, cursorOrStart(cursor), size);
+    }
+
+    private static KeysetCursor cursorOrStart(KeysetCursor cursor) {
+        return cursor == null ? KeysetCursor.START : cursor;
+    }
+
+    private Bug getBugInUserOrganization(User user, Long taskId, Long bugId) {
+        return bugOutputPort.findBugInOrganization(bugId, taskId, requireOrganizationId(user))
+                .orElseThrow(() -> explainOutOfScope(user, taskId));
+    }
+
+    private void validateTaskInUserOrganization(User user, Long taskId) {
+        if (!taskOutputPort.existsInOrganization(taskId, requireOrganizationId(user))) {
+            throw explainOutOfScope(user, taskId);
+        }
+    }
+
+    /**
+     * Runs only after a scoped lookup came back empty: repeats the step-by-step lookups so the caller
+     * still gets a missing task (404) or a foreign organization (403) rather than a bare bug 404.
+     */
+    private RuntimeException explainOutOfScope(User user, Long taskId) {
+        Task task = taskOutputPort.getTaskById(taskId);
+        Project project = projectOutputPort.getProjectById(task.getProjectId());
+        validateUserBelongsToProjectOrganization(user, project);
+        return new BugNotFoundException(ErrorMessages.BUG_NOT_FOUND, HttpStatus.NOT_FOUND);
+    }
+
 
     public Bug reportBug(User reporter, Bug bug) {
         Project project = projectOutputPort.getProjectById(bug.getProjectId());
@@ -247,11 +278,6 @@ public class BugService implements BugUseCase {
         validateInput(bug.getDescription());
         validateInput(bug.getDescription());
 
-        if (bugOutputPort.existsByTitleAndProjectId(bug.getTitle(), bug.getProjectId())) {
-            throw new IllegalArgumentException("Bug with this title already exists in the project");
-        }
-
-
         bug.setCreatedBy(reporter);
         bug.setStatus(BugStatus.OPEN);
 
@@ -0,0 +1,183 @@
+package com.example.qonnect.domain.services;
+
+import com.example.qonnect.application.output.EmailOutboxOutputPort;
+import com.example.qonnect.domain.models.OutboundEmail;
+import com.example.qonnect.domain.models.enums.EmailStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+public class EmailDeliveryService {
+
+    private final EmailOutboxOutputPort emailOutboxOutputPort;
+    private final EmailService emailService;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Timer deliveryLatency;
+    private final Counter sent;
+    private final Counter failures;
+    private final Counter deadLettered;
+
+    @Setter
+    @Value("${app.email.outbox.workers:2}")
+    private int workers;
+
+    @Setter
+    @Value("${app.email.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Setter
+    @Value("${app.email.outbox.max-attempts:6}")
+    private int maxAttempts;
+
+    @Setter
+    @Value("${app.email.outbox.initial-backoff-ms:5000}")
+    private long initialBackoffMs;
+
+    @Setter
+    @Value("${app.email.outbox.max-backoff-ms:600000}")
+    private long maxBackoffMs;
+
+    @Setter
+    @Value("${app.email.outbox.lease-ms:120000}")
+    private long leaseMs;
+
+    @Setter
+    @Value("${app.email.outbox.retention-ms:86400000}")
+    private long retentionMs;
+
+    private ExecutorService executor;
+
+    public EmailDeliveryService(EmailOutboxOutputPort emailOutboxOutputPort, EmailService emailService, MeterRegistry meterRegistry) {
+        this.emailOutboxOutputPort = emailOutboxOutputPort;
+        this.emailService = emailService;
+        this.deliveryLatency = Timer.builder("email.delivery.latency")
+                .description("Time from enqueue to successful SMTP delivery")
+                .register(meterRegistry);
+        this.sent = meterRegistry.counter("email.delivery.sent");
+        this.failures = meterRegistry.counter("email.delivery.failures");
+        this.deadLettered = meterRegistry.counter("email.delivery.dead");
+        Gauge.builder("email.outbox.pending", pending, AtomicLong::get)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        executor = Executors.newFixedThreadPool(workers);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Hands the claimed batches to the workers and returns, so a slow SMTP server never holds the
+     * scheduler thread the other scheduled tasks share. Nothing new is claimed until every batch is done,
+     * which keeps claimed emails from sitting in the queue past their lease.
+     */
+    @Scheduled(fixedDelayString = "${app.email.outbox.poll-interval-ms:1000}")
+    public void drain() {
+        if (inFlight.get() > 0) {
+            return;
+        }
+        List<OutboundEmail> due = emailOutboxOutputPort.claimDue(batchSize * workers, Duration.ofMillis(leaseMs));
+        if (due.isEmpty()) {
+            pending.set(emailOutboxOutputPort.countPending());
+            return;
+        }
+        log.info("Delivering {} queued emails", due.size());
+        int batches = (due.size() + batchSize - 1) / batchSize;
+        inFlight.addAndGet(batches);
+        for (int i = 0; i < batches; i++) {
+            List<OutboundEmail> batch = due.subList(i * batchSize, Math.min(due.size(), (i + 1) * batchSize));
+            executor.execute(() -> {
+                try {
+                    deliver(batch);
+                } finally {
+                    if (inFlight.decrementAndGet() == 0) {
+                        pending.set(emailOutboxOutputPort.countPending());
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Delivered and dead-lettered rows still hold OTPs and invite links in plain text, so they only
+     * stay around long enough to debug a delivery.
+     */
+    @Scheduled(fixedDelayString = "${app.email.outbox.purge-interval-ms:3600000}")
+    public void purge() {
+        int purged = emailOutboxOutputPort.purgeFinishedBefore(LocalDateTime.now().minus(Duration.ofMillis(retentionMs)));
+        if (purged > 0) {
+            log.info("Purged {} finished emails from the outbox", purged);
+        }
+    }
+
+    public void deliver(List<OutboundEmail> batch) {
+        Map<Long, String> failed = emailService.sendBatch(batch);
+        LocalDateTime now = LocalDateTime.now();
+        for (OutboundEmail email : batch) {
+            String error = failed.get(email.getId());
+            if (error == null) {
+                markSent(email, now);
+            } else {
+                markFailedAttempt(email, error, now);
+            }
+        }
+        emailOutboxOutputPort.saveAll(batch);
+    }
+
+    private void markSent(OutboundEmail email, LocalDateTime now) {
+        email.setStatus(EmailStatus.SENT);
+        email.setAttempts(email.getAttempts() + 1);
+        email.setSentAt(now);
+        email.setLastError(null);
+        sent.increment();
+        if (email.getCreatedAt() != null) {
+            deliveryLatency.record(Duration.between(email.getCreatedAt(), now));
+        }
+    }
+
+    private void markFailedAttempt(OutboundEmail email, String error, LocalDateTime now) {
+        int attempts = email.getAttempts() + 1;
+        email.setAttempts(attempts);
+        email.setLastError(error);
+        failures.increment();
+        if (attempts >= maxAttempts) {
+            email.setStatus(EmailStatus.DEAD);
+            deadLettered.increment();
+            log.error("Giving up on email {} to {} after {} attempts: {}", email.getId(), email.getRecipient(), attempts, error);
+        } else {
+            email.setStatus(EmailStatus.PENDING);
+            email.setNextAttemptAt(now.plus(backoff(attempts)));
+            log.warn("Email {} to {} failed (attempt {}), retrying at {}: {}",
+                    email.getId(), email.getRecipient(), attempts, email.getNextAttemptAt(), error);
+        }
+    }
+
+    Duration backoff(int attempts) {
+        long delay = initialBackoffMs << Math.min(attempts - 1, 30);
+        return Duration.ofMillis(Math.min(delay, maxBackoffMs));
+    }
+}
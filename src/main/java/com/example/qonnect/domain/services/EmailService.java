@@ -1,30 +1,56 @@
 package com.example.qonnect.domain.services;
 
-import com.example.qonnect.application.output.EmailOutputPort;
-import lombok.Getter;
+import com.example.qonnect.domain.models.OutboundEmail;
 import lombok.RequiredArgsConstructor;
-import lombok.Setter;
-import org.springframework.beans.factory.annotation.Autowired;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
 @Service
-@Setter
-@Getter
 @RequiredArgsConstructor
-public class EmailService implements EmailOutputPort {
-
+public class EmailService {
 
     private final JavaMailSender mailSender;
 
+    /**
+     * Sends the batch over a single SMTP connection and returns the failures keyed by outbox id.
+     */
+    public Map<Long, String> sendBatch(List<OutboundEmail> emails) {
+        Map<SimpleMailMessage, OutboundEmail> messages = new IdentityHashMap<>();
+        for (OutboundEmail email : emails) {
+            SimpleMailMessage message = new SimpleMailMessage();
+            message.setTo(email.getRecipient());
+            message.setSubject(email.getSubject());
+            message.setText(email.getBody());
+            messages.put(message, email);
+        }
 
-    public void sendEmail(String to, String subject, String body) {
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setTo(to);
-        message.setSubject(subject);
-        message.setText(body);
-
-        mailSender.send(message);
+        Map<Long, String> failures = new HashMap<>();
+        try {
+            mailSender.send(messages.keySet().toArray(SimpleMailMessage[]::new));
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                emails.forEach(email -> failures.put(email.getId(), e.getMessage()));
+            }
+            e.getFailedMessages().forEach((message, cause) -> {
+                OutboundEmail email = messages.get(message);
+                if (email != null) {
+                    failures.put(email.getId(), cause.getMessage());
+                }
+            });
+        } catch (MailException e) {
+            log.warn("SMTP batch of {} failed: {}", emails.size(), e.getMessage());
+            emails.forEach(email -> failures.put(email.getId(), e.getMessage()));
+        }
+        return failures;
     }
 }
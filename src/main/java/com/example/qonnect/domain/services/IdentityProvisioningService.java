@@ -0,0 +1,164 @@
+package com.example.qonnect.domain.services;
+
+import com.example.qonnect.application.output.IdentityManagementOutputPort;
+import com.example.qonnect.application.output.IdentityProvisioningOutputPort;
+import com.example.qonnect.domain.exceptions.UserAlreadyExistException;
+import com.example.qonnect.domain.models.IdentityProvisioning;
+import com.example.qonnect.domain.models.User;
+import com.example.qonnect.domain.models.enums.ProvisioningStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IdentityProvisioningService {
+
+    private final IdentityProvisioningOutputPort identityProvisioningOutputPort;
+    private final IdentityManagementOutputPort identityManagementOutputPort;
+
+    @Setter
+    @Value("${app.identity.provisioning.workers:4}")
+    private int workers;
+
+    @Setter
+    @Value("${app.identity.provisioning.batch-size:20}")
+    private int batchSize;
+
+    @Setter
+    @Value("${app.identity.provisioning.max-attempts:8}")
+    private int maxAttempts;
+
+    @Setter
+    @Value("${app.identity.provisioning.initial-backoff-ms:1000}")
+    private long initialBackoffMs;
+
+    @Setter
+    @Value("${app.identity.provisioning.max-backoff-ms:300000}")
+    private long maxBackoffMs;
+
+    @Setter
+    @Value("${app.identity.provisioning.lease-ms:60000}")
+    private long leaseMs;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void init() {
+        executor = Executors.newFixedThreadPool(workers);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Hands the claimed batch to the workers and returns, so a slow identity server never holds the
+     * scheduler thread the other scheduled tasks share. Nothing new is claimed until the batch is done,
+     * which keeps claimed rows from sitting in the queue past their lease.
+     */
+    @Scheduled(fixedDelayString = "${app.identity.provisioning.poll-interval-ms:1000}")
+    public void drain() {
+        if (inFlight.get() > 0) {
+            return;
+        }
+        List<IdentityProvisioning> due = identityProvisioningOutputPort.claimDue(batchSize, Duration.ofMillis(leaseMs));
+        if (due.isEmpty()) {
+            return;
+        }
+        log.info("Provisioning {} identities", due.size());
+        inFlight.addAndGet(due.size());
+        for (IdentityProvisioning provisioning : due) {
+            executor.execute(() -> {
+                try {
+                    provision(provisioning);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    public void provision(IdentityProvisioning provisioning) {
+        User user = User.builder()
+                .email(provisioning.getEmail())
+                .firstName(provisioning.getFirstName())
+                .lastName(provisioning.getLastName())
+                .password(provisioning.getPassword())
+                .role(provisioning.getRole())
+                .build();
+        try {
+            User created = identityManagementOutputPort.createUser(user);
+            markProvisioned(provisioning, created.getKeycloakId());
+        } catch (UserAlreadyExistException e) {
+            provisionExisting(provisioning, user);
+        } catch (Exception e) {
+            markFailedAttempt(provisioning, e);
+        }
+    }
+
+    /**
+     * A conflict usually means an earlier attempt created the identity and then failed to assign its role,
+     * so finish that attempt instead of assuming it completed.
+     */
+    private void provisionExisting(IdentityProvisioning provisioning, User user) {
+        log.info("Identity for {} already exists, assigning its role", provisioning.getEmail());
+        try {
+            User existing = identityManagementOutputPort.assignRole(user);
+            markProvisioned(provisioning, existing.getKeycloakId());
+        } catch (Exception e) {
+            markFailedAttempt(provisioning, e);
+        }
+    }
+
+    /**
+     * The stored hash is the identity's password, so it is dropped once the row can no longer be retried;
+     * a later enqueue supplies it again.
+     */
+    private void markProvisioned(IdentityProvisioning provisioning, String keycloakId) {
+        provisioning.setStatus(ProvisioningStatus.PROVISIONED);
+        provisioning.setKeycloakId(keycloakId);
+        provisioning.setPassword(null);
+        provisioning.setAttempts(provisioning.getAttempts() + 1);
+        provisioning.setLastError(null);
+        identityProvisioningOutputPort.saveProvisioning(provisioning);
+        log.info("Provisioned identity for {}", provisioning.getEmail());
+    }
+
+    private void markFailedAttempt(IdentityProvisioning provisioning, Exception e) {
+        int attempts = provisioning.getAttempts() + 1;
+        provisioning.setAttempts(attempts);
+        provisioning.setLastError(e.getMessage());
+        if (attempts >= maxAttempts) {
+            provisioning.setStatus(ProvisioningStatus.FAILED);
+            provisioning.setPassword(null);
+            log.error("Giving up provisioning identity for {} after {} attempts: {}", provisioning.getEmail(), attempts, e.getMessage());
+        } else {
+            provisioning.setStatus(ProvisioningStatus.PENDING);
+            provisioning.setNextAttemptAt(LocalDateTime.now().plus(backoff(attempts)));
+            log.warn("Provisioning identity for {} failed (attempt {}), retrying at {}: {}",
+                    provisioning.getEmail(), attempts, provisioning.getNextAttemptAt(), e.getMessage());
+        }
+        identityProvisioningOutputPort.saveProvisioning(provisioning);
+    }
+
+    Duration backoff(int attempts) {
+        long delay = initialBackoffMs << Math.min(attempts - 1, 30);
+        return Duration.ofMillis(Math.min(delay, maxBackoffMs));
+    }
+}
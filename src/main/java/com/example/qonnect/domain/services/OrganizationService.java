@@ -1,20 +1,26 @@
 package com.example.qonnect.domain.services;
 
+import com.example.qonnect.application.input.BulkInviteUserUseCase;
 import com.example.qonnect.application.input.InviteUserUseCase;
 import com.example.qonnect.application.input.RegisterOrganizationAdminUseCase;
 import com.example.qonnect.application.input.RemoveUserFromAnOrganizationUseCase;
 import com.example.qonnect.application.input.ViewUserUserCase;
 import com.example.qonnect.application.output.*;
-import com.example.qonnect.domain.exceptions.OrganizationAlreadyExistsException;
 import com.example.qonnect.domain.exceptions.UserAlreadyExistException;
 import com.example.qonnect.domain.exceptions.UserNotFoundException;
+import com.example.qonnect.domain.models.Invitation;
 import com.example.qonnect.domain.models.Organization;
+import com.example.qonnect.domain.models.OutboundEmail;
+import com.example.qonnect.domain.models.enums.InvitationStatus;
 import com.example.qonnect.domain.models.enums.OtpType;
 import com.example.qonnect.domain.models.enums.Role;
 import com.example.qonnect.domain.models.User;
 import com.example.qonnect.domain.template.EmailTemplate;
+import com.example.qonnect.infrastructure.adapters.config.security.RevocationEpochService;
 import com.example.qonnect.infrastructure.adapters.input.rest.messages.ErrorMessages;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -22,30 +28,43 @@ import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
-import java.util.UUID;
+import java.util.*;
 
 import static com.example.qonnect.domain.validators.GeneralValidator.validateUserExists;
 import static com.example.qonnect.domain.validators.GeneralValidator.validateUserIsAdmin;
 import static com.example.qonnect.domain.validators.InputValidator.*;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
-public class OrganizationService implements RegisterOrganizationAdminUseCase, InviteUserUseCase, RemoveUserFromAnOrganizationUseCase, ViewUserUserCase {
+public class OrganizationService implements RegisterOrganizationAdminUseCase, InviteUserUseCase, BulkInviteUserUseCase, RemoveUserFromAnOrganizationUseCase, ViewUserUserCase {
 
     private final UserOutputPort userOutputPort;
     private final OrganizationOutputPort organizationOutputPort;
-    private final IdentityManagementOutputPort identityManagementOutputPort;
     private final PasswordEncoder passwordEncoder;
     private final OtpService otpService;
     private final EmailOutputPort emailOutputPort;
+    private final RevocationEpochService revocationEpochService;
+    private final IdentityProvisioningOutputPort identityProvisioningOutputPort;
 
 
     @Value("${base-url}")
     private String baseUrl;
 
+    @Setter
+    @Value("${app.invite.bulk.max-rows:5000}")
+    private int bulkInviteMaxRows;
+
+    @Setter
+    @Value("${app.invite.bulk.chunk-size:500}")
+    private int bulkInviteChunkSize;
+
     @Override
+    @Transactional
     public User registerOrganizationAdmin(User user, Organization organization) {
 
         validateName(user.getFirstName(), "first name");
@@ -54,27 +73,18 @@ public class OrganizationService implements RegisterOrganizationAdminUseCase, In
         validatePassword(user.getPassword());
         validateName(organization.getName(), "organization name");
 
-        if (userOutputPort.userExistsByEmail(user.getEmail())) {
-            throw new UserAlreadyExistException(ErrorMessages.USER_EXISTS_ALREADY, HttpStatus.CONFLICT);
-        }
-
-        if (organizationOutputPort.existsByName(organization.getName())) {
-            throw new OrganizationAlreadyExistsException(ErrorMessages.ORGANIZATION_ALREADY_EXISTS, HttpStatus.CONFLICT);
-        }
-
-
         user.setRole(Role.ADMIN);
         user.setPassword(passwordEncoder.encode(user.getPassword()));
         user.setEnabled(false);
 
 
-        user = identityManagementOutputPort.createUser(user);
         Organization savedOrg = organizationOutputPort.saveOrganization(organization);
 
         user.setOrganization(savedOrg);
 
 
         user = userOutputPort.saveUser(user);
+        identityProvisioningOutputPort.enqueue(user);
         otpService.createOtp(user.getFirstName(),user.getEmail(), OtpType.VERIFICATION);
         return user;
     }
@@ -111,11 +121,98 @@ public class OrganizationService implements RegisterOrganizationAdminUseCase, In
     }
 
 
+    @Override
+    @Transactional
+    public List<Invitation> inviteUsers(User inviter, List<Invitation> invitations) {
+        User foundUser = userOutputPort.getUserByEmail(inviter.getEmail());
+        if (foundUser.getRole() != Role.ADMIN) {
+            throw new AccessDeniedException(ErrorMessages.ACCESS_DENIED);
+        }
+        if (invitations == null || invitations.isEmpty()) {
+            throw new IllegalArgumentException(ErrorMessages.EMPTY_INVITE_LIST);
+        }
+        if (invitations.size() > bulkInviteMaxRows) {
+            throw new IllegalArgumentException(ErrorMessages.bulkInviteTooLarge(bulkInviteMaxRows));
+        }
+
+        Map<String, Invitation> accepted = new LinkedHashMap<>();
+        for (Invitation invitation : invitations) {
+            try {
+                validateEmail(invitation.getEmail());
+                validateRole(invitation.getRole());
+                toRole(invitation.getRole());
+            } catch (IllegalArgumentException e) {
+                reject(invitation, InvitationStatus.INVALID, e.getMessage());
+                continue;
+            }
+            if (accepted.putIfAbsent(invitation.getEmail().toLowerCase(Locale.ROOT), invitation) != null) {
+                reject(invitation, InvitationStatus.DUPLICATE, ErrorMessages.DUPLICATE_INVITE);
+            }
+        }
+
+        List<Invitation> pending = new ArrayList<>(accepted.values());
+        for (int from = 0; from < pending.size(); from += bulkInviteChunkSize) {
+            inviteChunk(foundUser, pending.subList(from, Math.min(pending.size(), from + bulkInviteChunkSize)));
+        }
+        log.info("Bulk invite by {}: {} rows, {} invited", foundUser.getEmail(), invitations.size(),
+                invitations.stream().filter(invitation -> invitation.getStatus() == InvitationStatus.INVITED).count());
+        return invitations;
+    }
+
+    private void inviteChunk(User inviter, List<Invitation> chunk) {
+        Set<String> existing = userOutputPort.findExistingEmails(chunk.stream().map(Invitation::getEmail).toList());
+        LocalDateTime expiry = LocalDateTime.now().plusDays(7);
+
+        List<User> invitees = new ArrayList<>();
+        List<OutboundEmail> emails = new ArrayList<>();
+        for (Invitation invitation : chunk) {
+            if (existing.contains(invitation.getEmail().toLowerCase(Locale.ROOT))) {
+                reject(invitation, InvitationStatus.ALREADY_EXISTS, ErrorMessages.USER_EXISTS_ALREADY);
+                continue;
+            }
+            String token = generateInviteToken();
+            invitees.add(User.builder()
+                    .email(invitation.getEmail())
+                    .role(toRole(invitation.getRole()))
+                    .organization(inviter.getOrganization())
+                    .inviteToken(token)
+                    .tokenExpiresAt(expiry)
+                    .invited(true)
+                    .enabled(false)
+                    .build());
+            emails.add(buildInviteMail(invitation.getEmail(), token, inviter));
+            invitation.setStatus(InvitationStatus.INVITED);
+        }
+
+        if (!invitees.isEmpty()) {
+            userOutputPort.saveInvitees(invitees);
+            emailOutputPort.sendEmails(emails);
+        }
+    }
+
+    private static Role toRole(String role) {
+        try {
+            return Role.valueOf(role.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(ErrorMessages.INVALID_ROLE);
+        }
+    }
+
+    private static void reject(Invitation invitation, InvitationStatus status, String message) {
+        invitation.setStatus(status);
+        invitation.setMessage(message);
+    }
+
     private String generateInviteToken() {
         return UUID.randomUUID().toString();
     }
 
     private void sendInviteMail(String inviteeEmail, String token, User inviter) {
+        OutboundEmail email = buildInviteMail(inviteeEmail, token, inviter);
+        emailOutputPort.sendEmail(email.getRecipient(), email.getSubject(), email.getBody());
+    }
+
+    private OutboundEmail buildInviteMail(String inviteeEmail, String token, User inviter) {
         String orgName = inviter.getOrganization().getName();
         String inviteLink = baseUrl + "/accept-invite?token=" + token;
 
@@ -126,7 +223,11 @@ public class OrganizationService implements RegisterOrganizationAdminUseCase, In
                 inviteLink
         );
 
-        emailOutputPort.sendEmail(inviteeEmail, subject, body);
+        return OutboundEmail.builder()
+                .recipient(inviteeEmail)
+                .subject(subject)
+                .body(body)
+                .build();
     }
 
 
@@ -142,6 +243,7 @@ public class OrganizationService implements RegisterOrganizationAdminUseCase, In
         User userToBeRemoved = userOutputPort.getUserById(userToBeRemovedId);
             if(organization.getUsers().stream().map(User::getId).anyMatch(user.getId()::equals) && organization.getUsers().stream().map(User::getId).anyMatch(userToBeRemoved.getId()::equals )){
                 organizationOutputPort.removeUserFromOrganization(userToBeRemoved, organization);
+                revocationEpochService.revokeTokensIssuedBefore(userToBeRemoved.getEmail(), Instant.now());
             }
     }
 
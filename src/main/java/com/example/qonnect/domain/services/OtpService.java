@@ -77,7 +77,7 @@ public class OtpService implements CreateOtpUseCase, ValidateOtpUseCase, ResendO
         validateInput(email);
         validateInput(otpInput);
 
-        Otp otp = otpOutputPort.findByEmailAndOtp(email, otpInput);
+        Otp otp = otpOutputPort.consumeOtp(email, otpInput);
 
         if (otp.isUsed()) {
             throw new OtpException(ErrorMessages.OTP_ALREADY_USED, HttpStatus.BAD_REQUEST);
@@ -86,9 +86,6 @@ public class OtpService implements CreateOtpUseCase, ValidateOtpUseCase, ResendO
         if (otp.getExpiryTime().isBefore(LocalDateTime.now())) {
             throw new OtpException(ErrorMessages.OTP_ALREADY_EXPIRED, HttpStatus.BAD_REQUEST);
         }
-
-        otp.setUsed(true);
-        otpOutputPort.saveOtp(otp);
     }
 
     private String generateOtp() {
@@ -5,7 +5,6 @@ import com.example.qonnect.application.input.ProjectUseCase;
 import com.example.qonnect.application.output.ProjectOutputPort;
 import com.example.qonnect.application.output.UserOutputPort;
 import com.example.qonnect.domain.exceptions.OrganizationNotFoundException;
-import com.example.qonnect.domain.exceptions.ProjectAlreadyExistException;
 import com.example.qonnect.domain.exceptions.ProjectNotFoundException;
 import com.example.qonnect.domain.exceptions.ProjectException;
 import com.example.qonnect.domain.exceptions.UserNotFoundException;
@@ -23,7 +22,7 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 
 import static com.example.qonnect.domain.validators.GeneralValidator.validateUserExists;
@@ -48,10 +47,6 @@ public class ProjectService implements ProjectUseCase, AssignUserToProjectUseCas
         validateName(project.getName(), "project name");
         validateName(project.getDescription(), "project description");
 
-        if (projectOutputPort.existsByNameAndOrganizationId(project.getName(), user.getOrganization().getId())) {
-            throw new ProjectAlreadyExistException(ErrorMessages.PROJECT_EXIST_ALREADY, HttpStatus.CONFLICT);
-        }
-
         project.setCreatedById(user.getId());
         log.info("Here is the user organization id before setting  " + project.getOrganizationId() + user.getOrganization().getName());
 
@@ -100,16 +95,9 @@ public class ProjectService implements ProjectUseCase, AssignUserToProjectUseCas
             throw new IllegalArgumentException("User and project do not belong to the same organization");
         }
 
-        if (project.getTeamMembers() == null) {
-            project.setTeamMembers(new ArrayList<>());
-        }
-
-        if (project.getTeamMembers().contains(userToAssign)) {
+        if (!projectOutputPort.addMember(project.getId(), userToAssign.getId())) {
             throw new ProjectException(ErrorMessages.USER_ALREADY_ASSIGNED_TO_PROJECT, HttpStatus.CONFLICT);
         }
-
-        project.getTeamMembers().add(userToAssign);
-        projectOutputPort.saveProject(project);
     }
 
 
@@ -129,13 +117,6 @@ public class ProjectService implements ProjectUseCase, AssignUserToProjectUseCas
         validateName(updatedProject.getName(), "project name");
         validateName(updatedProject.getDescription(), "project description");
 
-        if (projectOutputPort.existsByNameAndOrganizationIdAndNotId(
-                updatedProject.getName(),
-                user.getOrganization().getId(),
-                projectId)) {
-            throw new ProjectAlreadyExistException(ErrorMessages.PROJECT_EXIST_ALREADY, HttpStatus.CONFLICT);
-        }
-
         existingProject.setName(updatedProject.getName());
         existingProject.setDescription(updatedProject.getDescription());
         existingProject.setUpdatedAt(LocalDateTime.now());
@@ -164,9 +145,9 @@ public class ProjectService implements ProjectUseCase, AssignUserToProjectUseCas
     }
 
     @Override
-    public List<User> getAllUsersInAProject(User user, Long projectId) {
+    public Page<User> getAllUsersInAProject(User user, Long projectId, Pageable pageable) {
         Project project = getProjectById(user,projectId);
-        return project.getTeamMembers();
+        return projectOutputPort.getMembers(project.getId(), pageable);
     }
 
     @Override
@@ -180,11 +161,25 @@ public class ProjectService implements ProjectUseCase, AssignUserToProjectUseCas
 
         Project project = projectOutputPort.getProjectById(projectId);
         User userToBeRemoved = userOutputPort.getUserById(userToBeRemoveId);
-        if(project.getTeamMembers().stream().map(User::getId).anyMatch(user.getId()::equals) && project.getTeamMembers().stream().map(User::getId).anyMatch(userToBeRemoved.getId()::equals )){
-            projectOutputPort.removeUserFromProject(userToBeRemoved,project);
+        if (projectOutputPort.isMember(project.getId(), user.getId())) {
+            projectOutputPort.removeMember(project.getId(), userToBeRemoved.getId());
         }
     }
 
+    @Override
+    public int addUsersToProject(User user, Long projectId, List<Long> userIds) {
+        validateUserIsAdmin(user);
+        Project project = getProjectById(user, projectId);
+        return projectOutputPort.addMembers(project.getId(), new LinkedHashSet<>(userIds));
+    }
+
+    @Override
+    public int removeUsersFromProject(User user, Long projectId, List<Long> userIds) {
+        validateUserIsAdmin(user);
+        Project project = getProjectById(user, projectId);
+        return projectOutputPort.removeMembers(project.getId(), new LinkedHashSet<>(userIds));
+    }
+
     private void validateUserExists(User user) {
         if (user == null || user.getId() == null) {
             throw new UserNotFoundException(ErrorMessages.USER_NOT_FOUND, HttpStatus.NOT_FOUND);
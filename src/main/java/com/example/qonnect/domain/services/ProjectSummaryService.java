@@ -0,0 +1,52 @@
+package com.example.qonnect.domain.services;
+
+import com.example.qonnect.application.input.ProjectSummaryUseCase;
+import com.example.qonnect.application.output.ProjectCounterOutputPort;
+import com.example.qonnect.application.output.ProjectOutputPort;
+import com.example.qonnect.domain.models.Project;
+import com.example.qonnect.domain.models.ProjectSummary;
+import com.example.qonnect.domain.models.User;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import static com.example.qonnect.domain.validators.GeneralValidator.*;
+
+@Slf4j
+@Service
+public class ProjectSummaryService implements ProjectSummaryUseCase {
+
+    private final ProjectOutputPort projectOutputPort;
+    private final ProjectCounterOutputPort projectCounterOutputPort;
+    private final Counter drift;
+
+    public ProjectSummaryService(ProjectOutputPort projectOutputPort,
+                                 ProjectCounterOutputPort projectCounterOutputPort,
+                                 MeterRegistry meterRegistry) {
+        this.projectOutputPort = projectOutputPort;
+        this.projectCounterOutputPort = projectCounterOutputPort;
+        this.drift = meterRegistry.counter("project.counters.drift");
+    }
+
+    @Override
+    public ProjectSummary getProjectSummary(User user, Long projectId) {
+        validateUserExists(user);
+        validateProjectId(projectId);
+        Project project = projectOutputPort.getProjectById(projectId);
+        validateUserBelongsToProjectOrganization(user, project);
+        return projectCounterOutputPort.getProjectSummary(projectId);
+    }
+
+    @Scheduled(fixedDelayString = "${app.counters.reconcile-interval-ms:900000}",
+            initialDelayString = "${app.counters.reconcile-interval-ms:900000}")
+    public void reconcile() {
+        try {
+            int drifted = projectCounterOutputPort.reconcileCounters();
+            drift.increment(drifted);
+        } catch (RuntimeException e) {
+            log.error("Project counter reconciliation failed: {}", e.getMessage());
+        }
+    }
+}
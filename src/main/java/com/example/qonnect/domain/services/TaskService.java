@@ -6,11 +6,12 @@ import com.example.qonnect.application.output.TaskOutputPort;
 import com.example.qonnect.application.output.UserOutputPort;
 import com.example.qonnect.domain.exceptions.QonnectException;
 import com.example.qonnect.domain.exceptions.TaskAlreadyAssignedException;
-import com.example.qonnect.domain.exceptions.TaskAlreadyExistException;
 import com.example.qonnect.domain.exceptions.TaskNotFoundException;
 import com.example.qonnect.domain.models.Bug;
+import com.example.qonnect.domain.models.KeysetCursor;
 import com.example.qonnect.domain.models.Project;
 import com.example.qonnect.domain.models.Task;
+import com.example.qonnect.domain.models.TaskFilter;
 import com.example.qonnect.domain.models.User;
 import com.example.qonnect.domain.models.enums.Role;
 import com.example.qonnect.domain.models.enums.TaskStatus;
@@ -19,13 +20,13 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 import static com.example.qonnect.domain.validators.GeneralValidator.validateUserBelongsOrganization;
 import static com.example.qonnect.domain.validators.GeneralValidator.validateUserIsAdmin;
@@ -52,10 +53,6 @@ public class TaskService implements CreateTaskUseCase, DeleteTaskUseCase, Update
         Project project = projectOutputPort.getProjectById(task.getProjectId());
         validateUserBelongsOrganization(user,project.getOrganizationId());
 
-        if (taskOutputPort.existsByTitleAndProjectId(task.getTitle(), project.getId())) {
-            throw new TaskAlreadyExistException(ErrorMessages.TASK_ALREADY_EXISTS, HttpStatus.CONFLICT);
-        }
-
         task.setProjectId(project.getId());
 
         task.setStatus(TaskStatus.PENDING);
@@ -109,18 +106,20 @@ public class TaskService implements CreateTaskUseCase, DeleteTaskUseCase, Update
     }
 
     @Override
-    public List<Task> getAllTasksInProject(User user, Long projectId) {
+    public Page<Task> getAllTasksInProject(User user, Long projectId, TaskFilter filter, boolean includeBugCount, Pageable pageable) {
+        if (filter.getDueFrom() != null && filter.getDueTo() != null && filter.getDueFrom().isAfter(filter.getDueTo())) {
+            throw new IllegalArgumentException(ErrorMessages.DUE_DATE_RANGE_INVALID);
+        }
         Project project = projectOutputPort.getProjectById(projectId);
         validateUserBelongsOrganization(user,project.getOrganizationId());
-        return taskOutputPort.getAllTasksByProjectId(projectId);
+        return taskOutputPort.getTasksByProjectId(projectId, filter, includeBugCount, pageable);
     }
 
     @Override
     public Task viewTaskInProject(User user, Long projectId, Long taskId) {
         Project project = projectOutputPort.getProjectById(projectId);
         validateUserBelongsOrganization(user,project.getOrganizationId());
-        boolean isMember = project.getTeamMembers().stream()
-                .anyMatch(member -> member.getId().equals(user.getId())) || user.getRole().equals(Role.ADMIN);
+        boolean isMember = user.getRole().equals(Role.ADMIN) || projectOutputPort.isMember(projectId, user.getId());
 
 
         if (!isMember) {
@@ -198,4 +197,13 @@ public class TaskService implements CreateTaskUseCase, DeleteTaskUseCase, Update
         return tasks;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<Task> getTasksByUserIdAfter(Long userId, KeysetCursor cursor, int size) {
+        if (userId == null) {
+            throw new QonnectException(ErrorMessages.USER_NOT_FOUND, HttpStatus.BAD_REQUEST);
+        }
+        return taskOutputPort.getTasksByUserIdAfter(userId, cursor == null ? KeysetCursor.START : cursor, size);
+    }
+
 }
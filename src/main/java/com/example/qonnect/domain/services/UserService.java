@@ -2,6 +2,7 @@ package com.example.qonnect.domain.services;
 
 import com.example.qonnect.application.input.*;
 import com.example.qonnect.application.output.IdentityManagementOutputPort;
+import com.example.qonnect.application.output.IdentityProvisioningOutputPort;
 import com.example.qonnect.application.output.UserOutputPort;
 import com.example.qonnect.domain.exceptions.AuthenticationException;
 import com.example.qonnect.domain.exceptions.IdentityManagementException;
@@ -9,16 +10,20 @@ import com.example.qonnect.domain.exceptions.UserAlreadyExistException;
 import com.example.qonnect.domain.exceptions.UserNotFoundException;
 import com.example.qonnect.domain.models.enums.OtpType;
 import com.example.qonnect.domain.models.User;
+import com.example.qonnect.infrastructure.adapters.config.security.RevocationEpochService;
 import com.example.qonnect.infrastructure.adapters.config.security.TokenBlacklistService;
 import com.example.qonnect.infrastructure.adapters.input.rest.messages.ErrorMessages;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.http.auth.InvalidCredentialsException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -37,26 +42,30 @@ public class UserService implements SignUpUseCase, VerifyOtpUseCase, ResetPasswo
     private final OtpService otpService;
     private final JwtDecoder jwtDecoder;
     private final TokenBlacklistService tokenBlacklistService;
+    private final RevocationEpochService revocationEpochService;
+    private final IdentityProvisioningOutputPort identityProvisioningOutputPort;
+
+    @Setter
+    @Value("${app.security.revocation.mode:jti}")
+    private String revocationMode = "jti";
 
 
 
 
     @Override
+    @Transactional
     public User signUp(User user) throws UserAlreadyExistException, IdentityManagementException {
         validateUserDetails(user);
-        if (userOutputPort.userExistsByEmail(user.getEmail())) {
-            throw new UserAlreadyExistException(ErrorMessages.USER_EXISTS_ALREADY, HttpStatus.CONFLICT);
-        }
 
         String encodedPassword = passwordEncoder.encode(user.getPassword());
         user.setPassword(encodedPassword);
-        user = identityManagementOutputPort.createUser(user);
-        log.info("Created new user in identity manager: {}", user);
-
         user.setEnabled(false);
         user = userOutputPort.saveUser(user);
         log.info("User saved to database: email={}, id={}", user.getEmail(), user.getId());
 
+        identityProvisioningOutputPort.enqueue(user);
+        log.info("Queued identity provisioning for: {}", user.getEmail());
+
         otpService.createOtp(user.getFirstName(), user.getEmail(), OtpType.VERIFICATION);
         log.info("Sent OTP to user: {}", user.getEmail());
 
@@ -100,6 +109,10 @@ public class UserService implements SignUpUseCase, VerifyOtpUseCase, ResetPasswo
             throw new IllegalStateException(ErrorMessages.USER_NOT_ENABLED);
         }
 
+        if (passwordEncoder.upgradeEncoding(foundUser.getPassword())) {
+            foundUser = upgradePasswordHash(foundUser, user.getPassword());
+        }
+
         log.info("found user enabled {}", foundUser);
 
         identityManagementOutputPort.login(foundUser);
@@ -109,6 +122,31 @@ public class UserService implements SignUpUseCase, VerifyOtpUseCase, ResetPasswo
     }
 
 
+    /**
+     * Best effort: the credentials are already verified, so a failed upgrade keeps the current hash and is
+     * retried on the next login instead of failing this one.
+     */
+    private User upgradePasswordHash(User foundUser, String rawPassword) {
+        String currentHash = foundUser.getPassword();
+        foundUser.setPassword(passwordEncoder.encode(rawPassword));
+        try {
+            identityManagementOutputPort.resetPassword(foundUser);
+        } catch (Exception e) {
+            log.warn("Could not upgrade password hash for {}, keeping the current one: {}", foundUser.getEmail(), e.getMessage());
+            foundUser.setPassword(currentHash);
+            return foundUser;
+        }
+        try {
+            User saved = userOutputPort.saveUser(foundUser);
+            log.info("Upgraded password hash for {}", saved.getEmail());
+            return saved;
+        } catch (Exception e) {
+            // The identity provider already holds the new hash, which this login goes on to use.
+            log.warn("Could not store upgraded password hash for {}: {}", foundUser.getEmail(), e.getMessage());
+            return foundUser;
+        }
+    }
+
     @Override
     public void initiateReset(String email) {
         validateEmail(email);
@@ -135,6 +173,7 @@ public class UserService implements SignUpUseCase, VerifyOtpUseCase, ResetPasswo
 
         identityManagementOutputPort.resetPassword(user);
         userOutputPort.saveUser(user);
+        revocationEpochService.revokeTokensIssuedBefore(email, Instant.now());
     }
 
 
@@ -162,6 +201,7 @@ public class UserService implements SignUpUseCase, VerifyOtpUseCase, ResetPasswo
         String encodedNewPassword = passwordEncoder.encode(newPassword);
         user.setPassword(encodedNewPassword);
         userOutputPort.saveUser(user);
+        revocationEpochService.revokeTokensIssuedBefore(email, Instant.now());
     }
 
 
@@ -170,6 +210,11 @@ public class UserService implements SignUpUseCase, VerifyOtpUseCase, ResetPasswo
     public void logout(User user, String refreshToken, String accessToken) {
         identityManagementOutputPort.logout(user, refreshToken);
 
+        if ("epoch".equalsIgnoreCase(revocationMode)) {
+            revocationEpochService.revokeTokensIssuedBefore(user.getEmail(), Instant.now());
+            return;
+        }
+
         Jwt jwt = jwtDecoder.decode(accessToken);
 
         String jti = jwt.getClaimAsString("jti");
@@ -217,17 +262,17 @@ public class UserService implements SignUpUseCase, VerifyOtpUseCase, ResetPasswo
 
 
     @Override
+    @Transactional
     public void verifyOtpAndActivate(String inviteToken, String otp) {
         User user = userOutputPort.getUserByInviteToken(inviteToken);
 
         otpService.validateOtp(user.getEmail(), otp);
 
-        identityManagementOutputPort.createUser(user);
-//        identityManagementOutputPort.activateUser(user);
-
         user.setEnabled(true);
         user.setInvited(false);
-        userOutputPort.saveUser(user);
+        user = userOutputPort.saveUser(user);
+
+        identityProvisioningOutputPort.enqueue(user);
     }
 
 }
@@ -48,6 +48,13 @@ public class GeneralValidator {
     }
 
 
+    public static Long requireOrganizationId(User user) {
+        if (user.getOrganization() == null || user.getOrganization().getId() == null) {
+            throw new OrganizationNotFoundException(ErrorMessages.ORGANIZATION_NOT_FOUND, HttpStatus.NOT_FOUND);
+        }
+        return user.getOrganization().getId();
+    }
+
     public static void validateUserBelongsOrganization(User user, Long organizationId) {
         if (user.getOrganization() == null || user.getOrganization().getId() == null) {
             throw new OrganizationNotFoundException(ErrorMessages.ORGANIZATION_NOT_FOUND, HttpStatus.NOT_FOUND);
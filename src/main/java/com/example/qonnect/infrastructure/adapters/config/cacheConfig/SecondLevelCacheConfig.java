@@ -0,0 +1,69 @@
+package com.example.qonnect.infrastructure.adapters.config.cacheConfig;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class SecondLevelCacheConfig {
+
+    public static final String ORGANIZATIONS_REGION = "organizations";
+    public static final String ORGANIZATION_NAMES_REGION = "organization-names";
+    public static final String PROJECTS_REGION = "projects";
+
+    @Value("${app.cache.l2.organizations.max-size:10000}")
+    private long organizationsMaxSize;
+
+    @Value("${app.cache.l2.organizations.ttl-seconds:3600}")
+    private long organizationsTtlSeconds;
+
+    @Value("${app.cache.l2.projects.max-size:50000}")
+    private long projectsMaxSize;
+
+    @Value("${app.cache.l2.projects.ttl-seconds:1800}")
+    private long projectsTtlSeconds;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(MeterRegistry meterRegistry) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        // A manager per application context, so contexts sharing a JVM never collide on region names.
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("qonnect-l2-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        createRegion(cacheManager, meterRegistry, ORGANIZATIONS_REGION, organizationsMaxSize, organizationsTtlSeconds);
+        createRegion(cacheManager, meterRegistry, ORGANIZATION_NAMES_REGION, organizationsMaxSize, organizationsTtlSeconds);
+        createRegion(cacheManager, meterRegistry, PROJECTS_REGION, projectsMaxSize, projectsTtlSeconds);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+    }
+
+    private static void createRegion(CacheManager cacheManager, MeterRegistry meterRegistry,
+                                     String region, long maxSize, long ttlSeconds) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(true);
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(ttlSeconds)));
+        Cache<Object, Object> cache = cacheManager.createCache(region, configuration);
+        JCacheMetrics.monitor(meterRegistry, cache);
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.qonnect.infrastructure.adapters.config.cacheConfig;
+
+import com.example.qonnect.infrastructure.adapters.output.persistence.entities.OrganizationEntity;
+import com.example.qonnect.infrastructure.adapters.output.persistence.entities.ProjectEntity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Keeps the Hibernate second-level cache of every node coherent. Hibernate already invalidates the
+ * writing node's regions; this broadcasts the write once it commits so the other nodes evict theirs.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCacheInvalidator implements MessageListener {
+
+    public static final String EVICTION_CHANNEL = "l2-cache:evict";
+
+    static final String ORGANIZATION = "organization:";
+    static final String ORGANIZATION_TREE = "organization-tree:";
+    static final String PROJECT = "project:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final MeterRegistry meterRegistry;
+
+    private Counter remoteEvictions;
+
+    @PostConstruct
+    public void init() {
+        remoteEvictions = meterRegistry.counter("l2.cache.remote.evictions");
+    }
+
+    public void evictOrganization(Long organizationId) {
+        broadcastAfterCommit(ORGANIZATION + organizationId);
+    }
+
+    public void evictOrganizationTree(Long organizationId) {
+        broadcastAfterCommit(ORGANIZATION_TREE + organizationId);
+    }
+
+    public void evictProject(Long projectId) {
+        broadcastAfterCommit(PROJECT + projectId);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+            if (body.startsWith(ORGANIZATION_TREE)) {
+                evictOrganization(cache, Long.valueOf(body.substring(ORGANIZATION_TREE.length())));
+                cache.evictEntityData(ProjectEntity.class);
+            } else if (body.startsWith(ORGANIZATION)) {
+                evictOrganization(cache, Long.valueOf(body.substring(ORGANIZATION.length())));
+            } else if (body.startsWith(PROJECT)) {
+                cache.evictEntityData(ProjectEntity.class, Long.valueOf(body.substring(PROJECT.length())));
+            } else {
+                log.warn("Ignoring unknown second-level cache eviction {}", body);
+                return;
+            }
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed second-level cache eviction {}", body);
+            return;
+        }
+        remoteEvictions.increment();
+        log.debug("Evicted second-level cache entries for {} on remote request", body);
+    }
+
+    private static void evictOrganization(Cache cache, Long organizationId) {
+        cache.evictEntityData(OrganizationEntity.class, organizationId);
+        cache.evictNaturalIdData(OrganizationEntity.class);
+    }
+
+    private void broadcastAfterCommit(String eviction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            broadcast(eviction);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                broadcast(eviction);
+            }
+        });
+    }
+
+    private void broadcast(String eviction) {
+        try {
+            redisTemplate.convertAndSend(EVICTION_CHANNEL, eviction);
+        } catch (Exception e) {
+            log.error("Failed to broadcast second-level cache eviction {}: {}", eviction, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.qonnect.infrastructure.adapters.config.dataSourceConfig;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaVendorAdapter;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Value("${app.datasource.replicas.urls:}")
+    private String replicaUrls;
+
+    @Value("${app.datasource.replicas.username:${spring.datasource.username:}}")
+    private String replicaUsername;
+
+    @Value("${app.datasource.replicas.password:${spring.datasource.password:}}")
+    private String replicaPassword;
+
+    @Value("${app.datasource.replicas.max-pool-size:10}")
+    private int replicaMaxPoolSize;
+
+    @Value("${app.datasource.replicas.connection-timeout-ms:2000}")
+    private long replicaConnectionTimeoutMs;
+
+    @Value("${app.datasource.replicas.max-lag-ms:1000}")
+    private long maxLagMs;
+
+    @Value("${app.datasource.replicas.max-sample-age-ms:15000}")
+    private long maxSampleAgeMs;
+
+    @Value("${app.datasource.replicas.lag-query:}")
+    private String lagQuery;
+
+    @Bean(destroyMethod = "close")
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(DataSourceProperties dataSourceProperties,
+                                                                 Environment environment,
+                                                                 MeterRegistry meterRegistry) {
+        HikariDataSource primary = pool(dataSourceProperties, environment, meterRegistry, "primary");
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (String url : StringUtils.commaDelimitedListToStringArray(replicaUrls)) {
+            if (!StringUtils.hasText(url)) {
+                continue;
+            }
+            String name = "replica-" + (replicas.size() + 1);
+            HikariDataSource replica = pool(dataSourceProperties, environment, meterRegistry, name);
+            replica.setJdbcUrl(url.trim());
+            replica.setUsername(replicaUsername);
+            replica.setPassword(replicaPassword);
+            replica.setMaximumPoolSize(replicaMaxPoolSize);
+            replica.setConnectionTimeout(replicaConnectionTimeoutMs);
+            replica.setReadOnly(true);
+            replicas.put(name, replica);
+        }
+
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(primary, replicas,
+                StringUtils.hasText(lagQuery) ? lagQuery : ReadWriteRoutingDataSource.POSTGRES_LAG_QUERY,
+                maxLagMs, maxSampleAgeMs, meterRegistry);
+        routingDataSource.checkReplicas();
+        return routingDataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+    }
+
+    /**
+     * Spring's default mode holds a connection for the whole session, so with open-in-view a write could
+     * run on the replica connection an earlier read-only transaction picked. Releasing after each
+     * transaction lets every transaction route on its own.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer routingConnectionHandlingCustomizer() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    /**
+     * Boot's adapter with {@link ReplicaReadJpaDialect}, so read-only transactions never put replica rows
+     * into the second-level cache.
+     */
+    @Bean
+    public JpaVendorAdapter jpaVendorAdapter(JpaProperties jpaProperties) {
+        HibernateJpaDialect jpaDialect = new ReplicaReadJpaDialect();
+        HibernateJpaVendorAdapter adapter = new HibernateJpaVendorAdapter() {
+            @Override
+            public HibernateJpaDialect getJpaDialect() {
+                return jpaDialect;
+            }
+        };
+        adapter.setShowSql(jpaProperties.isShowSql());
+        if (jpaProperties.getDatabase() != null) {
+            adapter.setDatabase(jpaProperties.getDatabase());
+        }
+        if (jpaProperties.getDatabasePlatform() != null) {
+            adapter.setDatabasePlatform(jpaProperties.getDatabasePlatform());
+        }
+        adapter.setGenerateDdl(jpaProperties.isGenerateDdl());
+        return adapter;
+    }
+
+    private static HikariDataSource pool(DataSourceProperties dataSourceProperties, Environment environment,
+                                         MeterRegistry meterRegistry, String name) {
+        HikariDataSource pool = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(name);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return pool;
+    }
+}
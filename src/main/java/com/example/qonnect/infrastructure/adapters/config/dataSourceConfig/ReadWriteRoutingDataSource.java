@@ -0,0 +1,187 @@
+package com.example.qonnect.infrastructure.adapters.config.dataSourceConfig;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to a replica that is up and within the lag budget, and everything
+ * else to the primary. Must sit behind a {@code LazyConnectionDataSourceProxy} so the connection is
+ * only fetched once the transaction's read-only flag has been bound.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    /**
+     * Replay lag in milliseconds; a replica that has replayed everything it received counts as caught up.
+     * Returns NULL when the WAL receiver is not streaming, since a disconnected replica has also replayed
+     * everything it received. Reading the receiver status needs {@code pg_read_all_stats} or
+     * {@code pg_monitor}; without it every replica reports NULL and reads stay on the primary.
+     */
+    public static final String POSTGRES_LAG_QUERY = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() THEN 0
+                       WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming') THEN NULL
+                       WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+                   END
+            """;
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final String lagQuery;
+    private final long maxLagMillis;
+    private final long maxSampleAgeMillis;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final Counter fallbacks;
+
+    @Setter
+    private Clock clock = Clock.systemUTC();
+
+    /**
+     * @param maxSampleAgeMillis how old the last health check may be before the replica stops getting
+     *                           reads, so a stalled check cannot keep routing to a replica that fell behind
+     */
+    public ReadWriteRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, String lagQuery,
+                                      long maxLagMillis, long maxSampleAgeMillis, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.lagQuery = lagQuery;
+        this.maxLagMillis = maxLagMillis;
+        this.maxSampleAgeMillis = maxSampleAgeMillis;
+        replicas.forEach((name, dataSource) -> {
+            Replica replica = new Replica(name, dataSource);
+            Gauge.builder("datasource.replica.lag", replica, r -> r.lagMillis)
+                    .tag("pool", name)
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+            Gauge.builder("datasource.replica.available", replica, r -> isAvailable(r) ? 1 : 0)
+                    .tag("pool", name)
+                    .register(meterRegistry);
+            this.replicas.add(replica);
+        });
+        fallbacks = meterRegistry.counter("datasource.routing.fallbacks");
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replicas.health-check-interval-ms:5000}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                resultSet.next();
+                long lagMillis = resultSet.getLong(1);
+                if (resultSet.wasNull()) {
+                    if (replica.healthy) {
+                        log.warn("Replica {} is not streaming from the primary, reads fall back to the primary", replica.name);
+                    }
+                    replica.healthy = false;
+                    continue;
+                }
+                replica.lagMillis = lagMillis;
+                replica.sampledAtMillis = clock.millis();
+                replica.healthy = true;
+            } catch (SQLException e) {
+                if (replica.healthy) {
+                    log.warn("Replica {} failed its health check, reads fall back to the primary: {}",
+                            replica.name, e.getMessage());
+                }
+                replica.healthy = false;
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        closeQuietly(primary);
+        replicas.forEach(replica -> closeQuietly(replica.dataSource));
+    }
+
+    private Connection route(Connector connector) throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return connector.connect(primary);
+        }
+        Replica replica = nextAvailableReplica();
+        if (replica != null) {
+            try {
+                return connector.connect(replica.dataSource);
+            } catch (SQLException e) {
+                log.warn("Replica {} refused a connection, reads fall back to the primary: {}", replica.name, e.getMessage());
+                replica.healthy = false;
+            }
+        }
+        fallbacks.increment();
+        return connector.connect(primary);
+    }
+
+    private Replica nextAvailableReplica() {
+        int size = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (isAvailable(replica)) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private boolean isAvailable(Replica replica) {
+        return replica.healthy && replica.lagMillis <= maxLagMillis
+                && clock.millis() - replica.sampledAtMillis <= maxSampleAgeMillis;
+    }
+
+    private static void closeQuietly(DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.warn("Failed to close data source: {}", e.getMessage());
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Connector {
+        Connection connect(DataSource dataSource) throws SQLException;
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy;
+        private volatile long lagMillis;
+        private volatile long sampledAtMillis;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
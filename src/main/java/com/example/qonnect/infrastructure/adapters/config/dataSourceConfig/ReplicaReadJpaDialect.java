@@ -0,0 +1,45 @@
+package com.example.qonnect.infrastructure.adapters.config.dataSourceConfig;
+
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.sql.SQLException;
+
+/**
+ * Read-only transactions may run on a replica that has not yet replayed a commit whose L2 eviction was
+ * already broadcast, so what they load must not be put into the second-level cache: the stale copy would
+ * otherwise be served until the region expires. They still read cached entries.
+ */
+public class ReplicaReadJpaDialect extends HibernateJpaDialect {
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws SQLException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        if (!definition.isReadOnly()) {
+            return transactionData;
+        }
+        Object previousStoreMode = entityManager.getProperties().get(AvailableSettings.JAKARTA_SHARED_CACHE_STORE_MODE);
+        // Set as the JPA property rather than the Hibernate cache mode, which find() re-derives from it.
+        entityManager.setProperty(AvailableSettings.JAKARTA_SHARED_CACHE_STORE_MODE, CacheStoreMode.BYPASS);
+        return new ReadOnlyTransactionData(transactionData, entityManager,
+                previousStoreMode != null ? previousStoreMode : CacheStoreMode.USE);
+    }
+
+    @Override
+    public void cleanupTransaction(Object transactionData) {
+        if (transactionData instanceof ReadOnlyTransactionData readOnly) {
+            // Open-in-view keeps the entity manager for the next transaction, which may be a write.
+            readOnly.entityManager().setProperty(AvailableSettings.JAKARTA_SHARED_CACHE_STORE_MODE, readOnly.previousStoreMode());
+            super.cleanupTransaction(readOnly.transactionData());
+            return;
+        }
+        super.cleanupTransaction(transactionData);
+    }
+
+    private record ReadOnlyTransactionData(Object transactionData, EntityManager entityManager, Object previousStoreMode) {
+    }
+}
@@ -4,32 +4,48 @@ package com.example.qonnect.infrastructure.adapters.config.generalAppConfig;
 import com.example.qonnect.application.output.IdentityManagementOutputPort;
 import com.example.qonnect.application.output.UserOutputPort;
 import com.example.qonnect.domain.services.EmailService;
+import com.example.qonnect.infrastructure.adapters.config.security.BoundedPasswordEncoder;
 import com.example.qonnect.infrastructure.adapters.config.security.JwtAuthConverter;
+import com.example.qonnect.infrastructure.adapters.config.security.PrincipalCache;
 import com.example.qonnect.infrastructure.adapters.output.keycloak.KeycloakAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.keycloak.admin.client.Keycloak;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.web.client.RestTemplate;
 
 @Configuration
 public class AppBeanConfig {
 
-    @Bean
-    public JwtAuthConverter jwtAuthConverter(UserOutputPort userOutputPort) {
-        return new JwtAuthConverter(userOutputPort);
-    }
+    @Value("${app.security.bcrypt.strength:10}")
+    private int bcryptStrength;
+
+    @Value("${app.security.bcrypt.threads:0}")
+    private int hashingThreads;
+
+    @Value("${app.security.bcrypt.queue-capacity:64}")
+    private int hashingQueueCapacity;
+
+    @Value("${app.security.bcrypt.max-wait-ms:2000}")
+    private long hashingMaxWaitMs;
 
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public JwtAuthConverter jwtAuthConverter(UserOutputPort userOutputPort, PrincipalCache principalCache) {
+        return new JwtAuthConverter(userOutputPort, principalCache);
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder(){
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry){
+        return new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(bcryptStrength),
+                hashingThreads > 0 ? hashingThreads : Runtime.getRuntime().availableProcessors(),
+                hashingQueueCapacity,
+                hashingMaxWaitMs,
+                meterRegistry
+        );
     }
 
 //    @Bean
@@ -1,14 +1,28 @@
 package com.example.qonnect.infrastructure.adapters.config.keycloakConfig;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+import jakarta.ws.rs.client.Client;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.jboss.resteasy.client.jaxrs.ResteasyClientBuilder;
+import org.jboss.resteasy.client.jaxrs.engines.ApacheHttpClient43Engine;
+import org.keycloak.admin.client.JacksonProvider;
 import org.keycloak.admin.client.Keycloak;
 import org.keycloak.admin.client.KeycloakBuilder;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.concurrent.TimeUnit;
+
 @Configuration
+@ConditionalOnProperty(name = "app.identity.provider", havingValue = "keycloak", matchIfMissing = true)
 @Setter
 @Getter
 public class KeycloakConfig {
@@ -24,15 +38,68 @@ public class KeycloakConfig {
     @Value("${CLIENT_SECRET}")
     private String clientSecret;
 
+    @Value("${app.http.pool.max-total:100}")
+    private int maxTotal;
+
+    @Value("${app.http.pool.max-per-route:50}")
+    private int maxPerRoute;
+
+    @Value("${app.http.connect-timeout-ms:2000}")
+    private int connectTimeoutMs;
+
+    @Value("${app.http.read-timeout-ms:5000}")
+    private int readTimeoutMs;
+
+    @Value("${app.http.pool.acquire-timeout-ms:2000}")
+    private int acquireTimeoutMs;
+
+    @Value("${app.http.pool.keep-alive-seconds:60}")
+    private long keepAliveSeconds;
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager keycloakConnectionManager(MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager connectionManager =
+                new PoolingHttpClientConnectionManager(keepAliveSeconds, TimeUnit.SECONDS);
+        connectionManager.setMaxTotal(maxTotal);
+        connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+        connectionManager.setValidateAfterInactivity(2000);
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "keycloak-admin").bindTo(meterRegistry);
+        return connectionManager;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient keycloakHttpClient(PoolingHttpClientConnectionManager keycloakConnectionManager) {
+        return HttpClients.custom()
+                .setConnectionManager(keycloakConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectTimeout(connectTimeoutMs)
+                        .setSocketTimeout(readTimeoutMs)
+                        .setConnectionRequestTimeout(acquireTimeoutMs)
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(keepAliveSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
+    // The builder's own pool settings would hide the connection manager from the pool metrics bound above.
+    @SuppressWarnings("removal")
+    @Bean(destroyMethod = "close")
+    public Client keycloakRestClient(CloseableHttpClient keycloakHttpClient) {
+        return ((ResteasyClientBuilder) ResteasyClientBuilder.newBuilder())
+                .httpEngine(new ApacheHttpClient43Engine(keycloakHttpClient, false))
+                .register(JacksonProvider.class, 100)
+                .build();
+    }
+
     @Bean
-    public Keycloak keycloak() {
+    public Keycloak keycloak(Client keycloakRestClient) {
         return KeycloakBuilder.builder()
                 .clientSecret(clientSecret)
                 .clientId(clientId)
                 .grantType("client_credentials")
                 .realm(realm)
                 .serverUrl(serverUrl)
+                .resteasyClient(keycloakRestClient)
                 .build();
     }
 }
-
@@ -0,0 +1,30 @@
+package com.example.qonnect.infrastructure.adapters.config.redisConfig;
+
+import com.example.qonnect.infrastructure.adapters.config.cacheConfig.SecondLevelCacheInvalidator;
+import com.example.qonnect.infrastructure.adapters.config.security.PrincipalCache;
+import com.example.qonnect.infrastructure.adapters.config.security.RevocationEpochService;
+import com.example.qonnect.infrastructure.adapters.config.security.TokenBlacklistService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class RedisConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       PrincipalCache principalCache,
+                                                                       TokenBlacklistService tokenBlacklistService,
+                                                                       RevocationEpochService revocationEpochService,
+                                                                       SecondLevelCacheInvalidator secondLevelCacheInvalidator) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(principalCache, new ChannelTopic(PrincipalCache.EVICTION_CHANNEL));
+        container.addMessageListener(tokenBlacklistService, new ChannelTopic(TokenBlacklistService.BLACKLIST_CHANNEL));
+        container.addMessageListener(revocationEpochService, new ChannelTopic(RevocationEpochService.EPOCH_CHANNEL));
+        container.addMessageListener(secondLevelCacheInvalidator, new ChannelTopic(SecondLevelCacheInvalidator.EVICTION_CHANNEL));
+        return container;
+    }
+}
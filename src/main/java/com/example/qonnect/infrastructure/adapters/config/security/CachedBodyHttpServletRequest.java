@@ -0,0 +1,87 @@
+package com.example.qonnect.infrastructure.adapters.config.security;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Buffers up to {@code maxBufferedBytes} of the request body so a filter can inspect it, and replays
+ * that prefix ahead of the unread rest so the controller still sees the whole body.
+ */
+public class CachedBodyHttpServletRequest extends HttpServletRequestWrapper {
+
+    private final byte[] body;
+    private final ServletInputStream remainder;
+
+    public CachedBodyHttpServletRequest(HttpServletRequest request, int maxBufferedBytes) throws IOException {
+        super(request);
+        ServletInputStream in = request.getInputStream();
+        this.body = in.readNBytes(maxBufferedBytes + 1);
+        this.remainder = body.length > maxBufferedBytes ? in : null;
+    }
+
+    /**
+     * Whether {@link #getBody()} holds the entire request body rather than just its first bytes.
+     */
+    public boolean isComplete() {
+        return remainder == null;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        ByteArrayInputStream buffered = new ByteArrayInputStream(body);
+        return new ServletInputStream() {
+            @Override
+            public boolean isFinished() {
+                return buffered.available() == 0 && (remainder == null || remainder.isFinished());
+            }
+
+            @Override
+            public boolean isReady() {
+                return buffered.available() > 0 || remainder == null || remainder.isReady();
+            }
+
+            @Override
+            public void setReadListener(ReadListener readListener) {
+                if (remainder != null) {
+                    remainder.setReadListener(readListener);
+                    return;
+                }
+                try {
+                    readListener.onDataAvailable();
+                    readListener.onAllDataRead();
+                } catch (IOException e) {
+                    readListener.onError(e);
+                }
+            }
+
+            @Override
+            public int read() throws IOException {
+                int next = buffered.read();
+                return next != -1 || remainder == null ? next : remainder.read();
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                if (len == 0) {
+                    return 0;
+                }
+                int read = buffered.read(b, off, len);
+                return read != -1 || remainder == null ? read : remainder.read(b, off, len);
+            }
+        };
+    }
+
+    @Override
+    public BufferedReader getReader() {
+        return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.qonnect.infrastructure.adapters.config.security;
+
+import com.nimbusds.jose.util.DefaultResourceRetriever;
+import com.nimbusds.jose.util.Resource;
+import com.nimbusds.jose.util.ResourceRetriever;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URL;
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwksResourceRetriever implements ResourceRetriever {
+
+    private final MeterRegistry meterRegistry;
+
+    @Setter
+    @Value("${app.security.jwks.connect-timeout-ms:500}")
+    private int connectTimeoutMs;
+
+    @Setter
+    @Value("${app.security.jwks.read-timeout-ms:2000}")
+    private int readTimeoutMs;
+
+    @Setter
+    private Clock clock = Clock.systemUTC();
+
+    private final AtomicLong lastSuccessfulFetch = new AtomicLong();
+    private ResourceRetriever delegate;
+    private Timer successTimer;
+    private Timer failureTimer;
+
+    @PostConstruct
+    public void init() {
+        delegate = new DefaultResourceRetriever(connectTimeoutMs, readTimeoutMs, 0);
+        successTimer = meterRegistry.timer("jwks.fetch", "outcome", "success");
+        failureTimer = meterRegistry.timer("jwks.fetch", "outcome", "failure");
+        Gauge.builder("jwks.staleness.seconds", this, JwksResourceRetriever::stalenessSeconds)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Resource retrieveResource(URL url) throws IOException {
+        long start = System.nanoTime();
+        try {
+            Resource resource = delegate.retrieveResource(url);
+            successTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            lastSuccessfulFetch.set(clock.millis());
+            return resource;
+        } catch (IOException e) {
+            failureTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            log.warn("Failed to fetch JWK set from {}: {}", url, e.getMessage());
+            throw e;
+        }
+    }
+
+    public double stalenessSeconds() {
+        long last = lastSuccessfulFetch.get();
+        return last == 0 ? Double.NaN : (clock.millis() - last) / 1000.0;
+    }
+}
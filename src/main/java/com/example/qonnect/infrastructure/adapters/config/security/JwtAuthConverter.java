@@ -30,6 +30,7 @@ import java.util.stream.Stream;
 public class JwtAuthConverter implements Converter<Jwt, AbstractAuthenticationToken> {
 
     private final UserOutputPort userOutputPort;
+    private final PrincipalCache principalCache;
     private final JwtGrantedAuthoritiesConverter jwtGrantedAuthoritiesConverter = new JwtGrantedAuthoritiesConverter();
 
     @Override
@@ -42,7 +43,7 @@ public class JwtAuthConverter implements Converter<Jwt, AbstractAuthenticationTo
             String userIdentifier = getUserIdentifierFromJwt(jwt);
             log.info("Extracted user identifier: {}", userIdentifier);
 
-            User user = userOutputPort.getUserByEmail(userIdentifier);
+            User user = principalCache.get(userIdentifier, userOutputPort::getUserByEmail);
             log.info("Found user: {}", user.getEmail());
 
             Collection<GrantedAuthority> authorities = Stream.concat(
@@ -0,0 +1,32 @@
+package com.example.qonnect.infrastructure.adapters.config.security;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimNames;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtBlacklistValidator implements OAuth2TokenValidator<Jwt> {
+
+    private static final OAuth2Error BLACKLISTED = new OAuth2Error(
+            OAuth2ErrorCodes.INVALID_TOKEN, "Access token is blacklisted", null);
+
+    private final TokenBlacklistService tokenBlacklistService;
+
+    @Override
+    public OAuth2TokenValidatorResult validate(Jwt jwt) {
+        String jti = jwt.getClaimAsString(JwtClaimNames.JTI);
+        if (jti != null && tokenBlacklistService.isBlacklisted(jti)) {
+            log.warn("Blocked blacklisted token with jti={}", jti);
+            return OAuth2TokenValidatorResult.failure(BLACKLISTED);
+        }
+        return OAuth2TokenValidatorResult.success();
+    }
+}
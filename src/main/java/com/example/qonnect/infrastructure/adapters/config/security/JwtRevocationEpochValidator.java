@@ -0,0 +1,34 @@
+package com.example.qonnect.infrastructure.adapters.config.security;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtRevocationEpochValidator implements OAuth2TokenValidator<Jwt> {
+
+    private static final OAuth2Error REVOKED = new OAuth2Error(
+            OAuth2ErrorCodes.INVALID_TOKEN, "Access token has been revoked", null);
+
+    private final RevocationEpochService revocationEpochService;
+
+    @Override
+    public OAuth2TokenValidatorResult validate(Jwt jwt) {
+        String email = jwt.getClaimAsString("email");
+        if (email == null) {
+            email = jwt.getClaimAsString("preferred_username");
+        }
+        if (revocationEpochService.isRevoked(email, jwt.getIssuedAt())) {
+            log.warn("Blocked token issued at {} for {} before revocation epoch", jwt.getIssuedAt(), email);
+            return OAuth2TokenValidatorResult.failure(REVOKED);
+        }
+        return OAuth2TokenValidatorResult.success();
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.qonnect.infrastructure.adapters.config.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+
+/**
+ * Refresh and ID tokens are signed with the same key and issuer as access tokens, both by Keycloak
+ * and in local mode, so only the {@code typ} claim keeps them from being replayed as bearer tokens.
+ */
+@Slf4j
+@Component
+public class JwtTokenTypeValidator implements OAuth2TokenValidator<Jwt> {
+
+    static final String ACCESS_TOKEN_TYPE = "Bearer";
+
+    private static final OAuth2Error NOT_AN_ACCESS_TOKEN = new OAuth2Error(
+            OAuth2ErrorCodes.INVALID_TOKEN, "Token is not an access token", null);
+
+    @Override
+    public OAuth2TokenValidatorResult validate(Jwt jwt) {
+        String type = jwt.getClaimAsString("typ");
+        if (!ACCESS_TOKEN_TYPE.equals(type)) {
+            log.warn("Blocked token of type {} presented as a bearer token", type);
+            return OAuth2TokenValidatorResult.failure(NOT_AN_ACCESS_TOKEN);
+        }
+        return OAuth2TokenValidatorResult.success();
+    }
+}
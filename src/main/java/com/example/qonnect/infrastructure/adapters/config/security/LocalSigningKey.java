@@ -0,0 +1,84 @@
+package com.example.qonnect.infrastructure.adapters.config.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+import jakarta.annotation.PostConstruct;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.identity.provider", havingValue = "local")
+public class LocalSigningKey {
+
+    @Setter
+    @Value("${app.identity.local.private-key:}")
+    private String encodedPrivateKey;
+
+    @Setter
+    @Value("${app.identity.local.public-key:}")
+    private String encodedPublicKey;
+
+    private RSAKey rsaKey;
+
+    @PostConstruct
+    public void init() throws GeneralSecurityException, JOSEException {
+        RSAPublicKey publicKey;
+        RSAPrivateKey privateKey;
+        if (encodedPrivateKey == null || encodedPrivateKey.isBlank()) {
+            log.warn("No local signing key configured, generating an ephemeral key. Tokens will not survive a restart or validate on other instances.");
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            KeyPair keyPair = generator.generateKeyPair();
+            publicKey = (RSAPublicKey) keyPair.getPublic();
+            privateKey = (RSAPrivateKey) keyPair.getPrivate();
+        } else {
+            KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+            privateKey = (RSAPrivateKey) keyFactory.generatePrivate(new PKCS8EncodedKeySpec(decode(encodedPrivateKey)));
+            publicKey = (RSAPublicKey) keyFactory.generatePublic(new X509EncodedKeySpec(decode(encodedPublicKey)));
+        }
+
+        RSAKey withoutId = new RSAKey.Builder(publicKey).build();
+        rsaKey = new RSAKey.Builder(publicKey)
+                .privateKey(privateKey)
+                .keyUse(KeyUse.SIGNATURE)
+                .keyID(withoutId.computeThumbprint().toString())
+                .build();
+    }
+
+    public RSAPrivateKey privateKey() throws JOSEException {
+        return rsaKey.toRSAPrivateKey();
+    }
+
+    public RSAPublicKey publicKey() throws JOSEException {
+        return rsaKey.toRSAPublicKey();
+    }
+
+    public String keyId() {
+        return rsaKey.getKeyID();
+    }
+
+    public JWKSet publicJwkSet() {
+        return new JWKSet(rsaKey.toPublicJWK());
+    }
+
+    private static byte[] decode(String key) {
+        String body = key.replaceAll("-----[A-Z ]+-----", "").replaceAll("\\s", "");
+        return Base64.getDecoder().decode(body);
+    }
+}
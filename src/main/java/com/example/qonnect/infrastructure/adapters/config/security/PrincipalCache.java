@@ -0,0 +1,116 @@
+package com.example.qonnect.infrastructure.adapters.config.security;
+
+import com.example.qonnect.domain.models.Organization;
+import com.example.qonnect.domain.models.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.function.Function;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PrincipalCache implements MessageListener {
+
+    public static final String EVICTION_CHANNEL = "principal-cache:evict";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Setter
+    @Value("${app.security.principal-cache.max-size:10000}")
+    private long maxSize;
+
+    @Setter
+    @Value("${app.security.principal-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    private Cache<String, User> cache;
+    private Counter remoteEvictions;
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "principalCache");
+        remoteEvictions = meterRegistry.counter("principal.cache.remote.evictions");
+    }
+
+    /**
+     * Returns a private copy, because callers receive it as the mutable request principal.
+     */
+    public User get(String identifier, Function<String, User> loader) {
+        return copy(cache.get(identifier, loader));
+    }
+
+    /**
+     * Evicts now and again once the surrounding transaction commits, so a concurrent request cannot
+     * re-cache the pre-commit row in between. Other nodes are only told after commit.
+     */
+    public void evict(String email) {
+        if (email == null) {
+            return;
+        }
+        cache.invalidate(email);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            broadcast(email);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.invalidate(email);
+                broadcast(email);
+            }
+        });
+    }
+
+    private void broadcast(String email) {
+        try {
+            redisTemplate.convertAndSend(EVICTION_CHANNEL, email);
+        } catch (Exception e) {
+            log.error("Failed to broadcast principal eviction for {}: {}", email, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String email = new String(message.getBody(), StandardCharsets.UTF_8);
+        cache.invalidate(email);
+        remoteEvictions.increment();
+        log.debug("Evicted cached principal {} on remote request", email);
+    }
+
+    private static User copy(User user) {
+        if (user == null) {
+            return null;
+        }
+        Organization organization = user.getOrganization();
+        return user.toBuilder()
+                .organization(organization == null ? null : organization.toBuilder()
+                        .users(organization.getUsers() == null ? null : new ArrayList<>(organization.getUsers()))
+                        .projects(organization.getProjects() == null ? null : new ArrayList<>(organization.getProjects()))
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.qonnect.infrastructure.adapters.config.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RateLimitDecision {
+
+    public static final RateLimitDecision ALLOWED = new RateLimitDecision(true, 0);
+
+    private final boolean allowed;
+
+    private final long retryAfterMillis;
+
+    public long retryAfterSeconds() {
+        return Math.max(1, (retryAfterMillis + 999) / 1000);
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.qonnect.infrastructure.adapters.config.security;
+
+import com.example.qonnect.domain.models.User;
+import com.example.qonnect.infrastructure.adapters.input.rest.data.responses.ErrorResponse;
+import com.example.qonnect.infrastructure.adapters.input.rest.messages.ErrorMessages;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Set;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    static final Set<String> AUTH_PATHS = Set.of(
+            "/api/v1/users/login",
+            "/api/v1/users/user",
+            "/api/v1/users/otp",
+            "/api/v1/users/otp/resend",
+            "/api/v1/users/password/reset/initiate",
+            "/api/v1/users/password/reset/complete",
+            "/api/v1/organizations/organization"
+    );
+
+    private final TokenBucketRateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    @Setter
+    @Value("${app.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Setter
+    @Value("${app.rate-limit.auth-ip.capacity:30}")
+    private long authIpCapacity;
+
+    @Setter
+    @Value("${app.rate-limit.auth-ip.refill-per-minute:30}")
+    private long authIpRefillPerMinute;
+
+    @Setter
+    @Value("${app.rate-limit.auth-email.capacity:5}")
+    private long authEmailCapacity;
+
+    @Setter
+    @Value("${app.rate-limit.auth-email.refill-per-minute:2}")
+    private long authEmailRefillPerMinute;
+
+    @Setter
+    @Value("${app.rate-limit.tenant.capacity:600}")
+    private long tenantCapacity;
+
+    @Setter
+    @Value("${app.rate-limit.tenant.refill-per-minute:3000}")
+    private long tenantRefillPerMinute;
+
+    @Setter
+    @Value("${app.rate-limit.max-inspected-body-bytes:4096}")
+    private int maxInspectedBodyBytes;
+
+    private RateLimitPolicy authIpPolicy;
+    private RateLimitPolicy authEmailPolicy;
+    private RateLimitPolicy tenantPolicy;
+
+    @PostConstruct
+    public void init() {
+        authIpPolicy = new RateLimitPolicy("auth-ip", authIpCapacity, authIpRefillPerMinute);
+        authEmailPolicy = new RateLimitPolicy("auth-email", authEmailCapacity, authEmailRefillPerMinute);
+        tenantPolicy = new RateLimitPolicy("tenant", tenantCapacity, tenantRefillPerMinute);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        HttpServletRequest current = request;
+
+        if (AUTH_PATHS.contains(normalizedPath(request))) {
+            RateLimitDecision decision = rateLimiter.tryAcquire(authIpPolicy, request.getRemoteAddr());
+            if (!decision.isAllowed()) {
+                reject(response, decision);
+                return;
+            }
+
+            // Chunked bodies carry no Content-Length, so read up to the limit instead of trusting the header.
+            CachedBodyHttpServletRequest cached = new CachedBodyHttpServletRequest(request, maxInspectedBodyBytes);
+            current = cached;
+            String email = cached.isComplete() ? extractEmail(cached.getBody()) : null;
+            if (email == null) {
+                // Password reset completion takes the email as a query parameter.
+                email = normalizeEmail(request.getParameter("email"));
+            }
+            if (email != null) {
+                decision = rateLimiter.tryAcquire(authEmailPolicy, email);
+                if (!decision.isAllowed()) {
+                    reject(response, decision);
+                    return;
+                }
+            }
+        }
+
+        Long organizationId = currentOrganizationId();
+        if (organizationId != null) {
+            RateLimitDecision decision = rateLimiter.tryAcquire(tenantPolicy, organizationId.toString());
+            if (!decision.isAllowed()) {
+                reject(response, decision);
+                return;
+            }
+        }
+
+        filterChain.doFilter(current, response);
+    }
+
+    /**
+     * The path as the dispatcher matches it: decoded, without ;params or duplicate slashes, and without
+     * a trailing slash, so none of those variants slips past the auth limits.
+     */
+    static String normalizedPath(HttpServletRequest request) {
+        String path = UrlPathHelper.defaultInstance.getPathWithinApplication(request);
+        int end = path.length();
+        while (end > 1 && path.charAt(end - 1) == '/') {
+            end--;
+        }
+        return path.substring(0, end);
+    }
+
+    private String extractEmail(byte[] body) {
+        try {
+            JsonNode email = objectMapper.readTree(body).get("email");
+            return email != null && email.isTextual() ? normalizeEmail(email.asText()) : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static String normalizeEmail(String email) {
+        return email == null || email.isBlank() ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private Long currentOrganizationId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User user && user.getOrganization() != null) {
+            return user.getOrganization().getId();
+        }
+        return null;
+    }
+
+    private void reject(HttpServletResponse response, RateLimitDecision decision) throws IOException {
+        ErrorResponse error = new ErrorResponse(HttpStatus.TOO_MANY_REQUESTS.value(), ErrorMessages.TOO_MANY_REQUESTS, Instant.now());
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.qonnect.infrastructure.adapters.config.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RateLimitPolicy {
+
+    private final String name;
+
+    private final long capacity;
+
+    private final long refillPerMinute;
+}
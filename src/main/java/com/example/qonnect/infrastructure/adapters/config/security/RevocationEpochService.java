@@ -0,0 +1,97 @@
+package com.example.qonnect.infrastructure.adapters.config.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RevocationEpochService implements MessageListener {
+
+    public static final String EPOCH_CHANNEL = "revocation-epoch";
+    private static final String KEY_PREFIX = "revocation-epoch:";
+    private static final long NO_EPOCH = 0L;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Setter
+    @Value("${app.security.revocation.epoch-ttl-seconds:86400}")
+    private long epochTtlSeconds;
+
+    @Setter
+    @Value("${app.security.revocation.cache.max-size:100000}")
+    private long cacheMaxSize;
+
+    @Setter
+    @Value("${app.security.revocation.cache.ttl-seconds:60}")
+    private long cacheTtlSeconds;
+
+    private Cache<String, Long> epochs;
+
+    @PostConstruct
+    public void init() {
+        epochs = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, epochs, "revocationEpochCache");
+    }
+
+    public void revokeTokensIssuedBefore(String email, Instant instant) {
+        if (email == null) {
+            return;
+        }
+        long epochSeconds = instant.getEpochSecond();
+        epochs.put(email, epochSeconds);
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + email, String.valueOf(epochSeconds), epochTtlSeconds, TimeUnit.SECONDS);
+            redisTemplate.convertAndSend(EPOCH_CHANNEL, email + "|" + epochSeconds);
+            log.info("Revoked tokens issued before {} for {}", instant, email);
+        } catch (Exception e) {
+            log.error("Failed to store revocation epoch for {}: {}", email, e.getMessage(), e);
+        }
+    }
+
+    public boolean isRevoked(String email, Instant issuedAt) {
+        if (email == null || issuedAt == null) {
+            return false;
+        }
+        long epochSeconds = epochs.get(email, this::loadEpoch);
+        return issuedAt.getEpochSecond() < epochSeconds;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf('|');
+        if (separator < 0) {
+            return;
+        }
+        String email = body.substring(0, separator);
+        long epochSeconds = Long.parseLong(body.substring(separator + 1));
+        epochs.asMap().merge(email, epochSeconds, Math::max);
+    }
+
+    private long loadEpoch(String email) {
+        String value = redisTemplate.opsForValue().get(KEY_PREFIX + email);
+        return value == null ? NO_EPOCH : Long.parseLong(value);
+    }
+}
@@ -1,16 +1,29 @@
 package com.example.qonnect.infrastructure.adapters.config.security;
 
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.jwk.source.JWKSourceBuilder;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
 import org.springframework.security.web.SecurityFilterChain;
-import org.springframework.security.web.access.intercept.FilterSecurityInterceptor;
-import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Duration;
 
 @Configuration
 public class SecurityConfig {
@@ -18,10 +31,26 @@ public class SecurityConfig {
     @Value("${spring.security.oauth2.resourceserver.jwt.jwk-set-uri}")
     private String jwkSetUri;
 
+    @Value("${app.security.jwks.cache-ttl-seconds:300}")
+    private long jwksCacheTtlSeconds;
+
+    @Value("${app.security.jwks.refresh-timeout-seconds:15}")
+    private long jwksRefreshTimeoutSeconds;
+
+    @Value("${app.security.jwks.refresh-ahead-seconds:30}")
+    private long jwksRefreshAheadSeconds;
+
+    @Value("${app.security.jwks.rate-limit-min-interval-seconds:30}")
+    private long jwksRateLimitMinIntervalSeconds;
+
+    @Value("${app.security.jwks.outage-tolerance-seconds:3600}")
+    private long jwksOutageToleranceSeconds;
+
     @Bean
     SecurityFilterChain securityFilterChain(HttpSecurity http,
                                             JwtAuthConverter jwtAuthConverter,
-                                            JwtBlacklistFilter jwtBlacklistFilter) throws Exception {
+                                            JwtDecoder jwtDecoder,
+                                            RateLimitFilter rateLimitFilter) throws Exception {
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> auth
@@ -37,26 +66,64 @@ public class SecurityConfig {
                                 "/api/v1/users/otp",
                                 "/api/v1/users/otp/resend",
                                 "/api/v1/users/password/reset/initiate",
-                                "/api/v1/users/password/reset/complete"
+                                "/api/v1/users/password/reset/complete",
+                                "/.well-known/jwks.json"
                         ).permitAll()
                         .anyRequest().authenticated()
                 )
                 .oauth2ResourceServer(oauth2 -> oauth2
                         .jwt(jwt -> jwt
                                 .jwtAuthenticationConverter(jwtAuthConverter)
-                                .decoder(jwtDecoder())
+                                .decoder(jwtDecoder)
                         )
                 )
-                .addFilterBefore(jwtBlacklistFilter,
-                        BearerTokenAuthenticationFilter.class
-                );
+                .addFilterAfter(rateLimitFilter, BearerTokenAuthenticationFilter.class);
 
         return http.build();
     }
 
     @Bean
-    public JwtDecoder jwtDecoder() {
-        return NimbusJwtDecoder.withJwkSetUri(jwkSetUri).build();
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter rateLimitFilter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
     }
 
+    @Bean
+    public JwtDecoder jwtDecoder(JwtTokenTypeValidator jwtTokenTypeValidator,
+                                 JwtBlacklistValidator jwtBlacklistValidator,
+                                 JwtRevocationEpochValidator jwtRevocationEpochValidator,
+                                 JWKSource<SecurityContext> jwkSource) {
+        DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+        jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, jwkSource));
+        jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
+
+        NimbusJwtDecoder decoder = new NimbusJwtDecoder(jwtProcessor);
+        decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(
+                JwtValidators.createDefault(),
+                jwtTokenTypeValidator,
+                jwtBlacklistValidator,
+                jwtRevocationEpochValidator
+        ));
+        return decoder;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.identity.provider", havingValue = "keycloak", matchIfMissing = true)
+    public JWKSource<SecurityContext> jwkSource(JwksResourceRetriever jwksResourceRetriever) throws MalformedURLException {
+        return JWKSourceBuilder.<SecurityContext>create(new URL(jwkSetUri), jwksResourceRetriever)
+                .cache(Duration.ofSeconds(jwksCacheTtlSeconds).toMillis(), Duration.ofSeconds(jwksRefreshTimeoutSeconds).toMillis())
+                .refreshAheadCache(Duration.ofSeconds(jwksRefreshAheadSeconds).toMillis(), true)
+                .rateLimited(Duration.ofSeconds(jwksRateLimitMinIntervalSeconds).toMillis())
+                .outageTolerant(Duration.ofSeconds(jwksOutageToleranceSeconds).toMillis())
+                .retrying(true)
+                .build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.identity.provider", havingValue = "local")
+    public JWKSource<SecurityContext> localJwkSource(LocalSigningKey localSigningKey) {
+        return new ImmutableJWKSet<>(localSigningKey.publicJwkSet());
+    }
 }
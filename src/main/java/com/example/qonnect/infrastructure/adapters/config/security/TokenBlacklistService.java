@@ -1,32 +1,133 @@
 package com.example.qonnect.infrastructure.adapters.config.security;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class TokenBlacklistService {
+public class TokenBlacklistService implements MessageListener {
+
+    public static final String BLACKLIST_CHANNEL = "token-blacklist";
+    private static final String KEY_PREFIX = "blacklist:";
+
     private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Setter
+    @Value("${app.security.blacklist.bloom.expected-insertions:100000}")
+    private long expectedInsertions;
+
+    @Setter
+    @Value("${app.security.blacklist.bloom.false-positive-rate:0.001}")
+    private double falsePositiveRate;
+
+    private volatile JtiBloomFilter bloomFilter;
+    private volatile JtiBloomFilter rebuildingFilter;
+    private volatile boolean bloomReady;
+    // Adds share the read lock; the swap takes the write lock so no add can straddle it.
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private Counter falsePositives;
+    private Counter redisLookups;
+
+    @PostConstruct
+    public void init() {
+        bloomFilter = new JtiBloomFilter(expectedInsertions, falsePositiveRate);
+        falsePositives = meterRegistry.counter("token.blacklist.bloom.false.positives");
+        redisLookups = meterRegistry.counter("token.blacklist.redis.lookups");
+        Gauge.builder("token.blacklist.bloom.size", this, service -> service.bloomFilter.size())
+                .register(meterRegistry);
+        rebuildBloomFilter();
+    }
 
     public void blacklistToken(String jti, long expirationMillis) {
-        String key = "blacklist:" + jti;
+        String key = KEY_PREFIX + jti;
         try {
             redisTemplate.opsForValue().set(key, "blacklisted", expirationMillis, TimeUnit.SECONDS);
             log.info("Redis key saved successfully");
         } catch (Exception e) {
             log.error("Failed to save jti in Redis: {}", e.getMessage(), e);
         }
+        addToBloomFilter(jti);
+        try {
+            redisTemplate.convertAndSend(BLACKLIST_CHANNEL, jti);
+        } catch (Exception e) {
+            log.error("Failed to broadcast blacklisted jti: {}", e.getMessage());
+        }
     }
 
     public boolean isBlacklisted(String jti) {
-        String key = "blacklist:" + jti;
-        log.info("🔍 Checking Redis for key: {}", key);
-        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+        if (bloomReady && !bloomFilter.mightContain(jti)) {
+            return false;
+        }
+        String key = KEY_PREFIX + jti;
+        log.debug("Checking Redis for key: {}", key);
+        redisLookups.increment();
+        boolean blacklisted = Boolean.TRUE.equals(redisTemplate.hasKey(key));
+        if (!blacklisted && bloomReady) {
+            falsePositives.increment();
+        }
+        return blacklisted;
+    }
+
+    @Scheduled(fixedDelayString = "${app.security.blacklist.bloom.rebuild-interval-ms:300000}",
+            initialDelayString = "${app.security.blacklist.bloom.rebuild-interval-ms:300000}")
+    public synchronized void rebuildBloomFilter() {
+        JtiBloomFilter fresh = new JtiBloomFilter(expectedInsertions, falsePositiveRate);
+        rebuildingFilter = fresh;
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                fresh.put(cursor.next().substring(KEY_PREFIX.length()));
+            }
+            swapLock.writeLock().lock();
+            try {
+                bloomFilter = fresh;
+                rebuildingFilter = null;
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+            bloomReady = true;
+            log.info("Rebuilt token blacklist bloom filter with {} entries", fresh.size());
+        } catch (Exception e) {
+            log.error("Failed to rebuild token blacklist bloom filter: {}", e.getMessage());
+            rebuildingFilter = null;
+        }
     }
 
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        addToBloomFilter(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void addToBloomFilter(String jti) {
+        swapLock.readLock().lock();
+        try {
+            bloomFilter.put(jti);
+            JtiBloomFilter rebuilding = rebuildingFilter;
+            if (rebuilding != null) {
+                rebuilding.put(jti);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
 }
@@ -0,0 +1,120 @@
+package com.example.qonnect.infrastructure.adapters.config.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenBucketRateLimiter {
+
+    private static final String KEY_PREFIX = "rate-limit:";
+
+    // Refills the bucket from Redis server time, grants up to ARGV[3] whole tokens and returns {granted, retryAfterMs}.
+    private static final RedisScript<List> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>("""
+            local capacity = tonumber(ARGV[1])
+            local refill_per_ms = tonumber(ARGV[2])
+            local requested = tonumber(ARGV[3])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(state[1]) or capacity
+            local ts = tonumber(state[2]) or now
+            if now > ts then
+                tokens = math.min(capacity, tokens + (now - ts) * refill_per_ms)
+                ts = now
+            end
+            local granted = math.min(requested, math.floor(tokens))
+            tokens = tokens - granted
+            local retry_after = 0
+            if granted == 0 then
+                retry_after = math.ceil((1 - tokens) / refill_per_ms)
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(ts))
+            redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / refill_per_ms) + 1000)
+            return {granted, retry_after}
+            """, List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Setter
+    @Value("${app.rate-limit.prefetch:10}")
+    private int prefetch;
+
+    @Setter
+    @Value("${app.rate-limit.local-lease-ms:1000}")
+    private long localLeaseMs;
+
+    @Setter
+    @Value("${app.rate-limit.local-max-keys:100000}")
+    private long localMaxKeys;
+
+    private Cache<String, AtomicInteger> localPermits;
+
+    @PostConstruct
+    public void init() {
+        localPermits = Caffeine.newBuilder()
+                .maximumSize(localMaxKeys)
+                .expireAfterWrite(Duration.ofMillis(localLeaseMs))
+                .build();
+    }
+
+    public RateLimitDecision tryAcquire(RateLimitPolicy policy, String key) {
+        String bucketKey = KEY_PREFIX + policy.getName() + ":" + key;
+
+        AtomicInteger local = localPermits.getIfPresent(bucketKey);
+        if (local != null && local.getAndUpdate(remaining -> remaining > 0 ? remaining - 1 : 0) > 0) {
+            record(policy, "allowed", "local");
+            return RateLimitDecision.ALLOWED;
+        }
+
+        // Small buckets get no prefetch so a handful of nodes cannot hoard a login quota between them.
+        int batch = (int) Math.max(1, Math.min(prefetch, policy.getCapacity() / 10));
+        List<?> result;
+        try {
+            result = redisTemplate.execute(TOKEN_BUCKET_SCRIPT, List.of(bucketKey),
+                    String.valueOf(policy.getCapacity()),
+                    String.valueOf(policy.getRefillPerMinute() / 60_000.0),
+                    String.valueOf(batch));
+        } catch (Exception e) {
+            log.warn("Rate limiter unavailable for {}, allowing request: {}", policy.getName(), e.getMessage());
+            record(policy, "error", "redis");
+            return RateLimitDecision.ALLOWED;
+        }
+        if (result == null || result.size() < 2) {
+            record(policy, "error", "redis");
+            return RateLimitDecision.ALLOWED;
+        }
+
+        long granted = ((Number) result.get(0)).longValue();
+        if (granted > 0) {
+            if (granted > 1) {
+                localPermits.put(bucketKey, new AtomicInteger((int) granted - 1));
+            }
+            record(policy, "allowed", "redis");
+            return RateLimitDecision.ALLOWED;
+        }
+        record(policy, "rejected", "redis");
+        return new RateLimitDecision(false, ((Number) result.get(1)).longValue());
+    }
+
+    private void record(RateLimitPolicy policy, String outcome, String source) {
+        meterRegistry.counter("rate.limit.decisions",
+                "policy", policy.getName(), "outcome", outcome, "source", source).increment();
+    }
+}
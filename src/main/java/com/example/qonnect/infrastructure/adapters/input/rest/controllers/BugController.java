@@ -4,6 +4,8 @@ import com.example.qonnect.application.input.BugUseCase;
 import com.example.qonnect.domain.models.Bug;
 import com.example.qonnect.domain.models.User;
 import com.example.qonnect.infrastructure.adapters.input.rest.data.responses.AssignBugResponse;
+import com.example.qonnect.infrastructure.adapters.input.rest.data.responses.CursorPageResponse;
+import com.example.qonnect.infrastructure.adapters.input.rest.mapper.CursorMapper;
 import com.example.qonnect.infrastructure.adapters.input.rest.mapper.BugRestMapper;
 import com.example.qonnect.infrastructure.adapters.input.rest.data.requests.UpdateBugRequest;
 import com.example.qonnect.infrastructure.adapters.input.rest.data.responses.BugResponse;
@@ -28,6 +30,7 @@ import org.springframework.web.bind.annotation.*;
 public class BugController {
 
     private final BugUseCase bugUseCase;
+    private final CursorMapper cursorMapper;
     private final BugRestMapper bugRestMapper;
 
     @Operation(summary = "Get Bug by ID", description = "Get a bug using its ID and the task it belongs to.")
@@ -160,6 +163,68 @@ public class BugController {
         return ResponseEntity.ok(bugs.map(bugRestMapper::toResponse));
     }
 
+    @Operation(summary = "Get Bugs in a Project by cursor", description = "Retrieve bugs from a project newest first, continuing after the given cursor.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Bugs retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    @GetMapping("/project/{projectId}/cursor")
+    public ResponseEntity<CursorPageResponse<BugResponse>> getBugsInProjectByCursor(
+            @AuthenticationPrincipal User user,
+            @PathVariable Long projectId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        Slice<Bug> bugs = bugUseCase.getBugsInAProjectAfter(user, projectId, cursorMapper.decode(cursor), cursorMapper.clampSize(size));
+        return ResponseEntity.ok(cursorMapper.toResponse(bugs, bugRestMapper::toResponse, Bug::getCreatedAt, Bug::getId));
+    }
+
+    @Operation(summary = "Get Bugs in a Task by cursor", description = "Retrieve bugs from a task newest first, continuing after the given cursor.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Bugs retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    @GetMapping("/task/{taskId}/cursor")
+    public ResponseEntity<CursorPageResponse<BugResponse>> getBugsInTaskByCursor(
+            @AuthenticationPrincipal User user,
+            @PathVariable Long taskId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        Slice<Bug> bugs = bugUseCase.getBugsInATaskAfter(user, taskId, cursorMapper.decode(cursor), cursorMapper.clampSize(size));
+        return ResponseEntity.ok(cursorMapper.toResponse(bugs, bugRestMapper::toResponse, Bug::getCreatedAt, Bug::getId));
+    }
+
+    @Operation(summary = "Get Bugs assigned to a user by cursor", description = "Retrieve bugs assigned to a user newest first, continuing after the given cursor.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Bugs retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    @GetMapping("/user/{userId}/cursor")
+    public ResponseEntity<CursorPageResponse<BugResponse>> getBugsByUserIdByCursor(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        Slice<Bug> bugs = bugUseCase.getBugsByAssignedToIdAfter(userId, cursorMapper.decode(cursor), cursorMapper.clampSize(size));
+        return ResponseEntity.ok(cursorMapper.toResponse(bugs, bugRestMapper::toResponse, Bug::getCreatedAt, Bug::getId));
+    }
+
+    @Operation(summary = "Get Bugs created by a User by cursor", description = "Retrieve bugs created by a user newest first, continuing after the given cursor.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Bugs retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    @GetMapping("/user/creator/{userId}/cursor")
+    public ResponseEntity<CursorPageResponse<BugResponse>> getBugsByCreatorIdByCursor(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        Slice<Bug> bugs = bugUseCase.getBugsByCreatedByIdAfter(userId, cursorMapper.decode(cursor), cursorMapper.clampSize(size));
+        return ResponseEntity.ok(cursorMapper.toResponse(bugs, bugRestMapper::toResponse, Bug::getCreatedAt, Bug::getId));
+    }
+
     @Operation(summary = "Report a new bug", description = "Allows a QA Engineer or user to report a bug in a project.")
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "Bug reported successfully"),
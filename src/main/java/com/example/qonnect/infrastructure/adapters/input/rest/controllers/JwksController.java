@@ -0,0 +1,31 @@
+package com.example.qonnect.infrastructure.adapters.input.rest.controllers;
+
+import com.example.qonnect.infrastructure.adapters.config.security.LocalSigningKey;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.identity.provider", havingValue = "local")
+@Tag(name = "JWKS", description = "Public keys for tokens issued by the local identity provider")
+public class JwksController {
+
+    private final LocalSigningKey localSigningKey;
+
+    @Operation(summary = "JSON Web Key Set", description = "Returns the public keys used to sign local access tokens")
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                .body(localSigningKey.publicJwkSet().toJSONObject());
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.qonnect.infrastructure.adapters.input.rest.controllers;
 
 
+import com.example.qonnect.application.input.BulkInviteUserUseCase;
 import com.example.qonnect.application.input.InviteUserUseCase;
 import com.example.qonnect.application.input.RegisterOrganizationAdminUseCase;
 import com.example.qonnect.application.input.RemoveUserFromAnOrganizationUseCase;
@@ -8,29 +9,44 @@ import com.example.qonnect.application.input.ViewUserUserCase;
 import com.example.qonnect.domain.exceptions.IdentityManagementException;
 import com.example.qonnect.domain.exceptions.OrganizationAlreadyExistsException;
 import com.example.qonnect.domain.exceptions.UserAlreadyExistException;
+import com.example.qonnect.domain.models.Invitation;
 import com.example.qonnect.domain.models.Organization;
+import com.example.qonnect.domain.models.enums.InvitationStatus;
 import com.example.qonnect.domain.models.User;
+import com.example.qonnect.infrastructure.adapters.input.rest.data.requests.BulkInviteRequest;
 import com.example.qonnect.infrastructure.adapters.input.rest.data.requests.InviteUserRequest;
 import com.example.qonnect.infrastructure.adapters.input.rest.data.requests.RegisterOrganizationAdminRequest;
+import com.example.qonnect.infrastructure.adapters.input.rest.data.responses.BulkInviteResponse;
 import com.example.qonnect.infrastructure.adapters.input.rest.data.responses.RegisterOrganizationAdminResponse;
 import com.example.qonnect.infrastructure.adapters.input.rest.data.responses.UserResponse;
 import com.example.qonnect.infrastructure.adapters.input.rest.mapper.OrganizationRestMapper;
+import com.example.qonnect.infrastructure.adapters.input.rest.messages.ErrorMessages;
 import com.example.qonnect.infrastructure.adapters.output.mapper.UserMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/organizations")
 @RequiredArgsConstructor
@@ -41,10 +57,14 @@ public class OrganizationController {
     private final RegisterOrganizationAdminUseCase registerOrganizationAdminUseCase;
     private final OrganizationRestMapper organizationRestMapper;
     private final InviteUserUseCase inviteUserUseCase;
+    private final BulkInviteUserUseCase bulkInviteUserUseCase;
     private final RemoveUserFromAnOrganizationUseCase removeUserFromAnOrganizationUserCase;
     private final ViewUserUserCase viewUserUserCase;
     private final UserMapper userMapper;
 
+    @Value("${app.invite.bulk.max-rows:5000}")
+    private int bulkInviteMaxRows;
+
     @Operation(summary = "Register organization and admin",
             description = "Creates a new organization and registers the requesting user as the admin")
     @ApiResponses({
@@ -85,6 +105,66 @@ public class OrganizationController {
         return ResponseEntity.ok("Invitation sent successfully.");
     }
 
+    @Operation(summary = "Bulk invite users from JSON",
+            description = "Invites a list of (email, role) pairs and returns a per-row result report")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Invitations processed"),
+            @ApiResponse(responseCode = "400", description = "Empty or oversized invite list"),
+            @ApiResponse(responseCode = "403", description = "Unauthorized to invite")
+    })
+    @PostMapping(value = "/invite/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkInviteResponse> bulkInviteUsers(
+            @AuthenticationPrincipal User inviter,
+            @RequestBody List<BulkInviteRequest> request
+    ) {
+        List<Invitation> invitations = new ArrayList<>(request.size());
+        for (int i = 0; i < request.size(); i++) {
+            Invitation invitation = organizationRestMapper.toInvitation(request.get(i));
+            invitation.setRow(i + 1);
+            invitations.add(invitation);
+        }
+        return ResponseEntity.ok(toBulkInviteResponse(bulkInviteUserUseCase.inviteUsers(inviter, invitations)));
+    }
+
+    @Operation(summary = "Bulk invite users from CSV",
+            description = "Streams an email,role CSV (header optional) and returns a per-row result report")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Invitations processed"),
+            @ApiResponse(responseCode = "400", description = "Empty or oversized invite list"),
+            @ApiResponse(responseCode = "403", description = "Unauthorized to invite")
+    })
+    @PostMapping(value = "/invite/bulk", consumes = "text/csv")
+    public ResponseEntity<BulkInviteResponse> bulkInviteUsersFromCsv(
+            @AuthenticationPrincipal User inviter,
+            InputStream body
+    ) throws IOException {
+        List<Invitation> invitations = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            int row = 0;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || (row == 0 && line.trim().toLowerCase().startsWith("email"))) {
+                    continue;
+                }
+                if (row == bulkInviteMaxRows) {
+                    throw new IllegalArgumentException(ErrorMessages.bulkInviteTooLarge(bulkInviteMaxRows));
+                }
+                String[] columns = line.split(",", -1);
+                invitations.add(Invitation.builder()
+                        .row(++row)
+                        .email(columns[0].trim())
+                        .role(columns.length > 1 ? columns[1].trim() : null)
+                        .build());
+            }
+        }
+        return ResponseEntity.ok(toBulkInviteResponse(bulkInviteUserUseCase.inviteUsers(inviter, invitations)));
+    }
+
+    private BulkInviteResponse toBulkInviteResponse(List<Invitation> invitations) {
+        long invited = invitations.stream().filter(invitation -> invitation.getStatus() == InvitationStatus.INVITED).count();
+        return new BulkInviteResponse(invitations.size(), invited, organizationRestMapper.toBulkInviteRows(invitations));
+    }
+
     @Operation(summary = "Remove user from organization",
             description = "Allows an admin to remove a user from their organization")
     @ApiResponses({
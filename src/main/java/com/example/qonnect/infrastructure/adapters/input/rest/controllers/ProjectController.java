@@ -1,13 +1,18 @@
 package com.example.qonnect.infrastructure.adapters.input.rest.controllers;
 
 import com.example.qonnect.application.input.AssignUserToProjectUseCase;
+import com.example.qonnect.application.input.ProjectSummaryUseCase;
 import com.example.qonnect.application.input.ProjectUseCase;
 import com.example.qonnect.domain.models.Project;
 import com.example.qonnect.domain.models.User;
+import com.example.qonnect.infrastructure.adapters.input.rest.data.requests.ProjectMembersRequest;
 import com.example.qonnect.infrastructure.adapters.input.rest.data.requests.UpdateProjectRequest;
 import com.example.qonnect.infrastructure.adapters.input.rest.data.responses.ProjectCreationResponse;
+import com.example.qonnect.infrastructure.adapters.input.rest.data.responses.ProjectMembershipResponse;
 import com.example.qonnect.infrastructure.adapters.input.rest.data.responses.ProjectResponse;
+import com.example.qonnect.infrastructure.adapters.input.rest.data.responses.ProjectSummaryResponse;
 import com.example.qonnect.infrastructure.adapters.input.rest.data.responses.UserResponse;
+import com.example.qonnect.infrastructure.adapters.input.rest.mapper.CursorMapper;
 import com.example.qonnect.infrastructure.adapters.input.rest.mapper.ProjectRestMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -23,7 +28,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -34,6 +38,8 @@ public class ProjectController {
     private final ProjectUseCase projectUseCase;
     private final ProjectRestMapper projectRestMapper;
     private final AssignUserToProjectUseCase assignUserToProjectUseCase;
+    private final ProjectSummaryUseCase projectSummaryUseCase;
+    private final CursorMapper cursorMapper;
 
     @Operation(summary = "Create Project", description = "Allows an admin to create a new project in their organization.")
     @ApiResponses({
@@ -62,7 +68,7 @@ public class ProjectController {
             @RequestParam(defaultValue = "0", name = "page") int page,
             @RequestParam(defaultValue = "10", name = "size") int size
     ) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+        Pageable pageable = PageRequest.of(page, cursorMapper.clampSize(size), Sort.by(Sort.Direction.DESC, "createdAt"));
         Page<Project> projects = projectUseCase.getAllProjects(user.getOrganization().getId(), pageable);
         Page<ProjectResponse> responses = projects.map(projectRestMapper::toProjectResponse);
         return ResponseEntity.ok(responses);
@@ -84,6 +90,19 @@ public class ProjectController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "Get Project Summary", description = "Bug and task counts for a project, served from maintained counters.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Summary retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Project not found")
+    })
+    @GetMapping("/{projectId}/summary")
+    public ResponseEntity<ProjectSummaryResponse> getProjectSummary(
+            @AuthenticationPrincipal User user,
+            @PathVariable Long projectId
+    ) {
+        return ResponseEntity.ok(projectRestMapper.toSummaryResponse(projectSummaryUseCase.getProjectSummary(user, projectId)));
+    }
+
     @Operation(summary = "Assign user to project", description = "Assigns a user to a specific project. Only admins can perform this action.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "User assigned successfully"),
@@ -159,7 +178,7 @@ public class ProjectController {
 
     @Operation(
             summary = "Get all users in a project",
-            description = "Returns a list of all users assigned to the specified project. Only project members can view this."
+            description = "Returns a page of the users assigned to the specified project. Only project members can view this."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Users retrieved successfully"),
@@ -167,15 +186,49 @@ public class ProjectController {
             @ApiResponse(responseCode = "403", description = "Access denied (user is not part of the project)")
     })
     @GetMapping("/{projectId}/users")
-    public ResponseEntity<List<UserResponse>> getAllUsersInProject(
+    public ResponseEntity<Page<UserResponse>> getAllUsersInProject(
             @AuthenticationPrincipal User user,
-            @PathVariable Long projectId
+            @PathVariable Long projectId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
     ) {
-        List<User> users = projectUseCase.getAllUsersInAProject(user, projectId);
-        List<UserResponse> response = users.stream()
-                .map(projectRestMapper::toUserResponse)
-                .toList();
-        return ResponseEntity.ok(response);
+        Pageable pageable = PageRequest.of(page, cursorMapper.clampSize(size), Sort.by("id"));
+        Page<User> users = projectUseCase.getAllUsersInAProject(user, projectId, pageable);
+        return ResponseEntity.ok(users.map(projectRestMapper::toUserResponse));
+    }
+
+    @Operation(summary = "Assign users to project", description = "Adds many users of the project's organization in one statement. Users already assigned or outside the organization are skipped. Only admins can perform this action.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Users assigned; the response reports how many were added"),
+            @ApiResponse(responseCode = "400", description = "Empty or oversized user list"),
+            @ApiResponse(responseCode = "403", description = "Access denied (not an admin)"),
+            @ApiResponse(responseCode = "404", description = "Project not found")
+    })
+    @PostMapping("/{projectId}/assign/bulk")
+    public ResponseEntity<ProjectMembershipResponse> assignUsersToProject(
+            @AuthenticationPrincipal User performingUser,
+            @PathVariable Long projectId,
+            @Valid @RequestBody ProjectMembersRequest request
+    ) {
+        int added = projectUseCase.addUsersToProject(performingUser, projectId, request.getUserIds());
+        return ResponseEntity.ok(new ProjectMembershipResponse(projectId, request.getUserIds().size(), added));
+    }
+
+    @Operation(summary = "Remove users from project", description = "Removes many users from a project in one statement. Only admins can perform this action.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Users removed; the response reports how many were removed"),
+            @ApiResponse(responseCode = "400", description = "Empty or oversized user list"),
+            @ApiResponse(responseCode = "403", description = "Access denied (not an admin)"),
+            @ApiResponse(responseCode = "404", description = "Project not found")
+    })
+    @PostMapping("/{projectId}/remove/bulk")
+    public ResponseEntity<ProjectMembershipResponse> removeUsersFromProject(
+            @AuthenticationPrincipal User performingUser,
+            @PathVariable Long projectId,
+            @Valid @RequestBody ProjectMembersRequest request
+    ) {
+        int removed = projectUseCase.removeUsersFromProject(performingUser, projectId, request.getUserIds());
+        return ResponseEntity.ok(new ProjectMembershipResponse(projectId, request.getUserIds().size(), removed));
     }
 
 
@@ -2,10 +2,14 @@ package com.example.qonnect.infrastructure.adapters.input.rest.controllers;
 
 import com.example.qonnect.application.input.*;
 import com.example.qonnect.domain.models.Task;
+import com.example.qonnect.domain.models.TaskFilter;
 import com.example.qonnect.domain.models.User;
+import com.example.qonnect.domain.models.enums.TaskStatus;
 import com.example.qonnect.infrastructure.adapters.input.rest.data.requests.CreateTaskRequest;
 import com.example.qonnect.infrastructure.adapters.input.rest.data.requests.UpdateTaskRequest;
+import com.example.qonnect.infrastructure.adapters.input.rest.data.responses.CursorPageResponse;
 import com.example.qonnect.infrastructure.adapters.input.rest.data.responses.TaskResponse;
+import com.example.qonnect.infrastructure.adapters.input.rest.mapper.CursorMapper;
 
 import com.example.qonnect.infrastructure.adapters.input.rest.mapper.TaskRestMapper;
 import io.swagger.v3.oas.annotations.Operation;
@@ -16,11 +20,15 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -38,6 +46,7 @@ public class TaskController {
     private final ViewATaskUseCase viewATaskUseCase;
     private final AssignTaskUseCase assignTaskUseCase;
     private final ViewAllUserTaskUseCase viewAllUserTaskUseCase;
+    private final CursorMapper cursorMapper;
 
     @Operation(summary = "Create Task", description = "Create a new task within the user's organization")
     @ApiResponses({
@@ -90,21 +99,33 @@ public class TaskController {
         return ResponseEntity.ok(taskRestMapper.toTaskResponse(updated));
     }
 
-    @Operation(summary = "Get All Tasks in Project", description = "View all tasks in a specific project")
+    @Operation(summary = "Get All Tasks in Project", description = "View paginated tasks in a specific project, optionally filtered by status, assignee and due date range")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid due date range"),
             @ApiResponse(responseCode = "403", description = "Access denied")
     })
     @GetMapping("/{projectId}/tasks")
-    public ResponseEntity<List<TaskResponse>> viewAllTasks(
+    public ResponseEntity<Page<TaskResponse>> viewAllTasks(
             @AuthenticationPrincipal User user,
-            @PathVariable Long projectId
+            @PathVariable Long projectId,
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) Long assigneeId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueTo,
+            @RequestParam(defaultValue = "false") boolean includeBugCount,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
     ) {
-        List<Task> tasks = viewAllTaskInAProjectUseCase.getAllTasksInProject(user, projectId);
-        List<TaskResponse> responseList = tasks.stream()
-                .map(taskRestMapper::toTaskResponse)
-                .toList();
-        return ResponseEntity.ok(responseList);
+        TaskFilter filter = TaskFilter.builder()
+                .status(status)
+                .assignedToId(assigneeId)
+                .dueFrom(dueFrom)
+                .dueTo(dueTo)
+                .build();
+        Pageable pageable = PageRequest.of(page, cursorMapper.clampSize(size), Sort.by(Sort.Direction.DESC, "createdAt", "id"));
+        Page<Task> tasks = viewAllTaskInAProjectUseCase.getAllTasksInProject(user, projectId, filter, includeBugCount, pageable);
+        return ResponseEntity.ok(tasks.map(taskRestMapper::toTaskResponse));
     }
 
     @Operation(summary = "Get Task in Project", description = "View a specific task in a project by ID")
@@ -167,8 +188,7 @@ public class TaskController {
             @RequestParam(defaultValue = "10") int size
     ) {
         if (page < 0) page = 0;
-        if (size < 0) size = 10;
-        Pageable pageable = PageRequest.of(page, size);
+        Pageable pageable = PageRequest.of(page, cursorMapper.clampSize(size));
         Page<Task> tasks = viewAllUserTaskUseCase.getTasksByUserId(userId, pageable);
 
         List<TaskResponse> responseList = tasks.getContent().stream()
@@ -177,6 +197,21 @@ public class TaskController {
 
         return ResponseEntity.ok(responseList);
     }
+
+    @Operation(summary = "Get Tasks by User by cursor", description = "Retrieve tasks assigned to a user newest first, continuing after the given cursor")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    @GetMapping("/users/{userId}/cursor")
+    public ResponseEntity<CursorPageResponse<TaskResponse>> getTasksByUserIdByCursor(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        Slice<Task> tasks = viewAllUserTaskUseCase.getTasksByUserIdAfter(userId, cursorMapper.decode(cursor), cursorMapper.clampSize(size));
+        return ResponseEntity.ok(cursorMapper.toResponse(tasks, taskRestMapper::toTaskResponse, Task::getCreatedAt, Task::getId));
+    }
 }
 
 
@@ -0,0 +1,13 @@
+package com.example.qonnect.infrastructure.adapters.input.rest.data.requests;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class BulkInviteRequest {
+
+    private String email;
+
+    private String role;
+}
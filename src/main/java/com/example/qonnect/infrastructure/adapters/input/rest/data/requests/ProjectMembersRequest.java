@@ -0,0 +1,17 @@
+package com.example.qonnect.infrastructure.adapters.input.rest.data.requests;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class ProjectMembersRequest {
+    @NotEmpty(message = "At least one user id is required")
+    @Size(max = 500, message = "At most 500 users can be changed at once")
+    private List<@NotNull Long> userIds;
+}
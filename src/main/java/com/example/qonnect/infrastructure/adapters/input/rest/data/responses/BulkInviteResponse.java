@@ -0,0 +1,16 @@
+package com.example.qonnect.infrastructure.adapters.input.rest.data.responses;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkInviteResponse {
+    private int total;
+    private long invited;
+    private List<BulkInviteRowResponse> results;
+}
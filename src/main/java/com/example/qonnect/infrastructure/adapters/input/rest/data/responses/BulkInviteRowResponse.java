@@ -0,0 +1,12 @@
+package com.example.qonnect.infrastructure.adapters.input.rest.data.responses;
+
+import lombok.Data;
+
+@Data
+public class BulkInviteRowResponse {
+    private int row;
+    private String email;
+    private String role;
+    private String status;
+    private String message;
+}
@@ -0,0 +1,14 @@
+package com.example.qonnect.infrastructure.adapters.input.rest.data.responses;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectMembershipResponse {
+    private Long projectId;
+    private int requested;
+    private int changed;
+}
@@ -0,0 +1,19 @@
+package com.example.qonnect.infrastructure.adapters.input.rest.data.responses;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectSummaryResponse {
+    private Long projectId;
+    private long totalBugs;
+    private long totalTasks;
+    private Map<String, Long> bugsByStatus;
+    private Map<String, Map<String, Long>> bugsByStatusAndSeverity;
+    private Map<String, Long> tasksByStatus;
+}
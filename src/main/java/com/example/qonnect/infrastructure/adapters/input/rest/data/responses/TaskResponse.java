@@ -13,6 +13,10 @@ public class TaskResponse {
     private String title;
     private String description;
     private TaskStatus status;
+    private Long projectId;
+    private Long assignedToId;
+    private LocalDateTime dueDate;
+    private Long bugCount;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
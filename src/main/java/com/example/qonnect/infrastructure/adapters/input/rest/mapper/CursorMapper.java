@@ -0,0 +1,59 @@
+package com.example.qonnect.infrastructure.adapters.input.rest.mapper;
+
+import com.example.qonnect.domain.models.KeysetCursor;
+import com.example.qonnect.infrastructure.adapters.input.rest.data.responses.CursorPageResponse;
+import com.example.qonnect.infrastructure.adapters.input.rest.messages.ErrorMessages;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Encodes listing positions as opaque url-safe tokens of the form {@code base64(createdAt|id)}.
+ */
+@Component
+public class CursorMapper {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final String SEPARATOR = "|";
+
+    public KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int split = raw.lastIndexOf(SEPARATOR);
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, split)), Long.parseLong(raw.substring(split + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException(ErrorMessages.INVALID_CURSOR);
+        }
+    }
+
+    public String encode(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public int clampSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+
+    public <T, R> CursorPageResponse<R> toResponse(Slice<T> slice,
+                                                   Function<T, R> mapper,
+                                                   Function<T, LocalDateTime> createdAt,
+                                                   Function<T, Long> id) {
+        List<T> content = slice.getContent();
+        String next = null;
+        if (slice.hasNext() && !content.isEmpty()) {
+            T last = content.get(content.size() - 1);
+            next = encode(createdAt.apply(last), id.apply(last));
+        }
+        return new CursorPageResponse<>(content.stream().map(mapper).toList(), next, slice.hasNext());
+    }
+}
@@ -1,13 +1,18 @@
 package com.example.qonnect.infrastructure.adapters.input.rest.mapper;
 
+import com.example.qonnect.domain.models.Invitation;
 import com.example.qonnect.domain.models.Organization;
 import com.example.qonnect.domain.models.User;
+import com.example.qonnect.infrastructure.adapters.input.rest.data.requests.BulkInviteRequest;
 import com.example.qonnect.infrastructure.adapters.input.rest.data.requests.RegisterOrganizationAdminRequest;
+import com.example.qonnect.infrastructure.adapters.input.rest.data.responses.BulkInviteRowResponse;
 import com.example.qonnect.infrastructure.adapters.input.rest.data.responses.RegisterOrganizationAdminResponse;
 import jakarta.validation.Valid;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
+import java.util.List;
+
 @Mapper(componentModel = "spring")
 public interface OrganizationRestMapper {
 
@@ -22,4 +27,11 @@ public interface OrganizationRestMapper {
     @Mapping(target = "message",   constant = "Organization and admin user registered successfully.")
     RegisterOrganizationAdminResponse toRegisterResponse(User registeredAdmin, Organization org);
 
+    @Mapping(target = "row", ignore = true)
+    @Mapping(target = "status", ignore = true)
+    @Mapping(target = "message", ignore = true)
+    Invitation toInvitation(BulkInviteRequest request);
+
+    List<BulkInviteRowResponse> toBulkInviteRows(List<Invitation> invitations);
+
 }
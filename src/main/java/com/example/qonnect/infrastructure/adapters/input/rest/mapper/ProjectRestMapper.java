@@ -1,11 +1,13 @@
 package com.example.qonnect.infrastructure.adapters.input.rest.mapper;
 
 import com.example.qonnect.domain.models.Project;
+import com.example.qonnect.domain.models.ProjectSummary;
 import com.example.qonnect.domain.models.User;
 import com.example.qonnect.infrastructure.adapters.input.rest.data.requests.CreateProjectRequest;
 import com.example.qonnect.infrastructure.adapters.input.rest.data.requests.UpdateProjectRequest;
 import com.example.qonnect.infrastructure.adapters.input.rest.data.responses.ProjectCreationResponse;
 import com.example.qonnect.infrastructure.adapters.input.rest.data.responses.ProjectResponse;
+import com.example.qonnect.infrastructure.adapters.input.rest.data.responses.ProjectSummaryResponse;
 import com.example.qonnect.infrastructure.adapters.input.rest.data.responses.UserResponse;
 import jakarta.validation.Valid;
 import org.mapstruct.Mapper;
@@ -25,4 +27,6 @@ public interface ProjectRestMapper {
 
     Project toProject(@Valid UpdateProjectRequest request);
     UserResponse toUserResponse(User user);
+
+    ProjectSummaryResponse toSummaryResponse(ProjectSummary summary);
 }
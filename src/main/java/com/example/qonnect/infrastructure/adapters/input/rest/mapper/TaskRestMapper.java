@@ -15,6 +15,7 @@ public interface TaskRestMapper {
 
     Task toTask(UpdateTaskRequest updateTaskRequest);
 
+    @Mapping(target = "assignedToId", source = "assignedTo.id")
     TaskResponse toTaskResponse(Task task);
 
     void updateTaskFromRequest(UpdateTaskRequest request, @MappingTarget Task task);
@@ -21,6 +21,7 @@ public class ErrorMessages {
     public static final String EMPTY_ROLE = "Role cannot be empty";
     public static final String INVALID_ROLE = "Invalid role";
     public static final String INVALID_OTP = "Invalid otp";
+    public static final String INVALID_CURSOR = "Invalid or expired page cursor";
     public static final String INCORRECT_OLD_PASSWORD = "Old password is incorrect";
     public static final String NEW_PASSWORD_SAME_AS_OLD = "New password must be different from the old password";
     public static final String ACCESS_DENIED = "You are not permitted to created  project";
@@ -33,8 +34,10 @@ public class ErrorMessages {
     public static final String USER_ALREADY_ASSIGNED_TO_PROJECT ="User is already assigned to the project" ;
     public static final String TASK_NOT_FOUND = "Task not found";
     public static final String TASK_ALREADY_EXISTS = "Task already exist";
+    public static final String BUG_ALREADY_EXISTS = "Bug with this title already exists in the project";
     public static final String TASK_NOT_FOUND_IN_PROJECT = "Task not found in project";
     public static final String DUE_DATE_INVALID = "Due date cannot be in the past";
+    public static final String DUE_DATE_RANGE_INVALID = "dueFrom must not be after dueTo";
     public static final String ACCESS_DENIED_TO_VIEW_TASK = "You are not permitted to view task";
     public static final String ACCESS_DENIED_TO_ORGANIZATION = "You don't belong to this organization";
     public static final String ONLY_DEVELOPER_CAN_BE_ASSIGNED_TASK = "Only developer can be assigned task";
@@ -46,6 +49,14 @@ public class ErrorMessages {
     public static final String BUG_STATUS_IS_REQUIRED = "Bug status is required";
     public static final String ACCESS_DENIED_TO_REPORT_BUG = "Only QA can report bug";
     public static final String ACCESS_DENIED_TO_ASSIGN_BUG = "Only Admins or QA Engineers can assign bugs";
+    public static final String TOKEN_SIGNING_FAILED = "Failed to issue access token";
+    public static final String TOO_MANY_REQUESTS = "Too many requests, please try again shortly";
+    public static final String DUPLICATE_INVITE = "Email appears more than once in this request";
+    public static final String EMPTY_INVITE_LIST = "Invite list cannot be empty";
+
+    public static String bulkInviteTooLarge(int maxRows) {
+        return "Bulk invite cannot exceed " + maxRows + " rows";
+    }
 
 
     public static String roleNotFound(String roleName) {
@@ -15,7 +15,6 @@ import jakarta.ws.rs.core.Response;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.keycloak.admin.client.Keycloak;
-import org.keycloak.admin.client.KeycloakBuilder;
 import org.keycloak.admin.client.resource.RolesResource;
 import org.keycloak.admin.client.resource.UserResource;
 import org.keycloak.admin.client.resource.UsersResource;
@@ -24,6 +23,7 @@ import org.keycloak.representations.idm.CredentialRepresentation;
 import org.keycloak.representations.idm.RoleRepresentation;
 import org.keycloak.representations.idm.UserRepresentation;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
@@ -33,12 +33,15 @@ import org.springframework.web.client.RestTemplate;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.example.qonnect.domain.validators.InputValidator.validateInput;
 
 
 @Service
+@ConditionalOnProperty(name = "app.identity.provider", havingValue = "keycloak", matchIfMissing = true)
 @Slf4j
 @RequiredArgsConstructor
 public class KeycloakAdapter implements IdentityManagementOutputPort {
@@ -50,9 +53,6 @@ public class KeycloakAdapter implements IdentityManagementOutputPort {
     @Value("${keycloak.client-id}")
     private String clientId;
 
-    @Value("${keycloak.server-url}")
-    private String serverUrl;
-
     @Value("${app.keycloak.tokenUrl}")
     private String tokenUrl;
 
@@ -71,22 +71,18 @@ public class KeycloakAdapter implements IdentityManagementOutputPort {
 
     private final RestTemplate restTemplate;
 
+    private final Map<String, RoleRepresentation> roleCache = new ConcurrentHashMap<>();
+
 
     @Override
     public User createUser(User user) throws IdentityManagementException, UserAlreadyExistException {
-        if (doesUserExist(user.getEmail())) {
-            throw new UserAlreadyExistException(ErrorMessages.USER_EXISTS_ALREADY, HttpStatus.CONFLICT);
-        }
+        validateInput(user.getEmail());
         UserRepresentation userRepresentation = createUserRepresentation(user);
-        log.info("Using realm: {}", keycloak.realm(realm).toRepresentation().getRealm());
         try (Response response = getUserResource().create(userRepresentation)) {
-            log.info("Keycloak user creation response status: {}, body: {}", response.getStatus(), response.readEntity(String.class));
-            log.info("Sent to Keycloak: {}", userRepresentation);
+            log.info("Keycloak user creation response status: {}", response.getStatus());
 
             if (response.getStatus() == Response.Status.CREATED.getStatusCode()) {
                 String userId = response.getLocation().getPath().replaceAll(".*/([^/]+)$", "$1");
-                UserRepresentation createdUser = getUserById(userId).toRepresentation();
-                log.info("Created user enabled: {}, emailVerified: {}", createdUser.isEnabled(), createdUser.isEmailVerified());
                 assignRole(userId, user.getRole().name());
                 user.setKeycloakId(userId);
                 return user;
@@ -102,11 +98,22 @@ public class KeycloakAdapter implements IdentityManagementOutputPort {
         }
     }
 
-
+    @Override
+    public User assignRole(User user) throws IdentityManagementException, UserNotFoundException {
+        String userId = findUserByUsername(user.getEmail()).getId();
+        String role = user.getRole().name();
+        boolean assigned = getUserById(userId).roles().realmLevel().listAll().stream()
+                .anyMatch(existing -> role.equals(existing.getName()));
+        if (!assigned) {
+            assignRole(userId, role);
+        }
+        user.setKeycloakId(userId);
+        return user;
+    }
 
     private UserRepresentation findUserByUsername(String username) throws UserNotFoundException {
-        List<UserRepresentation> userUsername = getUserResource().search(username);
-        if(userUsername == null) {
+        List<UserRepresentation> userUsername = getUserResource().search(username, true);
+        if(userUsername == null || userUsername.isEmpty()) {
             throw new UserNotFoundException(ErrorMessages.USER_NOT_FOUND, HttpStatus.NOT_FOUND);
         }
         return userUsername.get(0);
@@ -115,7 +122,7 @@ public class KeycloakAdapter implements IdentityManagementOutputPort {
 
     private void assignRole(String userId, String role) throws IdentityManagementException {
         UserResource usersResource = getUserById(userId);
-        RoleRepresentation roleRepresentation = getRolesResource().get(role).toRepresentation();
+        RoleRepresentation roleRepresentation = roleCache.computeIfAbsent(role, name -> getRolesResource().get(name).toRepresentation());
         if (roleRepresentation == null) {
             throw new IdentityManagementException(ErrorMessages.roleNotFound(role),HttpStatus.NOT_FOUND);
         }
@@ -158,13 +165,8 @@ public class KeycloakAdapter implements IdentityManagementOutputPort {
     @Override
     public boolean doesUserExist(String email) {
         validateInput(email);
-        List<UserRepresentation> userRepresentations = getUserResource().list();
-        for (UserRepresentation user : userRepresentations) {
-            if (user.getUsername().equals(email)) {
-                return true;
-            }
-        }
-        return false;
+        List<UserRepresentation> userRepresentations = getUserResource().search(email, true);
+        return userRepresentations != null && !userRepresentations.isEmpty();
     }
 
     @Override
@@ -245,11 +247,9 @@ public class KeycloakAdapter implements IdentityManagementOutputPort {
 
 
     public void changePassword(User userIdentity) {
-        Keycloak keycloak = getKeycloakAdmin();
-
         UserRepresentation user = keycloak.realm(realm)
                 .users()
-                .search(userIdentity.getEmail())
+                .search(userIdentity.getEmail(), true)
                 .stream()
                 .findFirst()
                 .orElseThrow(() -> new IdentityManagementException("User not found", HttpStatus.NOT_FOUND));
@@ -267,15 +267,6 @@ public class KeycloakAdapter implements IdentityManagementOutputPort {
 
 
 
-    private Keycloak getKeycloakAdmin() {
-        return KeycloakBuilder.builder()
-                .serverUrl(serverUrl)
-                .realm(realm)
-                .clientId(clientId)
-                .clientSecret(clientSecret)
-                .grantType("client_credentials")
-                .build();
-    }
 
 
 
@@ -0,0 +1,167 @@
+package com.example.qonnect.infrastructure.adapters.output.local;
+
+import com.example.qonnect.application.output.IdentityManagementOutputPort;
+import com.example.qonnect.application.output.UserOutputPort;
+import com.example.qonnect.domain.exceptions.AuthenticationException;
+import com.example.qonnect.domain.exceptions.UserNotFoundException;
+import com.example.qonnect.domain.models.User;
+import com.example.qonnect.infrastructure.adapters.config.security.LocalSigningKey;
+import com.example.qonnect.infrastructure.adapters.config.security.TokenBlacklistService;
+import com.example.qonnect.infrastructure.adapters.input.rest.messages.ErrorMessages;
+import com.nimbusds.jose.JOSEException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static com.example.qonnect.domain.validators.InputValidator.validateInput;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.identity.provider", havingValue = "local")
+public class LocalIdentityAdapter implements IdentityManagementOutputPort {
+
+    private static final String SCOPE = "openid email profile";
+
+    private final UserOutputPort userOutputPort;
+    private final LocalSigningKey localSigningKey;
+    private final TokenBlacklistService tokenBlacklistService;
+
+    @Setter
+    @Value("${app.identity.local.issuer:qonnect}")
+    private String issuer;
+
+    @Setter
+    @Value("${app.identity.local.access-token-ttl-seconds:300}")
+    private long accessTokenTtlSeconds;
+
+    @Setter
+    @Value("${app.identity.local.refresh-token-ttl-seconds:1800}")
+    private long refreshTokenTtlSeconds;
+
+    @Override
+    public User createUser(User user) {
+        validateInput(user.getEmail());
+        if (user.getKeycloakId() == null) {
+            user.setKeycloakId(UUID.randomUUID().toString());
+        }
+        log.info("Registered local identity for {}", user.getEmail());
+        return user;
+    }
+
+    @Override
+    public User assignRole(User user) {
+        // Roles live on the local user record; there is no separate identity to update.
+        return createUser(user);
+    }
+
+    @Override
+    public boolean doesUserExist(String email) {
+        return userOutputPort.userExistsByEmail(email);
+    }
+
+    @Override
+    public User login(User user) throws AuthenticationException {
+        Instant now = Instant.now();
+        String subject = user.getKeycloakId() != null ? user.getKeycloakId() : user.getEmail();
+        List<String> roles = user.getRole() == null ? List.of() : List.of(user.getRole().name());
+
+        try {
+            String accessToken = Jwts.builder()
+                    .header().keyId(localSigningKey.keyId()).type("JWT").and()
+                    .issuer(issuer)
+                    .subject(subject)
+                    .id(UUID.randomUUID().toString())
+                    .issuedAt(Date.from(now))
+                    .expiration(Date.from(now.plusSeconds(accessTokenTtlSeconds)))
+                    .claim("typ", "Bearer")
+                    .claim("email", user.getEmail())
+                    .claim("preferred_username", user.getEmail())
+                    .claim("scope", SCOPE)
+                    .claim("realm_access", Map.of("roles", roles))
+                    .signWith(localSigningKey.privateKey(), Jwts.SIG.RS256)
+                    .compact();
+
+            String refreshToken = Jwts.builder()
+                    .header().keyId(localSigningKey.keyId()).type("JWT").and()
+                    .issuer(issuer)
+                    .subject(subject)
+                    .id(UUID.randomUUID().toString())
+                    .issuedAt(Date.from(now))
+                    .expiration(Date.from(now.plusSeconds(refreshTokenTtlSeconds)))
+                    .claim("typ", "Refresh")
+                    .claim("email", user.getEmail())
+                    .signWith(localSigningKey.privateKey(), Jwts.SIG.RS256)
+                    .compact();
+
+            user.setAccessToken(accessToken);
+            user.setRefreshToken(refreshToken);
+            user.setScope(SCOPE);
+            user.setExpiresIn(accessTokenTtlSeconds);
+            user.setRefreshExpiresIn(refreshTokenTtlSeconds);
+            user.setTokenType("Bearer");
+            return user;
+        } catch (JOSEException e) {
+            log.error("Failed to load local signing key", e);
+            throw new AuthenticationException(ErrorMessages.TOKEN_SIGNING_FAILED, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @Override
+    public void deleteUser(User user) {
+        log.info("Local identity for {} is removed together with the user record", user.getEmail());
+    }
+
+    @Override
+    public Optional<User> getUserByEmail(String email) throws UserNotFoundException {
+        return Optional.of(userOutputPort.getUserByEmail(email));
+    }
+
+    @Override
+    public void changePassword(User user) {
+        log.info("Password for {} is stored locally, nothing to sync", user.getEmail());
+    }
+
+    @Override
+    public void resetPassword(User user) {
+        log.info("Password for {} is stored locally, nothing to sync", user.getEmail());
+    }
+
+    @Override
+    public void logout(User user, String refreshToken) {
+        try {
+            Claims claims = Jwts.parser()
+                    .verifyWith(localSigningKey.publicKey())
+                    .build()
+                    .parseSignedClaims(refreshToken)
+                    .getPayload();
+            long ttlSeconds = Duration.between(Instant.now(), claims.getExpiration().toInstant()).getSeconds();
+            if (claims.getId() != null && ttlSeconds > 0) {
+                tokenBlacklistService.blacklistToken(claims.getId(), ttlSeconds);
+            }
+            log.info("Logout success for user {}", user.getEmail());
+        } catch (JwtException | IllegalArgumentException | JOSEException e) {
+            log.error("Logout failed for user {}: {}", user.getEmail(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void activateUser(User user) {
+        log.info("Local identity for {} is activated with the user record", user.getEmail());
+    }
+}
@@ -1,16 +1,23 @@
 package com.example.qonnect.infrastructure.adapters.output.persistence.adapters;
 
 import com.example.qonnect.application.output.BugOutputPort;
+import com.example.qonnect.domain.exceptions.BugAlreadyExistsException;
 import com.example.qonnect.domain.exceptions.BugNotFoundException;
 import com.example.qonnect.domain.models.Bug;
+import com.example.qonnect.domain.models.KeysetCursor;
 import com.example.qonnect.infrastructure.adapters.input.rest.messages.ErrorMessages;
 import com.example.qonnect.infrastructure.adapters.output.persistence.entities.BugEntity;
 import com.example.qonnect.infrastructure.adapters.output.persistence.mappers.BugPersistenceMapper;
+import com.example.qonnect.infrastructure.adapters.output.persistence.projections.BugCounterKey;
 import com.example.qonnect.infrastructure.adapters.output.persistence.repositories.BugRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,6 +32,7 @@ public class BugPersistenceAdapter implements BugOutputPort {
 
     private final BugPersistenceMapper bugPersistenceMapper;
     private final BugRepository bugRepository;
+    private final ProjectCounterPersistenceAdapter projectCounterAdapter;
 
     @Override
     @Transactional(readOnly = true)
@@ -43,6 +51,13 @@ public class BugPersistenceAdapter implements BugOutputPort {
         return bug;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Bug> findBugInOrganization(Long id, Long taskId, Long organizationId) {
+        return bugRepository.findSummaryInOrganization(id, taskId, organizationId)
+                .map(bugPersistenceMapper::toBug);
+    }
+
     @Override
     @Transactional
     public Bug saveBug(Bug bug) {
@@ -54,7 +69,16 @@ public class BugPersistenceAdapter implements BugOutputPort {
             entity.setCreatedAt(LocalDateTime.now());
         }
 
-        entity = bugRepository.save(entity);
+        BugCounterKey before = entity.getId() == null ? null : bugRepository.findCounterKeyById(entity.getId()).orElse(null);
+        try {
+            entity = bugRepository.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException e) {
+            if (UniqueConstraints.isViolation(e, UniqueConstraints.BUG_TITLE)) {
+                throw new BugAlreadyExistsException(ErrorMessages.BUG_ALREADY_EXISTS, HttpStatus.CONFLICT);
+            }
+            throw e;
+        }
+        projectCounterAdapter.onBugChanged(before, counterKey(entity));
 
         Bug savedBug = bugPersistenceMapper.toBug(entity);
         log.info("Successfully saved bug with ID: {}", savedBug.getId());
@@ -66,9 +90,11 @@ public class BugPersistenceAdapter implements BugOutputPort {
     public Page<Bug> getAllBugsByProjectId(Long projectId, Pageable pageable) {
         log.info("Getting all bugs for project ID: {} with pagination: {}", projectId, pageable);
 
-        Page<BugEntity> bugEntities = bugRepository.findAllByProject_Id(projectId, pageable);
-
-        Page<Bug> bugs = bugEntities.map(bugPersistenceMapper::toBug);
+        Page<Bug> bugs = PageableExecutionUtils.getPage(
+                        bugRepository.findSummaryContentByProjectId(projectId, pageable),
+                        pageable,
+                        () -> projectCounterAdapter.countBugsByProjectId(projectId))
+                .map(bugPersistenceMapper::toBug);
         log.info("Found {} bugs for project ID: {}", bugs.getTotalElements(), projectId);
 
         return bugs;
@@ -79,9 +105,8 @@ public class BugPersistenceAdapter implements BugOutputPort {
     public Page<Bug> getAllBugsByTaskId(Long taskId, Pageable pageable) {
         log.info("Getting all bugs for task ID: {} with pagination: {}", taskId, pageable);
 
-        Page<BugEntity> bugEntities = bugRepository.findAllByTask_Id(taskId, pageable);
-
-        Page<Bug> bugs = bugEntities.map(bugPersistenceMapper::toBug);
+        Page<Bug> bugs = bugRepository.findSummariesByTaskId(taskId, pageable)
+                .map(bugPersistenceMapper::toBug);
         log.info("Found {} bugs for task ID: {}", bugs.getTotalElements(), taskId);
 
         return bugs;
@@ -92,9 +117,8 @@ public class BugPersistenceAdapter implements BugOutputPort {
     public Page<Bug> getBugsByUserId(Long userId, Pageable pageable) {
         log.info("Getting bugs for user ID: {} with pagination: {}", userId, pageable);
 
-        Page<BugEntity> bugEntities = bugRepository.findByAssignedTo_Id(userId, pageable);
-
-        Page<Bug> bugs = bugEntities.map(bugPersistenceMapper::toBug);
+        Page<Bug> bugs = bugRepository.findSummariesByAssignedToId(userId, pageable)
+                .map(bugPersistenceMapper::toBug);
         log.info("Found {} bugs for user ID: {}", bugs.getTotalElements(), userId);
 
         return bugs;
@@ -111,19 +135,14 @@ public class BugPersistenceAdapter implements BugOutputPort {
     public void deleteBug(Long id) {
         log.info("Deleting bug with ID: {}", id);
 
-        if (!bugRepository.existsById(id)) {
-            throw new BugNotFoundException(ErrorMessages.BUG_NOT_FOUND, HttpStatus.NOT_FOUND);
-        }
+        BugCounterKey before = bugRepository.findCounterKeyById(id)
+                .orElseThrow(() -> new BugNotFoundException(ErrorMessages.BUG_NOT_FOUND, HttpStatus.NOT_FOUND));
 
         bugRepository.deleteById(id);
+        projectCounterAdapter.onBugChanged(before, null);
         log.info("Successfully deleted bug with ID: {}", id);
     }
 
-    @Override
-    public boolean existsByTitleAndProjectId(String title, Long projectId) {
-        return bugRepository.existsByTitleAndProjectId(title,projectId);
-    }
-
     @Override
     public Bug getBugById(Long bugId) {
         BugEntity entity = bugRepository.findById(bugId).orElseThrow(()->new BugNotFoundException(ErrorMessages.BUG_NOT_FOUND, HttpStatus.NOT_FOUND));
@@ -133,8 +152,40 @@ public class BugPersistenceAdapter implements BugOutputPort {
     @Override
     @Transactional(readOnly = true)
     public Page<Bug> getBugsByCreatedById(Long userId, Pageable pageable) {
-        Page<BugEntity> bugEntities = bugRepository.findByCreatedBy_Id(userId, pageable);
-        return bugEntities.map(bugPersistenceMapper::toBug);
+        return bugRepository.findSummariesByCreatedById(userId, pageable)
+                .map(bugPersistenceMapper::toBug);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<Bug> getBugsByProjectIdAfter(Long projectId, KeysetCursor cursor, int size) {
+        return bugRepository.findSummariesByProjectIdAfter(projectId, cursor.getCreatedAt(), cursor.getId(), PageRequest.of(0, size))
+                .map(bugPersistenceMapper::toBug);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<Bug> getBugsByTaskIdAfter(Long taskId, KeysetCursor cursor, int size) {
+        return bugRepository.findSummariesByTaskIdAfter(taskId, cursor.getCreatedAt(), cursor.getId(), PageRequest.of(0, size))
+                .map(bugPersistenceMapper::toBug);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<Bug> getBugsByAssignedToIdAfter(Long userId, KeysetCursor cursor, int size) {
+        return bugRepository.findSummariesByAssignedToIdAfter(userId, cursor.getCreatedAt(), cursor.getId(), PageRequest.of(0, size))
+                .map(bugPersistenceMapper::toBug);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<Bug> getBugsByCreatedByIdAfter(Long userId, KeysetCursor cursor, int size) {
+        return bugRepository.findSummariesByCreatedByIdAfter(userId, cursor.getCreatedAt(), cursor.getId(), PageRequest.of(0, size))
+                .map(bugPersistenceMapper::toBug);
+    }
+
+    private static BugCounterKey counterKey(BugEntity entity) {
+        Long projectId = entity.getProject() == null ? null : entity.getProject().getId();
+        return new BugCounterKey(projectId, entity.getStatus(), entity.getSeverity());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,100 @@
+package com.example.qonnect.infrastructure.adapters.output.persistence.adapters;
+
+import com.example.qonnect.application.output.EmailOutboxOutputPort;
+import com.example.qonnect.application.output.EmailOutputPort;
+import com.example.qonnect.domain.models.OutboundEmail;
+import com.example.qonnect.domain.models.enums.EmailStatus;
+import com.example.qonnect.infrastructure.adapters.output.persistence.entities.EmailOutboxEntity;
+import com.example.qonnect.infrastructure.adapters.output.persistence.mappers.EmailOutboxPersistenceMapper;
+import com.example.qonnect.infrastructure.adapters.output.persistence.repositories.EmailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailOutboxPersistenceAdapter implements EmailOutputPort, EmailOutboxOutputPort {
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailOutboxPersistenceMapper emailOutboxPersistenceMapper;
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String INSERT_EMAIL = """
+            INSERT INTO email_outbox (recipient, subject, body, status, attempts, next_attempt_at, created_at, updated_at)
+            VALUES (?, ?, ?, 'PENDING', 0, ?, ?, ?)
+            """;
+
+    @Override
+    @Transactional
+    public void sendEmail(String to, String subject, String body) {
+        LocalDateTime now = LocalDateTime.now();
+        emailOutboxRepository.save(EmailOutboxEntity.builder()
+                .recipient(to)
+                .subject(subject)
+                .body(body)
+                .status(EmailStatus.PENDING)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+        log.info("Queued email '{}' for {}", subject, to);
+    }
+
+    @Override
+    @Transactional
+    public void sendEmails(List<OutboundEmail> emails) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_EMAIL, emails, emails.size(), (ps, email) -> {
+            ps.setString(1, email.getRecipient());
+            ps.setString(2, email.getSubject());
+            ps.setString(3, email.getBody());
+            ps.setTimestamp(4, now);
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+        });
+        log.info("Queued {} emails", emails.size());
+    }
+
+    @Override
+    @Transactional
+    public List<OutboundEmail> claimDue(int batchSize, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        List<EmailOutboxEntity> due = emailOutboxRepository.lockDue(now, batchSize);
+        for (EmailOutboxEntity entity : due) {
+            entity.setStatus(EmailStatus.IN_PROGRESS);
+            entity.setNextAttemptAt(now.plus(lease));
+            entity.setUpdatedAt(now);
+        }
+        return emailOutboxPersistenceMapper.toOutboundEmailList(due);
+    }
+
+    @Override
+    @Transactional
+    public List<OutboundEmail> saveAll(List<OutboundEmail> emails) {
+        LocalDateTime now = LocalDateTime.now();
+        emails.forEach(email -> email.setUpdatedAt(now));
+        List<EmailOutboxEntity> saved = emailOutboxRepository.saveAll(
+                emailOutboxPersistenceMapper.toEmailOutboxEntityList(emails));
+        return emailOutboxPersistenceMapper.toOutboundEmailList(saved);
+    }
+
+    @Override
+    public long countPending() {
+        return emailOutboxRepository.countByStatusIn(EnumSet.of(EmailStatus.PENDING, EmailStatus.IN_PROGRESS));
+    }
+
+    @Override
+    @Transactional
+    public int purgeFinishedBefore(LocalDateTime cutoff) {
+        return emailOutboxRepository.deleteFinishedBefore(EnumSet.of(EmailStatus.SENT, EmailStatus.DEAD), cutoff);
+    }
+}
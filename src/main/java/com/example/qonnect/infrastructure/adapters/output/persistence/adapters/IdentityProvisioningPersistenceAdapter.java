@@ -0,0 +1,93 @@
+package com.example.qonnect.infrastructure.adapters.output.persistence.adapters;
+
+import com.example.qonnect.application.output.IdentityProvisioningOutputPort;
+import com.example.qonnect.domain.models.IdentityProvisioning;
+import com.example.qonnect.domain.models.User;
+import com.example.qonnect.domain.models.enums.ProvisioningStatus;
+import com.example.qonnect.infrastructure.adapters.output.persistence.entities.IdentityProvisioningEntity;
+import com.example.qonnect.infrastructure.adapters.output.persistence.mappers.IdentityProvisioningPersistenceMapper;
+import com.example.qonnect.infrastructure.adapters.output.persistence.repositories.IdentityProvisioningRepository;
+import com.example.qonnect.infrastructure.adapters.output.persistence.repositories.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdentityProvisioningPersistenceAdapter implements IdentityProvisioningOutputPort {
+
+    private final IdentityProvisioningRepository identityProvisioningRepository;
+    private final IdentityProvisioningPersistenceMapper identityProvisioningPersistenceMapper;
+    private final UserRepository userRepository;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public IdentityProvisioning enqueue(User user) {
+        LocalDateTime now = LocalDateTime.now();
+        IdentityProvisioningEntity entity = identityProvisioningRepository.findByEmail(user.getEmail())
+                .orElseGet(() -> IdentityProvisioningEntity.builder()
+                        .email(user.getEmail())
+                        .createdAt(now)
+                        .build());
+
+        if (entity.getStatus() == ProvisioningStatus.PROVISIONED) {
+            log.info("Identity for {} already provisioned, skipping enqueue", user.getEmail());
+            return identityProvisioningPersistenceMapper.toIdentityProvisioning(entity);
+        }
+
+        entity.setFirstName(user.getFirstName());
+        entity.setLastName(user.getLastName());
+        entity.setPassword(user.getPassword());
+        entity.setRole(user.getRole());
+        entity.setStatus(ProvisioningStatus.PENDING);
+        entity.setAttempts(0);
+        entity.setNextAttemptAt(now);
+        entity.setLastError(null);
+        entity.setUpdatedAt(now);
+
+        entity = identityProvisioningRepository.save(entity);
+        log.info("Queued identity provisioning for {}", user.getEmail());
+        return identityProvisioningPersistenceMapper.toIdentityProvisioning(entity);
+    }
+
+    @Override
+    @Transactional
+    public List<IdentityProvisioning> claimDue(int batchSize, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        List<IdentityProvisioningEntity> due = identityProvisioningRepository.lockDue(now, batchSize);
+        for (IdentityProvisioningEntity entity : due) {
+            entity.setStatus(ProvisioningStatus.IN_PROGRESS);
+            entity.setNextAttemptAt(now.plus(lease));
+            entity.setUpdatedAt(now);
+        }
+        return identityProvisioningPersistenceMapper.toIdentityProvisioningList(due);
+    }
+
+    @Override
+    @Transactional
+    public IdentityProvisioning saveProvisioning(IdentityProvisioning provisioning) {
+        provisioning.setUpdatedAt(LocalDateTime.now());
+        IdentityProvisioningEntity entity = identityProvisioningRepository.save(
+                identityProvisioningPersistenceMapper.toIdentityProvisioningEntity(provisioning));
+
+        if (entity.getStatus() == ProvisioningStatus.PROVISIONED && entity.getKeycloakId() != null) {
+            userRepository.findByEmail(entity.getEmail())
+                    .ifPresent(user -> user.setKeycloakId(entity.getKeycloakId()));
+        }
+        return identityProvisioningPersistenceMapper.toIdentityProvisioning(entity);
+    }
+
+    @Override
+    public Optional<IdentityProvisioning> findByEmail(String email) {
+        return identityProvisioningRepository.findByEmail(email)
+                .map(identityProvisioningPersistenceMapper::toIdentityProvisioning);
+    }
+}
@@ -2,22 +2,30 @@ package com.example.qonnect.infrastructure.adapters.output.persistence.adapters;
 
 import com.example.qonnect.application.output.OrganizationOutputPort;
 import com.example.qonnect.application.output.UserOutputPort;
+import com.example.qonnect.domain.exceptions.OrganizationAlreadyExistsException;
 import com.example.qonnect.domain.exceptions.OrganizationNotFoundException;
 import com.example.qonnect.domain.models.Organization;
 import com.example.qonnect.domain.models.User;
+import com.example.qonnect.infrastructure.adapters.config.cacheConfig.SecondLevelCacheInvalidator;
+import com.example.qonnect.infrastructure.adapters.config.security.PrincipalCache;
 import com.example.qonnect.infrastructure.adapters.input.rest.messages.ErrorMessages;
 import com.example.qonnect.infrastructure.adapters.output.persistence.entities.OrganizationEntity;
 import com.example.qonnect.infrastructure.adapters.output.persistence.entities.UserEntity;
 import com.example.qonnect.infrastructure.adapters.output.persistence.mappers.OrganizationPersistenceMapper;
 import com.example.qonnect.infrastructure.adapters.output.persistence.repositories.OrganizationRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Optional;
 
 @Component
 @Slf4j
@@ -27,6 +35,9 @@ public class OrganizationPersistenceAdapter implements OrganizationOutputPort {
     private final OrganizationPersistenceMapper organizationPersistenceMapper;
     private final OrganizationRepository organizationRepository;
     private final UserOutputPort userOutputPort;
+    private final PrincipalCache principalCache;
+    private final SecondLevelCacheInvalidator secondLevelCacheInvalidator;
+    private final EntityManager entityManager;
 
 
     @Override
@@ -36,8 +47,18 @@ public class OrganizationPersistenceAdapter implements OrganizationOutputPort {
         OrganizationEntity entity = organizationPersistenceMapper.toOrganizationEntity(organization);
         log.info("Mapped to entity: {}", entity);
 
-        entity = organizationRepository.save(entity);
+        try {
+            entity = organizationRepository.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException e) {
+            if (UniqueConstraints.isViolation(e, UniqueConstraints.ORGANIZATION_NAME)) {
+                throw new OrganizationAlreadyExistsException(ErrorMessages.ORGANIZATION_ALREADY_EXISTS, HttpStatus.CONFLICT);
+            }
+            throw e;
+        }
         log.info("Saved entity: {}", entity);
+        if (organization.getId() != null) {
+            secondLevelCacheInvalidator.evictOrganization(entity.getId());
+        }
 
         Organization savedOrganization = organizationPersistenceMapper.toOrganization(entity);
         log.info("Mapped back to domain user: {}", savedOrganization);
@@ -46,16 +67,15 @@ public class OrganizationPersistenceAdapter implements OrganizationOutputPort {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Organization getOrganizationByName(String name) {
-        OrganizationEntity foundOrganization = organizationRepository.findByName(name).orElseThrow(() -> new OrganizationNotFoundException(ErrorMessages.ORGANIZATION_NOT_FOUND, HttpStatus.NOT_FOUND));
+        OrganizationEntity foundOrganization = Optional.ofNullable(entityManager.unwrap(Session.class)
+                        .bySimpleNaturalId(OrganizationEntity.class)
+                        .load(name))
+                .orElseThrow(() -> new OrganizationNotFoundException(ErrorMessages.ORGANIZATION_NOT_FOUND, HttpStatus.NOT_FOUND));
         return organizationPersistenceMapper.toOrganization(foundOrganization);
     }
 
-    @Override
-    public boolean existsByName(String name) {
-        return organizationRepository.existsByName(name);
-    }
-
     @Override
     public Organization getOrganizationById(Long id) {
         OrganizationEntity foundOrganization = organizationRepository.findById(id)
@@ -74,11 +94,14 @@ public class OrganizationPersistenceAdapter implements OrganizationOutputPort {
         userToBeRemoved.setOrganization(null);
         userOutputPort.saveUser(userToBeRemoved);
         organizationRepository.save(organizationPersistenceMapper.toOrganizationEntity(organization));
+        secondLevelCacheInvalidator.evictOrganization(organization.getId());
+        principalCache.evict(userToBeRemoved.getEmail());
     }
 
     @Override
     public void deleteById(Long id) {
         organizationRepository.deleteById(id);
+        secondLevelCacheInvalidator.evictOrganizationTree(id);
     }
 
 
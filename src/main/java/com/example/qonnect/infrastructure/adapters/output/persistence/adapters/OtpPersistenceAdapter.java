@@ -9,12 +9,17 @@ import com.example.qonnect.infrastructure.adapters.output.persistence.mappers.Ot
 import com.example.qonnect.infrastructure.adapters.output.persistence.repositories.OtpRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.otp.store", havingValue = "database")
 public class OtpPersistenceAdapter implements OtpOutputPort {
 
     private final OtpRepository otpRepository;
@@ -44,6 +49,17 @@ public class OtpPersistenceAdapter implements OtpOutputPort {
         return otpPersistenceMapper.toOtp(entity);
     }
 
+    @Override
+    @Transactional
+    public Otp consumeOtp(String email, String otp) {
+        OtpEntity entity = otpRepository.findByEmailAndOtp(email,otp).orElseThrow(()->new OtpNotFoundException(ErrorMessages.INVALID_OTP, HttpStatus.BAD_REQUEST));
+        Otp found = otpPersistenceMapper.toOtp(entity);
+        if (!entity.isUsed() && entity.getExpiryTime().isAfter(LocalDateTime.now())) {
+            entity.setUsed(true);
+        }
+        return found;
+    }
+
 
 }
 
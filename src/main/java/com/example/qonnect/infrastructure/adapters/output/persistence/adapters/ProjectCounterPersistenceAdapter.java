@@ -0,0 +1,127 @@
+package com.example.qonnect.infrastructure.adapters.output.persistence.adapters;
+
+import com.example.qonnect.application.output.ProjectCounterOutputPort;
+import com.example.qonnect.domain.models.ProjectSummary;
+import com.example.qonnect.infrastructure.adapters.output.persistence.entities.ProjectBugCounterEntity;
+import com.example.qonnect.infrastructure.adapters.output.persistence.entities.ProjectTaskCounterEntity;
+import com.example.qonnect.infrastructure.adapters.output.persistence.projections.BugCounterKey;
+import com.example.qonnect.infrastructure.adapters.output.persistence.projections.TaskCounterKey;
+import com.example.qonnect.infrastructure.adapters.output.persistence.repositories.ProjectBugCounterRepository;
+import com.example.qonnect.infrastructure.adapters.output.persistence.repositories.ProjectTaskCounterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Per-project bug and task counters. The write methods are called by the bug and task adapters inside their own
+ * transactions so a counter never commits without the row change it describes.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectCounterPersistenceAdapter implements ProjectCounterOutputPort {
+
+    static final String NONE = "NONE";
+
+    private final ProjectBugCounterRepository bugCounterRepository;
+    private final ProjectTaskCounterRepository taskCounterRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProjectSummary getProjectSummary(Long projectId) {
+        Map<String, Long> bugsByStatus = new TreeMap<>();
+        Map<String, Map<String, Long>> bugsByStatusAndSeverity = new TreeMap<>();
+        long totalBugs = 0;
+        for (ProjectBugCounterEntity counter : bugCounterRepository.findByProjectId(projectId)) {
+            if (counter.getCount() <= 0) {
+                continue;
+            }
+            bugsByStatus.merge(counter.getStatus(), counter.getCount(), Long::sum);
+            bugsByStatusAndSeverity.computeIfAbsent(counter.getStatus(), s -> new TreeMap<>())
+                    .put(counter.getSeverity(), counter.getCount());
+            totalBugs += counter.getCount();
+        }
+
+        Map<String, Long> tasksByStatus = new TreeMap<>();
+        long totalTasks = 0;
+        for (ProjectTaskCounterEntity counter : taskCounterRepository.findByProjectId(projectId)) {
+            if (counter.getCount() <= 0) {
+                continue;
+            }
+            tasksByStatus.put(counter.getStatus(), counter.getCount());
+            totalTasks += counter.getCount();
+        }
+
+        return ProjectSummary.builder()
+                .projectId(projectId)
+                .totalBugs(totalBugs)
+                .totalTasks(totalTasks)
+                .bugsByStatus(bugsByStatus)
+                .bugsByStatusAndSeverity(bugsByStatusAndSeverity)
+                .tasksByStatus(tasksByStatus)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countBugsByProjectId(Long projectId) {
+        return bugCounterRepository.sumByProjectId(projectId);
+    }
+
+    @Override
+    @Transactional
+    public int reconcileCounters() {
+        int drifted = bugCounterRepository.reconcile() + taskCounterRepository.reconcile();
+        if (drifted > 0) {
+            log.warn("Reconciled {} drifted project counter rows", drifted);
+        }
+        return drifted;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onBugChanged(BugCounterKey before, BugCounterKey after) {
+        if (Objects.equals(before, after)) {
+            return;
+        }
+        if (before != null && before.getProjectId() != null) {
+            bugCounterRepository.adjust(before.getProjectId(), name(before.getStatus()), name(before.getSeverity()), -1);
+        }
+        if (after != null && after.getProjectId() != null) {
+            bugCounterRepository.adjust(after.getProjectId(), name(after.getStatus()), name(after.getSeverity()), 1);
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onTaskChanged(TaskCounterKey before, TaskCounterKey after) {
+        if (Objects.equals(before, after)) {
+            return;
+        }
+        if (before != null && before.getProjectId() != null) {
+            taskCounterRepository.adjust(before.getProjectId(), name(before.getStatus()), -1);
+        }
+        if (after != null && after.getProjectId() != null) {
+            taskCounterRepository.adjust(after.getProjectId(), name(after.getStatus()), 1);
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onTaskBugsDeleted(Long taskId) {
+        bugCounterRepository.subtractBugsOfTask(taskId);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onProjectDeleted(Long projectId) {
+        bugCounterRepository.deleteByProjectId(projectId);
+        taskCounterRepository.deleteByProjectId(projectId);
+    }
+
+    private static String name(Enum<?> value) {
+        return value == null ? NONE : value.name();
+    }
+}
@@ -2,24 +2,29 @@ package com.example.qonnect.infrastructure.adapters.output.persistence.adapters;
 
 import com.example.qonnect.application.output.ProjectOutputPort;
 import com.example.qonnect.domain.exceptions.OrganizationNotFoundException;
+import com.example.qonnect.domain.exceptions.ProjectAlreadyExistException;
 import com.example.qonnect.domain.exceptions.ProjectNotFoundException;
 import com.example.qonnect.domain.models.Project;
 import com.example.qonnect.domain.models.User;
+import com.example.qonnect.infrastructure.adapters.config.cacheConfig.SecondLevelCacheInvalidator;
 import com.example.qonnect.infrastructure.adapters.input.rest.messages.ErrorMessages;
 import com.example.qonnect.infrastructure.adapters.output.persistence.entities.OrganizationEntity;
 import com.example.qonnect.infrastructure.adapters.output.persistence.entities.ProjectEntity;
 import com.example.qonnect.infrastructure.adapters.output.persistence.mappers.ProjectPersistenceMapper;
+import com.example.qonnect.infrastructure.adapters.output.persistence.mappers.UserPersistenceMapper;
 import com.example.qonnect.infrastructure.adapters.output.persistence.repositories.OrganizationRepository;
 import com.example.qonnect.infrastructure.adapters.output.persistence.repositories.ProjectRepository;
+import com.example.qonnect.infrastructure.adapters.output.persistence.repositories.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Optional;
 
 @Service
@@ -30,20 +35,36 @@ public class ProjectPersistenceAdapter implements ProjectOutputPort {
     private final ProjectPersistenceMapper projectPersistenceMapper;
     private final ProjectRepository projectRepository;
     private final OrganizationRepository organizationRepository;
+    private final UserRepository userRepository;
+    private final UserPersistenceMapper userPersistenceMapper;
+    private final ProjectCounterPersistenceAdapter projectCounterAdapter;
+    private final SecondLevelCacheInvalidator secondLevelCacheInvalidator;
 
     @Override
+    @Transactional
     public Project saveProject(Project project) {
-        if (project.getId() != null && !projectRepository.existsById(project.getId())) {
-            throw new ProjectNotFoundException(ErrorMessages.PROJECT_NOT_FOUND, HttpStatus.NOT_FOUND);
+        ProjectEntity entity;
+        if (project.getId() != null) {
+            entity = projectRepository.findById(project.getId())
+                    .orElseThrow(() -> new ProjectNotFoundException(ErrorMessages.PROJECT_NOT_FOUND, HttpStatus.NOT_FOUND));
+            projectPersistenceMapper.updateProjectEntity(project, entity);
+        } else {
+            OrganizationEntity orgEntity = organizationRepository.findById(project.getOrganizationId())
+                    .orElseThrow(() -> new OrganizationNotFoundException(ErrorMessages.ORGANIZATION_NOT_FOUND, HttpStatus.NOT_FOUND));
+            entity = projectPersistenceMapper.toProjectEntity(project);
+            entity.setOrganization(orgEntity);
         }
 
-        OrganizationEntity orgEntity = organizationRepository.findById(project.getOrganizationId())
-                .orElseThrow(() -> new OrganizationNotFoundException(ErrorMessages.ORGANIZATION_NOT_FOUND, HttpStatus.NOT_FOUND));
-
-        ProjectEntity entity = projectPersistenceMapper.toProjectEntity(project);
-        entity.setOrganization(orgEntity);
-
-        ProjectEntity savedEntity = projectRepository.save(entity);
+        ProjectEntity savedEntity;
+        try {
+            savedEntity = projectRepository.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException e) {
+            if (UniqueConstraints.isViolation(e, UniqueConstraints.PROJECT_NAME)) {
+                throw new ProjectAlreadyExistException(ErrorMessages.PROJECT_EXIST_ALREADY, HttpStatus.CONFLICT);
+            }
+            throw e;
+        }
+        secondLevelCacheInvalidator.evictProject(savedEntity.getId());
 
         return projectPersistenceMapper.toProject(savedEntity);
     }
@@ -55,6 +76,7 @@ public class ProjectPersistenceAdapter implements ProjectOutputPort {
     }
 
     @Override
+    @Transactional
     public void deleteProject(Project project) {
         if (project == null || project.getId() == null) {
             throw new ProjectNotFoundException(ErrorMessages.PROJECT_ID_IS_REQUIRED, HttpStatus.BAD_REQUEST);
@@ -66,14 +88,11 @@ public class ProjectPersistenceAdapter implements ProjectOutputPort {
             throw new ProjectNotFoundException(ErrorMessages.PROJECT_NOT_FOUND, HttpStatus.NOT_FOUND);
         }
         projectRepository.deleteById(projectId);
+        projectCounterAdapter.onProjectDeleted(projectId);
+        secondLevelCacheInvalidator.evictProject(projectId);
         log.debug("Project with ID: {} successfully deleted", projectId);
     }
 
-    @Override
-    public boolean existsByNameAndOrganizationId(String name, Long organizationId) {
-        return projectRepository.existsProjectNameInOrganization(name, organizationId);
-    }
-
     @Override
     @Transactional(readOnly = true)
     public Page<Project> getAllProjects(Long organizationId, Pageable pageable) {
@@ -106,25 +125,58 @@ public class ProjectPersistenceAdapter implements ProjectOutputPort {
     }
 
     @Override
-    public boolean existsByNameAndOrganizationIdAndNotId(String name, Long organizationId, Long projectId) {
-        log.info("Checking if project name '{}' exists in organization {} excluding project ID: {}",
-                name, organizationId, projectId);
+    @Transactional(readOnly = true)
+    public boolean isMember(Long projectId, Long userId) {
+        return projectRepository.isMember(projectId, userId);
+    }
 
-        return projectRepository.existsProjectNameInOrganizationExcludingId(name, organizationId, projectId);
+    @Override
+    @Transactional
+    public boolean addMember(Long projectId, Long userId) {
+        return projectRepository.insertMember(projectId, userId) > 0;
     }
 
     @Override
-    public void removeUserFromProject(User userToBeRemoved, Project project) {
-            if (project.getTeamMembers() == null) {
-                project.setTeamMembers(new ArrayList<>());
-            }
-            project.getTeamMembers().removeIf(u -> u.getId().equals(userToBeRemoved.getId()));
-            projectRepository.save(projectPersistenceMapper.toProjectEntity(project));
+    @Transactional
+    public boolean removeMember(Long projectId, Long userId) {
+        return projectRepository.deleteMember(projectId, userId) > 0;
+    }
+
+    @Override
+    @Transactional
+    public int addMembers(Long projectId, Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        int added = projectRepository.insertMembers(projectId, userIds);
+        log.info("Added {} of {} requested members to project {}", added, userIds.size(), projectId);
+        return added;
+    }
+
+    @Override
+    @Transactional
+    public int removeMembers(Long projectId, Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        int removed = projectRepository.deleteMembers(projectId, userIds);
+        log.info("Removed {} of {} requested members from project {}", removed, userIds.size(), projectId);
+        return removed;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<User> getMembers(Long projectId, Pageable pageable) {
+        return userRepository.findMembersByProjectId(projectId, pageable)
+                .map(userPersistenceMapper::toUserWithoutProjects);
     }
 
     @Override
+    @Transactional
     public void deleteProjectById(Long id) {
         projectRepository.deleteById(id);
+        projectCounterAdapter.onProjectDeleted(id);
+        secondLevelCacheInvalidator.evictProject(id);
     }
 
     @Override
@@ -1,19 +1,27 @@
 package com.example.qonnect.infrastructure.adapters.output.persistence.adapters;
 
 import com.example.qonnect.application.output.TaskOutputPort;
+import com.example.qonnect.domain.exceptions.TaskAlreadyExistException;
 import com.example.qonnect.domain.exceptions.TaskNotFoundException;
 import com.example.qonnect.domain.models.Bug;
+import com.example.qonnect.domain.models.KeysetCursor;
 import com.example.qonnect.domain.models.Task;
+import com.example.qonnect.domain.models.TaskFilter;
 import com.example.qonnect.domain.models.User;
 import com.example.qonnect.infrastructure.adapters.input.rest.messages.ErrorMessages;
 import com.example.qonnect.infrastructure.adapters.output.persistence.entities.BugEntity;
 import com.example.qonnect.infrastructure.adapters.output.persistence.entities.TaskEntity;
 import com.example.qonnect.infrastructure.adapters.output.persistence.mappers.TaskPersistenceMapper;
+import com.example.qonnect.infrastructure.adapters.output.persistence.projections.TaskCounterKey;
+import com.example.qonnect.infrastructure.adapters.output.persistence.projections.TaskSummaryView;
 import com.example.qonnect.infrastructure.adapters.output.persistence.repositories.TaskRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,11 +36,23 @@ public class TaskPersistenceAdapter implements TaskOutputPort {
 
     private final TaskRepository taskRepository;
     private final TaskPersistenceMapper taskMapper;
+    private final ProjectCounterPersistenceAdapter projectCounterAdapter;
 
     @Override
+    @Transactional
     public Task saveTask(Task task) {
         TaskEntity entity = taskMapper.toTaskEntity(task);
-        TaskEntity savedEntity = taskRepository.save(entity);
+        TaskCounterKey before = entity.getId() == null ? null : taskRepository.findCounterKeyById(entity.getId()).orElse(null);
+        TaskEntity savedEntity;
+        try {
+            savedEntity = taskRepository.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException e) {
+            if (UniqueConstraints.isViolation(e, UniqueConstraints.TASK_TITLE)) {
+                throw new TaskAlreadyExistException(ErrorMessages.TASK_ALREADY_EXISTS, HttpStatus.CONFLICT);
+            }
+            throw e;
+        }
+        projectCounterAdapter.onTaskChanged(before, new TaskCounterKey(savedEntity.getProjectId(), savedEntity.getStatus()));
         return taskMapper.toTask(savedEntity);
     }
 
@@ -45,16 +65,13 @@ public class TaskPersistenceAdapter implements TaskOutputPort {
     }
 
     @Override
-    public boolean existsByTitleAndProjectId(String title, Long projectId) {
-        return taskRepository.existsByTitleAndProjectId(title,projectId);
-    }
-
-    @Override
+    @Transactional
     public void deleteTaskById(Long taskId) {
-        if (!taskRepository.existsById(taskId)) {
-            throw new TaskNotFoundException(ErrorMessages.TASK_NOT_FOUND, HttpStatus.NOT_FOUND);
-        }
+        TaskCounterKey before = taskRepository.findCounterKeyById(taskId)
+                .orElseThrow(() -> new TaskNotFoundException(ErrorMessages.TASK_NOT_FOUND, HttpStatus.NOT_FOUND));
+        projectCounterAdapter.onTaskBugsDeleted(taskId);
         taskRepository.deleteById(taskId);
+        projectCounterAdapter.onTaskChanged(before, null);
     }
 
     @Override
@@ -66,9 +83,19 @@ public class TaskPersistenceAdapter implements TaskOutputPort {
 
     @Override
     @Transactional(readOnly = true)
-    public List<Task> getAllTasksByProjectId(Long projectId) {
-        List<TaskEntity> allTask = taskRepository.findAllByProjectId(projectId);
-        return taskMapper.toTaskList(allTask);
+    public boolean existsInOrganization(Long taskId, Long organizationId) {
+        return taskRepository.existsInOrganization(taskId, organizationId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Task> getTasksByProjectId(Long projectId, TaskFilter filter, boolean withBugCount, Pageable pageable) {
+        Page<TaskSummaryView> views = withBugCount
+                ? taskRepository.findSummariesWithBugCountByProjectId(projectId, filter.getStatus(),
+                        filter.getAssignedToId(), filter.getDueFrom(), filter.getDueTo(), pageable)
+                : taskRepository.findSummariesByProjectId(projectId, filter.getStatus(),
+                        filter.getAssignedToId(), filter.getDueFrom(), filter.getDueTo(), pageable);
+        return views.map(taskMapper::toTask);
     }
 
 
@@ -85,5 +112,12 @@ public class TaskPersistenceAdapter implements TaskOutputPort {
         return bugs;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<Task> getTasksByUserIdAfter(Long userId, KeysetCursor cursor, int size) {
+        return taskRepository.findByAssignedToIdAfter(userId, cursor.getCreatedAt(), cursor.getId(), PageRequest.of(0, size))
+                .map(taskMapper::toTask);
+    }
+
 
 }
@@ -0,0 +1,32 @@
+package com.example.qonnect.infrastructure.adapters.output.persistence.adapters;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+/**
+ * Recognises natural-key violations so adapters can insert first and translate a conflict, instead of querying first.
+ * Only the named key counts: any other unique violation is a bug, not a duplicate, and must propagate.
+ */
+final class UniqueConstraints {
+
+    static final String ORGANIZATION_NAME = "uk_organizations_name";
+    static final String PROJECT_NAME = "uk_project_entity_organization_name";
+    static final String TASK_TITLE = "uk_tasks_project_title";
+    static final String BUG_TITLE = "uk_bug_entity_project_title";
+    static final String USER_EMAIL = "uk_user_entity_email";
+
+    private UniqueConstraints() {
+    }
+
+    static boolean isViolation(DataIntegrityViolationException e, String constraint) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                String name = violation.getConstraintName().toLowerCase(Locale.ROOT);
+                return name.substring(name.lastIndexOf('.') + 1).equals(constraint);
+            }
+        }
+        return false;
+    }
+}
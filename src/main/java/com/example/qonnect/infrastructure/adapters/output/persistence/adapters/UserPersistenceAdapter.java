@@ -1,21 +1,31 @@
 package com.example.qonnect.infrastructure.adapters.output.persistence.adapters;
 
 import com.example.qonnect.application.output.UserOutputPort;
+import com.example.qonnect.domain.exceptions.UserAlreadyExistException;
 import com.example.qonnect.domain.exceptions.UserNotFoundException;
 import com.example.qonnect.domain.models.User;
+import com.example.qonnect.infrastructure.adapters.config.security.PrincipalCache;
 import com.example.qonnect.infrastructure.adapters.input.rest.messages.ErrorMessages;
 import com.example.qonnect.infrastructure.adapters.output.persistence.entities.UserEntity;
 import com.example.qonnect.infrastructure.adapters.output.persistence.mappers.UserPersistenceMapper;
+import com.example.qonnect.infrastructure.adapters.output.persistence.repositories.OrganizationRepository;
 import com.example.qonnect.infrastructure.adapters.output.persistence.repositories.UserRepository;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
 
 import static com.example.qonnect.domain.validators.InputValidator.validateInput;
 
@@ -25,6 +35,8 @@ import static com.example.qonnect.domain.validators.InputValidator.validateInput
 public class UserPersistenceAdapter implements UserOutputPort {
     private final UserRepository userRepository;
     private final UserPersistenceMapper userPersistenceMapper;
+    private final PrincipalCache principalCache;
+    private final OrganizationRepository organizationRepository;
 
 
     @Transactional(readOnly = true)
@@ -47,12 +59,21 @@ public class UserPersistenceAdapter implements UserOutputPort {
         UserEntity entity = userPersistenceMapper.toUserEntity(user);
         log.info("Mapped to entity: {}", entity);
 
-        entity = userRepository.save(entity);
+        try {
+            entity = userRepository.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException e) {
+            if (UniqueConstraints.isViolation(e, UniqueConstraints.USER_EMAIL)) {
+                throw new UserAlreadyExistException(ErrorMessages.USER_EXISTS_ALREADY, HttpStatus.CONFLICT);
+            }
+            throw e;
+        }
         log.info("Saved entity: {}", entity);
 
         User savedUser = userPersistenceMapper.toUser(entity);
         log.info("Mapped back to domain user: {}", savedUser);
 
+        principalCache.evict(savedUser.getEmail());
+
         return savedUser;
     }
 
@@ -95,7 +116,42 @@ public class UserPersistenceAdapter implements UserOutputPort {
 
     @Override
     public void deleteUserById(Long id) {
+        userRepository.findById(id).ifPresent(user -> principalCache.evict(user.getEmail()));
         userRepository.deleteById(id);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        return userRepository.findExistingEmails(emails.stream().map(email -> email.toLowerCase(Locale.ROOT)).toList());
+    }
+
+    @Override
+    @Transactional
+    public void saveInvitees(List<User> invitees) {
+        LocalDateTime now = LocalDateTime.now();
+        List<UserEntity> entities = new ArrayList<>(invitees.size());
+        for (User invitee : invitees) {
+            UserEntity entity = new UserEntity();
+            entity.setEmail(invitee.getEmail());
+            entity.setRole(invitee.getRole());
+            if (invitee.getOrganization() != null) {
+                entity.setOrganization(organizationRepository.getReferenceById(invitee.getOrganization().getId()));
+            }
+            entity.setInviteToken(invitee.getInviteToken());
+            entity.setInvitedAt(now);
+            entity.setTokenExpiresAt(invitee.getTokenExpiresAt());
+            entity.setInvited(true);
+            entity.setEnabled(false);
+            entities.add(entity);
+        }
+        // Pooled sequence ids let Hibernate send these as JDBC batches of hibernate.jdbc.batch_size.
+        userRepository.saveAll(entities);
+        userRepository.flush();
+        log.info("Inserted {} invitees", invitees.size());
+    }
+
 }
@@ -10,12 +10,20 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_bug_entity_project_title", columnNames = {"project_id", "title"}),
+        indexes = {
+        @Index(name = "idx_bug_project_created_id", columnList = "project_id, created_at, id"),
+        @Index(name = "idx_bug_task_created_id", columnList = "task_id, created_at, id"),
+        @Index(name = "idx_bug_assigned_created_id", columnList = "assigned_to, created_at, id"),
+        @Index(name = "idx_bug_created_by_created_id", columnList = "created_by, created_at, id")
+})
 @Setter
 @Getter
 public class BugEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bug_seq")
+    @SequenceGenerator(name = "bug_seq", sequenceName = "bug_entity_seq", allocationSize = 50)
     private Long id;
 
     private String title;
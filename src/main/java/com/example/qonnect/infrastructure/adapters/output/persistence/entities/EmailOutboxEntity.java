@@ -0,0 +1,51 @@
+package com.example.qonnect.infrastructure.adapters.output.persistence.entities;
+
+import com.example.qonnect.domain.models.enums.EmailStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "email_outbox",
+        indexes = {
+                @Index(name = "idx_email_outbox_status_next_attempt", columnList = "status, next_attempt_at"),
+                @Index(name = "idx_email_outbox_status_updated_at", columnList = "status, updated_at")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmailOutboxEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    private String subject;
+
+    @Column(columnDefinition = "TEXT")
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private EmailStatus status;
+
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    private LocalDateTime sentAt;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+}
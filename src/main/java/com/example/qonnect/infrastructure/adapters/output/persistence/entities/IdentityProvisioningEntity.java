@@ -0,0 +1,53 @@
+package com.example.qonnect.infrastructure.adapters.output.persistence.entities;
+
+import com.example.qonnect.domain.models.enums.ProvisioningStatus;
+import com.example.qonnect.domain.models.enums.Role;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "identity_provisioning",
+        indexes = @Index(name = "idx_identity_provisioning_status_next_attempt", columnList = "status, next_attempt_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IdentityProvisioningEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(unique = true, nullable = false)
+    private String email;
+
+    private String firstName;
+
+    private String lastName;
+
+    private String password;
+
+    @Enumerated(EnumType.STRING)
+    private Role role;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ProvisioningStatus status;
+
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    private String keycloakId;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+}
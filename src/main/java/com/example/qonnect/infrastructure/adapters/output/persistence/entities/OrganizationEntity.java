@@ -1,12 +1,21 @@
 package com.example.qonnect.infrastructure.adapters.output.persistence.entities;
 
+import com.example.qonnect.infrastructure.adapters.config.cacheConfig.SecondLevelCacheConfig;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.util.List;
 
 @Entity
-@Table(name = "organizations")
+@Table(name = "organizations",
+        uniqueConstraints = @UniqueConstraint(name = "uk_organizations_name", columnNames = "name"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.ORGANIZATIONS_REGION)
+@NaturalIdCache(region = SecondLevelCacheConfig.ORGANIZATION_NAMES_REGION)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -15,9 +24,11 @@ import java.util.List;
 public class OrganizationEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "organization_seq")
+    @SequenceGenerator(name = "organization_seq", sequenceName = "organizations_seq", allocationSize = 50)
     private Long id;
 
+    @NaturalId
     private String name;
 
     @OneToMany(mappedBy = "organization", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -11,14 +11,15 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "otps")
+@Table(name = "otps", indexes = @Index(name = "idx_otps_email_otp", columnList = "email, otp"))
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class OtpEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "otp_seq")
+    @SequenceGenerator(name = "otp_seq", sequenceName = "otps_seq", allocationSize = 50)
     private Long id;
 
     private String otp;
@@ -0,0 +1,31 @@
+package com.example.qonnect.infrastructure.adapters.output.persistence.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "project_bug_counters",
+        uniqueConstraints = @UniqueConstraint(name = "uk_project_bug_counters_key", columnNames = {"project_id", "status", "severity"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectBugCounterEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(nullable = false)
+    private String status;
+
+    @Column(nullable = false)
+    private String severity;
+
+    @Column(name = "bug_count", nullable = false)
+    private long count;
+}
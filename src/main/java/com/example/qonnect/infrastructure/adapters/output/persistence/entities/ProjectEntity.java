@@ -1,20 +1,27 @@
 package com.example.qonnect.infrastructure.adapters.output.persistence.entities;
 
+import com.example.qonnect.infrastructure.adapters.config.cacheConfig.SecondLevelCacheConfig;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.Date;
 import java.util.List;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_project_entity_organization_name", columnNames = {"organization_id", "name"}))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.PROJECTS_REGION)
 @Setter
 @Getter
 public class ProjectEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_seq")
+    @SequenceGenerator(name = "project_seq", sequenceName = "project_entity_seq", allocationSize = 50)
     private Long id;
 
     private String name;
@@ -23,7 +30,7 @@ public class ProjectEntity {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "created_by")
     private UserEntity createdBy;
 
@@ -0,0 +1,28 @@
+package com.example.qonnect.infrastructure.adapters.output.persistence.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "project_task_counters",
+        uniqueConstraints = @UniqueConstraint(name = "uk_project_task_counters_key", columnNames = {"project_id", "status"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectTaskCounterEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(nullable = false)
+    private String status;
+
+    @Column(name = "task_count", nullable = false)
+    private long count;
+}
@@ -8,7 +8,12 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks",
+        uniqueConstraints = @UniqueConstraint(name = "uk_tasks_project_title", columnNames = {"project_id", "title"}),
+        indexes = {
+                @Index(name = "idx_tasks_assignee_created_id", columnList = "assigned_to_user_id, created_at, id"),
+                @Index(name = "idx_tasks_project_created_id", columnList = "project_id, created_at, id")
+        })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -17,7 +22,8 @@ import java.util.List;
 public class TaskEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+    @SequenceGenerator(name = "task_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
     private String title;
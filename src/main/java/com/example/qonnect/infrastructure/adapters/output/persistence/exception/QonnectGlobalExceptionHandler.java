@@ -4,6 +4,7 @@ import com.example.qonnect.domain.exceptions.*;
 import com.example.qonnect.infrastructure.adapters.input.rest.data.responses.ErrorResponse;
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import org.apache.http.auth.InvalidCredentialsException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -191,6 +192,18 @@ public class QonnectGlobalExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequests(TooManyRequestsException tooManyRequestsException) {
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                tooManyRequestsException.getMessage(),
+                Instant.now()
+        );
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(error);
+    }
+
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<ErrorResponse> handleInvalidEnumOrBody(HttpMessageNotReadableException ex) {
         Throwable cause = ex.getCause();
@@ -1,7 +1,9 @@
 package com.example.qonnect.infrastructure.adapters.output.persistence.mappers;
 
 import com.example.qonnect.domain.models.Bug;
+import com.example.qonnect.domain.models.User;
 import com.example.qonnect.infrastructure.adapters.output.persistence.entities.BugEntity;
+import com.example.qonnect.infrastructure.adapters.output.persistence.projections.BugSummaryView;
 import org.mapstruct.*;
 
 import java.util.List;
@@ -26,6 +28,36 @@ public interface BugPersistenceMapper {
     BugEntity toBugEntity(Bug domain);
 
 
+    @Mapping(target = "createdBy", expression = "java(toCreatedBy(view))")
+    @Mapping(target = "assignedTo", expression = "java(toAssignedTo(view))")
+    @Mapping(target = "updatedAt", ignore = true)
+    Bug toBug(BugSummaryView view);
+
+    default User toCreatedBy(BugSummaryView view) {
+        if (view.getCreatedById() == null) {
+            return null;
+        }
+        return User.builder()
+                .id(view.getCreatedById())
+                .firstName(view.getCreatedByFirstName())
+                .lastName(view.getCreatedByLastName())
+                .email(view.getCreatedByEmail())
+                .role(view.getCreatedByRole())
+                .build();
+    }
+
+    default User toAssignedTo(BugSummaryView view) {
+        if (view.getAssignedToId() == null) {
+            return null;
+        }
+        return User.builder()
+                .id(view.getAssignedToId())
+                .firstName(view.getAssignedToFirstName())
+                .lastName(view.getAssignedToLastName())
+                .email(view.getAssignedToEmail())
+                .build();
+    }
+
     List<Bug> toBugList(List<BugEntity> entities);
 
     List<BugEntity> toBugEntityList(List<Bug> bugs);
@@ -0,0 +1,20 @@
+package com.example.qonnect.infrastructure.adapters.output.persistence.mappers;
+
+import com.example.qonnect.domain.models.OutboundEmail;
+import com.example.qonnect.infrastructure.adapters.output.persistence.entities.EmailOutboxEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.NullValuePropertyMappingStrategy;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring", nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+public interface EmailOutboxPersistenceMapper {
+
+    OutboundEmail toOutboundEmail(EmailOutboxEntity entity);
+
+    EmailOutboxEntity toEmailOutboxEntity(OutboundEmail email);
+
+    List<OutboundEmail> toOutboundEmailList(List<EmailOutboxEntity> entities);
+
+    List<EmailOutboxEntity> toEmailOutboxEntityList(List<OutboundEmail> emails);
+}
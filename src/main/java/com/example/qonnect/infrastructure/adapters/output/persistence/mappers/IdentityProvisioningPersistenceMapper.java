@@ -0,0 +1,18 @@
+package com.example.qonnect.infrastructure.adapters.output.persistence.mappers;
+
+import com.example.qonnect.domain.models.IdentityProvisioning;
+import com.example.qonnect.infrastructure.adapters.output.persistence.entities.IdentityProvisioningEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.NullValuePropertyMappingStrategy;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring", nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+public interface IdentityProvisioningPersistenceMapper {
+
+    IdentityProvisioning toIdentityProvisioning(IdentityProvisioningEntity entity);
+
+    IdentityProvisioningEntity toIdentityProvisioningEntity(IdentityProvisioning provisioning);
+
+    List<IdentityProvisioning> toIdentityProvisioningList(List<IdentityProvisioningEntity> entities);
+}
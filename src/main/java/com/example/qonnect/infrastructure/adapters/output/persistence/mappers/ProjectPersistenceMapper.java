@@ -9,7 +9,7 @@ public interface ProjectPersistenceMapper {
 
     @Mapping(source = "id", target = "id")
     @Mapping(source = "organization.id", target = "organizationId")
-    @Mapping(source = "teamMembers", target = "teamMembers", qualifiedByName = "toUserListWithoutProjects")
+    @Mapping(target = "teamMembers", ignore = true)
     @Mapping(target = "bugs", ignore = true)
     Project toProject(ProjectEntity project);
 
@@ -19,6 +19,13 @@ public interface ProjectPersistenceMapper {
     @Mapping(target = "teamMembers", ignore = true)
     @Mapping(target = "bugs", ignore = true)
     ProjectEntity toProjectEntity(Project project);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "organization", ignore = true)
+    @Mapping(target = "createdBy", ignore = true)
+    @Mapping(target = "teamMembers", ignore = true)
+    @Mapping(target = "bugs", ignore = true)
+    void updateProjectEntity(Project project, @MappingTarget ProjectEntity entity);
 }
 
 
@@ -1,7 +1,9 @@
 package com.example.qonnect.infrastructure.adapters.output.persistence.mappers;
 
 import com.example.qonnect.domain.models.Task;
+import com.example.qonnect.domain.models.User;
 import com.example.qonnect.infrastructure.adapters.output.persistence.entities.TaskEntity;
+import com.example.qonnect.infrastructure.adapters.output.persistence.projections.TaskSummaryView;
 import org.mapstruct.*;
 
 import java.util.List;
@@ -18,8 +20,25 @@ import java.util.List;
 public interface TaskPersistenceMapper {
 
     @Mapping(source = "projectId", target = "projectId")
+    @Mapping(target = "bugCount", ignore = true)
     Task toTask(TaskEntity entity);
 
+    @Mapping(target = "assignedTo", expression = "java(toAssignedTo(view))")
+    @Mapping(target = "bugs", ignore = true)
+    Task toTask(TaskSummaryView view);
+
+    default User toAssignedTo(TaskSummaryView view) {
+        if (view.getAssignedToId() == null) {
+            return null;
+        }
+        return User.builder()
+                .id(view.getAssignedToId())
+                .firstName(view.getAssignedToFirstName())
+                .lastName(view.getAssignedToLastName())
+                .email(view.getAssignedToEmail())
+                .build();
+    }
+
     @Mapping(target = "projectId", source = "projectId")
     TaskEntity toTaskEntity(Task task);
 
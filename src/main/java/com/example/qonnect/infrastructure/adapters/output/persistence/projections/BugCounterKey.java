@@ -0,0 +1,16 @@
+package com.example.qonnect.infrastructure.adapters.output.persistence.projections;
+
+import com.example.qonnect.domain.models.enums.BugSeverity;
+import com.example.qonnect.domain.models.enums.BugStatus;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+public class BugCounterKey {
+    private final Long projectId;
+    private final BugStatus status;
+    private final BugSeverity severity;
+}
@@ -0,0 +1,38 @@
+package com.example.qonnect.infrastructure.adapters.output.persistence.projections;
+
+import com.example.qonnect.domain.models.enums.BugPriority;
+import com.example.qonnect.domain.models.enums.BugSeverity;
+import com.example.qonnect.domain.models.enums.BugStatus;
+import com.example.qonnect.domain.models.enums.Role;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Flat read model for bug list pages, selected with a JPQL constructor expression so a page
+ * never initializes the eager project, task and user associations on {@code BugEntity}.
+ */
+@Getter
+@AllArgsConstructor
+public class BugSummaryView {
+
+    private Long id;
+    private String title;
+    private String description;
+    private BugStatus status;
+    private BugPriority priority;
+    private BugSeverity severity;
+    private Long projectId;
+    private Long taskId;
+    private Long createdById;
+    private String createdByFirstName;
+    private String createdByLastName;
+    private String createdByEmail;
+    private Role createdByRole;
+    private Long assignedToId;
+    private String assignedToFirstName;
+    private String assignedToLastName;
+    private String assignedToEmail;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,14 @@
+package com.example.qonnect.infrastructure.adapters.output.persistence.projections;
+
+import com.example.qonnect.domain.models.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+public class TaskCounterKey {
+    private final Long projectId;
+    private final TaskStatus status;
+}
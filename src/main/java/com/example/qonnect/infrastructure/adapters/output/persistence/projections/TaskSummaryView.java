@@ -0,0 +1,38 @@
+package com.example.qonnect.infrastructure.adapters.output.persistence.projections;
+
+import com.example.qonnect.domain.models.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Flat read model for task list pages. It never touches {@code TaskEntity.bugs}; when requested,
+ * the bug count comes from a correlated subquery in the same statement.
+ */
+@Getter
+@AllArgsConstructor
+public class TaskSummaryView {
+
+    private Long id;
+    private String title;
+    private String description;
+    private TaskStatus status;
+    private Long projectId;
+    private Long assignedToId;
+    private String assignedToFirstName;
+    private String assignedToLastName;
+    private String assignedToEmail;
+    private LocalDateTime dueDate;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Long bugCount;
+
+    public TaskSummaryView(Long id, String title, String description, TaskStatus status, Long projectId,
+                           Long assignedToId, String assignedToFirstName, String assignedToLastName,
+                           String assignedToEmail, LocalDateTime dueDate, LocalDateTime createdAt,
+                           LocalDateTime updatedAt) {
+        this(id, title, description, status, projectId, assignedToId, assignedToFirstName, assignedToLastName,
+                assignedToEmail, dueDate, createdAt, updatedAt, null);
+    }
+}
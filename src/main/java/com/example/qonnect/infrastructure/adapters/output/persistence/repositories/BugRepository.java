@@ -1,27 +1,90 @@
 package com.example.qonnect.infrastructure.adapters.output.persistence.repositories;
 
 import com.example.qonnect.infrastructure.adapters.output.persistence.entities.BugEntity;
+import com.example.qonnect.infrastructure.adapters.output.persistence.projections.BugCounterKey;
+import com.example.qonnect.infrastructure.adapters.output.persistence.projections.BugSummaryView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface BugRepository extends JpaRepository<BugEntity, Long> {
 
+    String BUG_SUMMARY_SELECT = """
+            SELECT new com.example.qonnect.infrastructure.adapters.output.persistence.projections.BugSummaryView(
+                b.id, b.title, b.description, b.status, b.priority, b.severity, b.project.id, b.task.id,
+                c.id, c.firstName, c.lastName, c.email, c.role,
+                a.id, a.firstName, a.lastName, a.email,
+                b.createdAt)
+            FROM BugEntity b
+            LEFT JOIN b.createdBy c
+            LEFT JOIN b.assignedTo a
+            """;
+
+    String KEYSET_AFTER = """
+             AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id))
+            ORDER BY b.createdAt DESC, b.id DESC
+            """;
+
     Optional<BugEntity> findByIdAndTaskId(Long id, Long taskId);
 
+    @Query(BUG_SUMMARY_SELECT + """
+            JOIN TaskEntity t ON t.id = b.task.id
+            JOIN ProjectEntity p ON p.id = t.projectId
+            WHERE b.id = :id AND t.id = :taskId AND p.organization.id = :organizationId
+            """)
+    Optional<BugSummaryView> findSummaryInOrganization(@Param("id") Long id,
+                                                       @Param("taskId") Long taskId,
+                                                       @Param("organizationId") Long organizationId);
+
+    @Query("SELECT new com.example.qonnect.infrastructure.adapters.output.persistence.projections.BugCounterKey(b.project.id, b.status, b.severity) FROM BugEntity b WHERE b.id = :id")
+    Optional<BugCounterKey> findCounterKeyById(@Param("id") Long id);
+
+    @Query(BUG_SUMMARY_SELECT + "WHERE b.project.id = :projectId")
+    List<BugSummaryView> findSummaryContentByProjectId(@Param("projectId") Long projectId, Pageable pageable);
+
+    @Query(value = BUG_SUMMARY_SELECT + "WHERE b.task.id = :taskId",
+            countQuery = "SELECT count(b) FROM BugEntity b WHERE b.task.id = :taskId")
+    Page<BugSummaryView> findSummariesByTaskId(@Param("taskId") Long taskId, Pageable pageable);
+
+    @Query(value = BUG_SUMMARY_SELECT + "WHERE b.assignedTo.id = :userId",
+            countQuery = "SELECT count(b) FROM BugEntity b WHERE b.assignedTo.id = :userId")
+    Page<BugSummaryView> findSummariesByAssignedToId(@Param("userId") Long userId, Pageable pageable);
 
-    Page<BugEntity> findAllByProject_Id(Long projectId, Pageable pageable);
-    Page<BugEntity> findAllByTask_Id(Long taskId, Pageable pageable);
+    @Query(value = BUG_SUMMARY_SELECT + "WHERE b.createdBy.id = :userId",
+            countQuery = "SELECT count(b) FROM BugEntity b WHERE b.createdBy.id = :userId")
+    Page<BugSummaryView> findSummariesByCreatedById(@Param("userId") Long userId, Pageable pageable);
 
+    @Query(BUG_SUMMARY_SELECT + "WHERE b.project.id = :projectId" + KEYSET_AFTER)
+    Slice<BugSummaryView> findSummariesByProjectIdAfter(@Param("projectId") Long projectId,
+                                                        @Param("createdAt") LocalDateTime createdAt,
+                                                        @Param("id") Long id,
+                                                        Pageable pageable);
 
-    boolean existsByTitleAndProjectId(String title, Long projectId);
+    @Query(BUG_SUMMARY_SELECT + "WHERE b.task.id = :taskId" + KEYSET_AFTER)
+    Slice<BugSummaryView> findSummariesByTaskIdAfter(@Param("taskId") Long taskId,
+                                                     @Param("createdAt") LocalDateTime createdAt,
+                                                     @Param("id") Long id,
+                                                     Pageable pageable);
 
-    Page<BugEntity> findByAssignedTo_Id(Long userId, Pageable pageable);
+    @Query(BUG_SUMMARY_SELECT + "WHERE b.assignedTo.id = :userId" + KEYSET_AFTER)
+    Slice<BugSummaryView> findSummariesByAssignedToIdAfter(@Param("userId") Long userId,
+                                                           @Param("createdAt") LocalDateTime createdAt,
+                                                           @Param("id") Long id,
+                                                           Pageable pageable);
 
-    Page<BugEntity> findByCreatedBy_Id(Long userId, Pageable pageable);
+    @Query(BUG_SUMMARY_SELECT + "WHERE b.createdBy.id = :userId" + KEYSET_AFTER)
+    Slice<BugSummaryView> findSummariesByCreatedByIdAfter(@Param("userId") Long userId,
+                                                          @Param("createdAt") LocalDateTime createdAt,
+                                                          @Param("id") Long id,
+                                                          Pageable pageable);
 
 }
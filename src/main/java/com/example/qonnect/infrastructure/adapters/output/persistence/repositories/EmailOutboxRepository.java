@@ -0,0 +1,30 @@
+package com.example.qonnect.infrastructure.adapters.output.persistence.repositories;
+
+import com.example.qonnect.domain.models.enums.EmailStatus;
+import com.example.qonnect.infrastructure.adapters.output.persistence.entities.EmailOutboxEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutboxEntity, Long> {
+
+    long countByStatusIn(Collection<EmailStatus> statuses);
+
+    @Query(value = """
+            SELECT * FROM email_outbox
+            WHERE status IN ('PENDING', 'IN_PROGRESS') AND next_attempt_at <= :now
+            ORDER BY next_attempt_at
+            LIMIT :batchSize
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<EmailOutboxEntity> lockDue(@Param("now") LocalDateTime now, @Param("batchSize") int batchSize);
+
+    @Modifying
+    @Query("DELETE FROM EmailOutboxEntity e WHERE e.status IN :statuses AND e.updatedAt < :cutoff")
+    int deleteFinishedBefore(@Param("statuses") Collection<EmailStatus> statuses, @Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,24 @@
+package com.example.qonnect.infrastructure.adapters.output.persistence.repositories;
+
+import com.example.qonnect.infrastructure.adapters.output.persistence.entities.IdentityProvisioningEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface IdentityProvisioningRepository extends JpaRepository<IdentityProvisioningEntity, Long> {
+
+    Optional<IdentityProvisioningEntity> findByEmail(String email);
+
+    @Query(value = """
+            SELECT * FROM identity_provisioning
+            WHERE status IN ('PENDING', 'IN_PROGRESS') AND next_attempt_at <= :now
+            ORDER BY next_attempt_at
+            LIMIT :batchSize
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<IdentityProvisioningEntity> lockDue(@Param("now") LocalDateTime now, @Param("batchSize") int batchSize);
+}
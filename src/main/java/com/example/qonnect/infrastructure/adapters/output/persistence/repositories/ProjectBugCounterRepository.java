@@ -0,0 +1,82 @@
+package com.example.qonnect.infrastructure.adapters.output.persistence.repositories;
+
+import com.example.qonnect.infrastructure.adapters.output.persistence.entities.ProjectBugCounterEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ProjectBugCounterRepository extends JpaRepository<ProjectBugCounterEntity, Long> {
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project_bug_counters"))
+    @Query(value = """
+            INSERT INTO project_bug_counters (project_id, status, severity, bug_count)
+            VALUES (:projectId, :status, :severity, :delta)
+            ON CONFLICT (project_id, status, severity)
+            DO UPDATE SET bug_count = project_bug_counters.bug_count + EXCLUDED.bug_count
+            """, nativeQuery = true)
+    void adjust(@Param("projectId") Long projectId,
+                @Param("status") String status,
+                @Param("severity") String severity,
+                @Param("delta") long delta);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project_bug_counters"))
+    @Query(value = """
+            UPDATE project_bug_counters c
+            SET bug_count = c.bug_count - b.cnt
+            FROM (SELECT project_id,
+                         COALESCE(status, 'NONE') AS status,
+                         COALESCE(severity, 'NONE') AS severity,
+                         COUNT(*) AS cnt
+                  FROM bug_entity
+                  WHERE task_id = :taskId AND project_id IS NOT NULL
+                  GROUP BY 1, 2, 3) b
+            WHERE c.project_id = b.project_id AND c.status = b.status AND c.severity = b.severity
+            """, nativeQuery = true)
+    void subtractBugsOfTask(@Param("taskId") Long taskId);
+
+    @Modifying
+    @Query("DELETE FROM ProjectBugCounterEntity c WHERE c.projectId = :projectId")
+    void deleteByProjectId(@Param("projectId") Long projectId);
+
+    List<ProjectBugCounterEntity> findByProjectId(Long projectId);
+
+    @Query("SELECT COALESCE(SUM(c.count), 0) FROM ProjectBugCounterEntity c WHERE c.projectId = :projectId")
+    long sumByProjectId(@Param("projectId") Long projectId);
+
+    /**
+     * Rewrites every counter row that disagrees with a fresh GROUP BY over bug_entity, returning how many rows drifted.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project_bug_counters"))
+    @Query(value = """
+            WITH actual AS (
+                SELECT project_id,
+                       COALESCE(status, 'NONE') AS status,
+                       COALESCE(severity, 'NONE') AS severity,
+                       COUNT(*) AS cnt
+                FROM bug_entity
+                WHERE project_id IS NOT NULL
+                GROUP BY 1, 2, 3
+            )
+            INSERT INTO project_bug_counters (project_id, status, severity, bug_count)
+            SELECT COALESCE(a.project_id, c.project_id),
+                   COALESCE(a.status, c.status),
+                   COALESCE(a.severity, c.severity),
+                   COALESCE(a.cnt, 0)
+            FROM actual a
+            FULL OUTER JOIN project_bug_counters c
+                ON c.project_id = a.project_id AND c.status = a.status AND c.severity = a.severity
+            WHERE c.bug_count IS DISTINCT FROM COALESCE(a.cnt, 0)
+            ON CONFLICT (project_id, status, severity)
+            DO UPDATE SET bug_count = EXCLUDED.bug_count
+            """, nativeQuery = true)
+    int reconcile();
+}
@@ -3,30 +3,56 @@ package com.example.qonnect.infrastructure.adapters.output.persistence.repositor
 import com.example.qonnect.domain.models.Organization;
 import com.example.qonnect.infrastructure.adapters.output.persistence.entities.OrganizationEntity;
 import com.example.qonnect.infrastructure.adapters.output.persistence.entities.ProjectEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
-public interface ProjectRepository extends JpaRepository<ProjectEntity, Long> {
-
+import java.util.Collection;
 
-    @Query("""
-    SELECT COUNT(p) > 0
-    FROM ProjectEntity p
-    WHERE p.name = :name
-      AND p.organization.id = :orgId
-""")
-    boolean existsProjectNameInOrganization(@Param("name") String name,
-                                            @Param("orgId") Long organizationId);
+public interface ProjectRepository extends JpaRepository<ProjectEntity, Long> {
 
     Page<ProjectEntity> findByOrganizationId(Long organizationId, Pageable pageable);
 
-
-
-    @Query("SELECT CASE WHEN COUNT(p) > 0 THEN true ELSE false END FROM ProjectEntity p WHERE p.name = :name AND p.organization.id = :organizationId AND p.id != :projectId")
-    boolean existsProjectNameInOrganizationExcludingId(@Param("name") String name, @Param("organizationId") Long organizationId, @Param("projectId") Long projectId);
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM project_users WHERE project_id = :projectId AND user_id = :userId)",
+            nativeQuery = true)
+    boolean isMember(@Param("projectId") Long projectId, @Param("userId") Long userId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project_users"))
+    @Query(value = """
+            INSERT INTO project_users (project_id, user_id)
+            VALUES (:projectId, :userId)
+            ON CONFLICT DO NOTHING
+            """, nativeQuery = true)
+    int insertMember(@Param("projectId") Long projectId, @Param("userId") Long userId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project_users"))
+    @Query(value = "DELETE FROM project_users WHERE project_id = :projectId AND user_id = :userId", nativeQuery = true)
+    int deleteMember(@Param("projectId") Long projectId, @Param("userId") Long userId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project_users"))
+    @Query(value = """
+            INSERT INTO project_users (project_id, user_id)
+            SELECT p.id, u.id
+            FROM project_entity p
+            JOIN user_entity u ON u.organization_id = p.organization_id
+            WHERE p.id = :projectId AND u.id IN (:userIds)
+            ON CONFLICT DO NOTHING
+            """, nativeQuery = true)
+    int insertMembers(@Param("projectId") Long projectId, @Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project_users"))
+    @Query(value = "DELETE FROM project_users WHERE project_id = :projectId AND user_id IN (:userIds)", nativeQuery = true)
+    int deleteMembers(@Param("projectId") Long projectId, @Param("userIds") Collection<Long> userIds);
 
 
 }
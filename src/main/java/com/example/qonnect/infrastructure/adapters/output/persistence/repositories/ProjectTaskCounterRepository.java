@@ -0,0 +1,60 @@
+package com.example.qonnect.infrastructure.adapters.output.persistence.repositories;
+
+import com.example.qonnect.infrastructure.adapters.output.persistence.entities.ProjectTaskCounterEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ProjectTaskCounterRepository extends JpaRepository<ProjectTaskCounterEntity, Long> {
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project_task_counters"))
+    @Query(value = """
+            INSERT INTO project_task_counters (project_id, status, task_count)
+            VALUES (:projectId, :status, :delta)
+            ON CONFLICT (project_id, status)
+            DO UPDATE SET task_count = project_task_counters.task_count + EXCLUDED.task_count
+            """, nativeQuery = true)
+    void adjust(@Param("projectId") Long projectId,
+                @Param("status") String status,
+                @Param("delta") long delta);
+
+    @Modifying
+    @Query("DELETE FROM ProjectTaskCounterEntity c WHERE c.projectId = :projectId")
+    void deleteByProjectId(@Param("projectId") Long projectId);
+
+    List<ProjectTaskCounterEntity> findByProjectId(Long projectId);
+
+    @Query("SELECT COALESCE(SUM(c.count), 0) FROM ProjectTaskCounterEntity c WHERE c.projectId = :projectId")
+    long sumByProjectId(@Param("projectId") Long projectId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project_task_counters"))
+    @Query(value = """
+            WITH actual AS (
+                SELECT project_id,
+                       COALESCE(status, 'NONE') AS status,
+                       COUNT(*) AS cnt
+                FROM tasks
+                WHERE project_id IS NOT NULL
+                GROUP BY 1, 2
+            )
+            INSERT INTO project_task_counters (project_id, status, task_count)
+            SELECT COALESCE(a.project_id, c.project_id),
+                   COALESCE(a.status, c.status),
+                   COALESCE(a.cnt, 0)
+            FROM actual a
+            FULL OUTER JOIN project_task_counters c
+                ON c.project_id = a.project_id AND c.status = a.status
+            WHERE c.task_count IS DISTINCT FROM COALESCE(a.cnt, 0)
+            ON CONFLICT (project_id, status)
+            DO UPDATE SET task_count = EXCLUDED.task_count
+            """, nativeQuery = true)
+    int reconcile();
+}
@@ -1,26 +1,88 @@
 package com.example.qonnect.infrastructure.adapters.output.persistence.repositories;
 
 import com.example.qonnect.domain.models.Task;
+import com.example.qonnect.domain.models.enums.TaskStatus;
 import com.example.qonnect.infrastructure.adapters.output.persistence.entities.BugEntity;
 import com.example.qonnect.infrastructure.adapters.output.persistence.entities.TaskEntity;
 import com.example.qonnect.infrastructure.adapters.output.persistence.entities.UserEntity;
+import com.example.qonnect.infrastructure.adapters.output.persistence.projections.TaskCounterKey;
+import com.example.qonnect.infrastructure.adapters.output.persistence.projections.TaskSummaryView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface TaskRepository extends JpaRepository<TaskEntity, Long> {
 
+    String TASK_SUMMARY_COLUMNS = """
+            t.id, t.title, t.description, t.status, t.projectId,
+            a.id, a.firstName, a.lastName, a.email,
+            t.dueDate, t.createdAt, t.updatedAt""";
+
+    String TASK_SUMMARY_FILTER = """
+            WHERE t.projectId = :projectId
+              AND (:status IS NULL OR t.status = :status)
+              AND (:assignedToId IS NULL OR t.assignedTo.id = :assignedToId)
+              AND (:dueFrom IS NULL OR t.dueDate >= :dueFrom)
+              AND (:dueTo IS NULL OR t.dueDate <= :dueTo)
+            """;
+
+    String TASK_SUMMARY_COUNT = "SELECT count(t) FROM TaskEntity t " + TASK_SUMMARY_FILTER;
+
     Optional<TaskEntity> findByTitle(String title);
 
-    boolean existsByTitleAndProjectId(String title, Long projectId);
+    @Query(value = "SELECT new com.example.qonnect.infrastructure.adapters.output.persistence.projections.TaskSummaryView("
+            + TASK_SUMMARY_COLUMNS + ") FROM TaskEntity t LEFT JOIN t.assignedTo a " + TASK_SUMMARY_FILTER,
+            countQuery = TASK_SUMMARY_COUNT)
+    Page<TaskSummaryView> findSummariesByProjectId(@Param("projectId") Long projectId,
+                                                   @Param("status") TaskStatus status,
+                                                   @Param("assignedToId") Long assignedToId,
+                                                   @Param("dueFrom") LocalDateTime dueFrom,
+                                                   @Param("dueTo") LocalDateTime dueTo,
+                                                   Pageable pageable);
 
-    List<TaskEntity> findAllByProjectId(Long projectId);
+    @Query(value = "SELECT new com.example.qonnect.infrastructure.adapters.output.persistence.projections.TaskSummaryView("
+            + TASK_SUMMARY_COLUMNS + ", (SELECT count(b) FROM BugEntity b WHERE b.task.id = t.id))"
+            + " FROM TaskEntity t LEFT JOIN t.assignedTo a " + TASK_SUMMARY_FILTER,
+            countQuery = TASK_SUMMARY_COUNT)
+    Page<TaskSummaryView> findSummariesWithBugCountByProjectId(@Param("projectId") Long projectId,
+                                                               @Param("status") TaskStatus status,
+                                                               @Param("assignedToId") Long assignedToId,
+                                                               @Param("dueFrom") LocalDateTime dueFrom,
+                                                               @Param("dueTo") LocalDateTime dueTo,
+                                                               Pageable pageable);
 
     Page<TaskEntity> findByAssignedTo(UserEntity assignedTo, Pageable pageable);
 
+    @Query("""
+            SELECT COUNT(t) > 0 FROM TaskEntity t
+            JOIN ProjectEntity p ON p.id = t.projectId
+            WHERE t.id = :taskId AND p.organization.id = :organizationId
+            """)
+    boolean existsInOrganization(@Param("taskId") Long taskId, @Param("organizationId") Long organizationId);
+
     Page<TaskEntity> findByAssignedTo_Id(Long assignedToId, Pageable pageable);
+
+    @Query("SELECT new com.example.qonnect.infrastructure.adapters.output.persistence.projections.TaskCounterKey(t.projectId, t.status) FROM TaskEntity t WHERE t.id = :id")
+    Optional<TaskCounterKey> findCounterKeyById(@Param("id") Long id);
+
+    @Query("SELECT new com.example.qonnect.infrastructure.adapters.output.persistence.projections.TaskSummaryView("
+            + TASK_SUMMARY_COLUMNS + ") FROM TaskEntity t JOIN t.assignedTo a"
+            + """
+
+            WHERE a.id = :userId
+              AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id))
+            ORDER BY t.createdAt DESC, t.id DESC
+            """)
+    Slice<TaskSummaryView> findByAssignedToIdAfter(@Param("userId") Long userId,
+                                                   @Param("createdAt") LocalDateTime createdAt,
+                                                   @Param("id") Long id,
+                                                   Pageable pageable);
 }
@@ -5,8 +5,12 @@ import com.example.qonnect.infrastructure.adapters.output.persistence.entities.U
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 public interface UserRepository extends JpaRepository<UserEntity, Long> {
     Optional<UserEntity> findByEmail(String email);
@@ -16,4 +20,20 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
     Optional<UserEntity> findByInviteToken(String inviteToken);
 
     Page<UserEntity> findUserEntitiesByOrganizationId(Long organizationId, Pageable pageable);
+
+    @Query("SELECT lower(u.email) FROM UserEntity u WHERE lower(u.email) IN :emails")
+    Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * Rooted at the user so that the caller's sort properties resolve against UserEntity.
+     */
+    @Query(value = """
+            SELECT u FROM UserEntity u
+            WHERE u.id IN (SELECT m.id FROM ProjectEntity p JOIN p.teamMembers m WHERE p.id = :projectId)
+            """,
+            countQuery = """
+            SELECT count(u) FROM UserEntity u
+            WHERE u.id IN (SELECT m.id FROM ProjectEntity p JOIN p.teamMembers m WHERE p.id = :projectId)
+            """)
+    Page<UserEntity> findMembersByProjectId(@Param("projectId") Long projectId, Pageable pageable);
 }
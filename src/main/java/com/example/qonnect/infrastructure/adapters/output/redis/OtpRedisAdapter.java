@@ -0,0 +1,92 @@
+package com.example.qonnect.infrastructure.adapters.output.redis;
+
+import com.example.qonnect.application.output.OtpOutputPort;
+import com.example.qonnect.domain.exceptions.OtpNotFoundException;
+import com.example.qonnect.domain.models.Otp;
+import com.example.qonnect.domain.models.enums.OtpType;
+import com.example.qonnect.infrastructure.adapters.input.rest.messages.ErrorMessages;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.otp.store", havingValue = "redis", matchIfMissing = true)
+public class OtpRedisAdapter implements OtpOutputPort {
+
+    private static final String KEY_PREFIX = "otp:";
+
+    // Deletes whichever per-type key holds the code and returns {type index, remaining ttl ms}.
+    private static final RedisScript<List> CONSUME_SCRIPT = new DefaultRedisScript<>("""
+            for i, key in ipairs(KEYS) do
+                if redis.call('GET', key) == ARGV[1] then
+                    local ttl = redis.call('PTTL', key)
+                    redis.call('DEL', key)
+                    return {i, ttl}
+                end
+            end
+            return nil
+            """, List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public Otp saveOtp(Otp otp) {
+        Duration ttl = Duration.between(LocalDateTime.now(), otp.getExpiryTime());
+        if (ttl.isNegative() || ttl.isZero()) {
+            return otp;
+        }
+        redisTemplate.opsForValue().set(key(otp.getEmail(), otp.getOtpType()), otp.getOtp(), ttl);
+        log.info("Stored {} otp for {} with ttl {}", otp.getOtpType(), otp.getEmail(), ttl);
+        return otp;
+    }
+
+    @Override
+    public Otp findByEmailAndOtp(String email, String otp) {
+        for (OtpType otpType : OtpType.values()) {
+            String key = key(email, otpType);
+            if (otp.equals(redisTemplate.opsForValue().get(key))) {
+                Long ttlMillis = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+                return toOtp(email, otp, otpType, ttlMillis == null ? 0 : ttlMillis);
+            }
+        }
+        throw new OtpNotFoundException(ErrorMessages.INVALID_OTP, HttpStatus.BAD_REQUEST);
+    }
+
+    @Override
+    public Otp consumeOtp(String email, String otp) {
+        List<String> keys = Arrays.stream(OtpType.values()).map(otpType -> key(email, otpType)).toList();
+        List<?> result = redisTemplate.execute(CONSUME_SCRIPT, keys, otp);
+        if (result == null || result.size() < 2) {
+            throw new OtpNotFoundException(ErrorMessages.INVALID_OTP, HttpStatus.BAD_REQUEST);
+        }
+        OtpType otpType = OtpType.values()[((Number) result.get(0)).intValue() - 1];
+        return toOtp(email, otp, otpType, ((Number) result.get(1)).longValue());
+    }
+
+    private Otp toOtp(String email, String otp, OtpType otpType, long ttlMillis) {
+        return Otp.builder()
+                .email(email)
+                .otp(otp)
+                .otpType(otpType)
+                .used(false)
+                .expiryTime(LocalDateTime.now().plus(Duration.ofMillis(Math.max(ttlMillis, 0))))
+                .build();
+    }
+
+    private static String key(String email, OtpType otpType) {
+        return KEY_PREFIX + email + ":" + otpType.name();
+    }
+}
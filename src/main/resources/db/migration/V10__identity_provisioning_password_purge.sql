@@ -0,0 +1,2 @@
+-- Finished provisioning rows no longer keep the password hash; clear the ones written before that.
+UPDATE identity_provisioning SET password = NULL WHERE status IN ('PROVISIONED', 'FAILED');
@@ -0,0 +1,94 @@
+-- Schema as previously generated by hibernate.ddl-auto; existing databases are baselined at this version.
+
+CREATE TABLE organizations (
+    id   BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    name VARCHAR(255),
+    CONSTRAINT pk_organizations PRIMARY KEY (id)
+);
+
+CREATE TABLE user_entity (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    first_name       VARCHAR(255),
+    last_name        VARCHAR(255),
+    email            VARCHAR(255) NOT NULL,
+    password         VARCHAR(255),
+    keycloak_id      VARCHAR(255),
+    role             VARCHAR(255),
+    enabled          BOOLEAN,
+    invited          BOOLEAN,
+    organization_id  BIGINT,
+    projects_id      BIGINT,
+    invited_at       TIMESTAMP(6),
+    invite_token     VARCHAR(255),
+    token_expires_at TIMESTAMP(6),
+    expired          BOOLEAN,
+    CONSTRAINT pk_user_entity PRIMARY KEY (id),
+    CONSTRAINT uk_user_entity_email UNIQUE (email)
+);
+
+CREATE TABLE project_entity (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    name            VARCHAR(255),
+    description     VARCHAR(255),
+    created_at      TIMESTAMP(6),
+    updated_at      TIMESTAMP(6),
+    created_by      BIGINT,
+    organization_id BIGINT,
+    CONSTRAINT pk_project_entity PRIMARY KEY (id)
+);
+
+CREATE TABLE project_users (
+    project_id BIGINT NOT NULL,
+    user_id    BIGINT NOT NULL
+);
+
+CREATE TABLE tasks (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    title               VARCHAR(255),
+    description         VARCHAR(1000),
+    status              VARCHAR(255),
+    assigned_to_user_id BIGINT,
+    due_date            TIMESTAMP(6),
+    created_at          TIMESTAMP(6),
+    updated_at          TIMESTAMP(6),
+    project_id          BIGINT,
+    CONSTRAINT pk_tasks PRIMARY KEY (id)
+);
+
+CREATE TABLE bug_entity (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    title       VARCHAR(255),
+    description VARCHAR(2000),
+    status      VARCHAR(255),
+    priority    VARCHAR(255),
+    severity    VARCHAR(255),
+    project_id  BIGINT,
+    created_by  BIGINT,
+    task_id     BIGINT,
+    assigned_to BIGINT,
+    created_at  TIMESTAMP(6),
+    CONSTRAINT pk_bug_entity PRIMARY KEY (id)
+);
+
+CREATE TABLE otps (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    otp         VARCHAR(255),
+    email       VARCHAR(255),
+    otp_type    VARCHAR(255),
+    used        BOOLEAN NOT NULL,
+    expiry_time TIMESTAMP(6),
+    created_at  TIMESTAMP(6),
+    CONSTRAINT pk_otps PRIMARY KEY (id)
+);
+
+ALTER TABLE user_entity ADD CONSTRAINT fk_user_entity_organization FOREIGN KEY (organization_id) REFERENCES organizations (id);
+ALTER TABLE user_entity ADD CONSTRAINT fk_user_entity_project FOREIGN KEY (projects_id) REFERENCES project_entity (id);
+ALTER TABLE project_entity ADD CONSTRAINT fk_project_entity_created_by FOREIGN KEY (created_by) REFERENCES user_entity (id);
+ALTER TABLE project_entity ADD CONSTRAINT fk_project_entity_organization FOREIGN KEY (organization_id) REFERENCES organizations (id);
+ALTER TABLE project_users ADD CONSTRAINT fk_project_users_project FOREIGN KEY (project_id) REFERENCES project_entity (id);
+ALTER TABLE project_users ADD CONSTRAINT fk_project_users_user FOREIGN KEY (user_id) REFERENCES user_entity (id);
+ALTER TABLE tasks ADD CONSTRAINT fk_tasks_assigned_to FOREIGN KEY (assigned_to_user_id) REFERENCES user_entity (id);
+ALTER TABLE bug_entity ADD CONSTRAINT fk_bug_entity_project FOREIGN KEY (project_id) REFERENCES project_entity (id);
+ALTER TABLE bug_entity ADD CONSTRAINT fk_bug_entity_created_by FOREIGN KEY (created_by) REFERENCES user_entity (id);
+ALTER TABLE bug_entity ADD CONSTRAINT fk_bug_entity_task FOREIGN KEY (task_id) REFERENCES tasks (id);
+ALTER TABLE bug_entity ADD CONSTRAINT fk_bug_entity_assigned_to FOREIGN KEY (assigned_to) REFERENCES user_entity (id);
@@ -0,0 +1,81 @@
+-- Tables and indexes added after the schema stopped being generated. Databases baselined at V1 get
+-- them here; IF NOT EXISTS skips whatever ddl-auto already created on those databases.
+
+CREATE TABLE IF NOT EXISTS email_outbox (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    recipient       VARCHAR(255) NOT NULL,
+    subject         VARCHAR(255),
+    body            TEXT,
+    status          VARCHAR(255) NOT NULL,
+    attempts        INTEGER NOT NULL,
+    next_attempt_at TIMESTAMP(6) NOT NULL,
+    last_error      VARCHAR(1000),
+    sent_at         TIMESTAMP(6),
+    created_at      TIMESTAMP(6),
+    updated_at      TIMESTAMP(6),
+    CONSTRAINT pk_email_outbox PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS identity_provisioning (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    email           VARCHAR(255) NOT NULL,
+    first_name      VARCHAR(255),
+    last_name       VARCHAR(255),
+    password        VARCHAR(255),
+    role            VARCHAR(255),
+    status          VARCHAR(255) NOT NULL,
+    attempts        INTEGER NOT NULL,
+    next_attempt_at TIMESTAMP(6) NOT NULL,
+    last_error      VARCHAR(1000),
+    keycloak_id     VARCHAR(255),
+    created_at      TIMESTAMP(6),
+    updated_at      TIMESTAMP(6),
+    CONSTRAINT pk_identity_provisioning PRIMARY KEY (id),
+    CONSTRAINT uk_identity_provisioning_email UNIQUE (email)
+);
+
+CREATE TABLE IF NOT EXISTS project_bug_counters (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    project_id BIGINT NOT NULL,
+    status     VARCHAR(255) NOT NULL,
+    severity   VARCHAR(255) NOT NULL,
+    bug_count  BIGINT NOT NULL,
+    CONSTRAINT pk_project_bug_counters PRIMARY KEY (id),
+    CONSTRAINT uk_project_bug_counters_key UNIQUE (project_id, status, severity)
+);
+
+CREATE TABLE IF NOT EXISTS project_task_counters (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    project_id BIGINT NOT NULL,
+    status     VARCHAR(255) NOT NULL,
+    task_count BIGINT NOT NULL,
+    CONSTRAINT pk_project_task_counters PRIMARY KEY (id),
+    CONSTRAINT uk_project_task_counters_key UNIQUE (project_id, status)
+);
+
+
+CREATE INDEX IF NOT EXISTS idx_bug_project_created_id ON bug_entity (project_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_bug_task_created_id ON bug_entity (task_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_bug_assigned_created_id ON bug_entity (assigned_to, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_bug_created_by_created_id ON bug_entity (created_by, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_assignee_created_id ON tasks (assigned_to_user_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_otps_email_otp ON otps (email, otp);
+CREATE INDEX IF NOT EXISTS idx_email_outbox_status_next_attempt ON email_outbox (status, next_attempt_at);
+CREATE INDEX IF NOT EXISTS idx_identity_provisioning_status_next_attempt ON identity_provisioning (status, next_attempt_at);
+
+-- ddl-auto named the email unique key itself; give it the name UniqueConstraints matches on.
+DO $$
+DECLARE
+    generated_name TEXT;
+BEGIN
+    SELECT c.conname INTO generated_name
+    FROM pg_constraint c
+    JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = ANY (c.conkey)
+    WHERE c.conrelid = 'user_entity'::regclass
+      AND c.contype = 'u'
+      AND array_length(c.conkey, 1) = 1
+      AND a.attname = 'email';
+    IF generated_name IS NOT NULL AND generated_name <> 'uk_user_entity_email' THEN
+        EXECUTE format('ALTER TABLE user_entity RENAME CONSTRAINT %I TO uk_user_entity_email', generated_name);
+    END IF;
+END $$;
@@ -0,0 +1,16 @@
+-- One index per repository lookup that was a sequential scan; RepositoryIndexCoverageTest keeps this list honest.
+
+CREATE INDEX IF NOT EXISTS idx_bug_project_title ON bug_entity (project_id, title);
+
+CREATE INDEX IF NOT EXISTS idx_tasks_project_title ON tasks (project_id, title);
+CREATE INDEX IF NOT EXISTS idx_tasks_title ON tasks (title);
+
+CREATE INDEX IF NOT EXISTS idx_user_entity_invite_token ON user_entity (invite_token);
+CREATE INDEX IF NOT EXISTS idx_user_entity_organization ON user_entity (organization_id);
+
+CREATE INDEX IF NOT EXISTS idx_project_entity_organization_name ON project_entity (organization_id, name);
+
+CREATE INDEX IF NOT EXISTS idx_organizations_name ON organizations (name);
+
+CREATE INDEX IF NOT EXISTS idx_project_users_project_user ON project_users (project_id, user_id);
+CREATE INDEX IF NOT EXISTS idx_project_users_user ON project_users (user_id);
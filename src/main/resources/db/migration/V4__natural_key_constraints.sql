@@ -0,0 +1,13 @@
+-- Natural keys enforced by the database so creates can insert directly and translate the conflict.
+-- Fails if duplicates already exist; resolve them before migrating.
+
+ALTER TABLE tasks ADD CONSTRAINT uk_tasks_project_title UNIQUE (project_id, title);
+ALTER TABLE bug_entity ADD CONSTRAINT uk_bug_entity_project_title UNIQUE (project_id, title);
+ALTER TABLE project_entity ADD CONSTRAINT uk_project_entity_organization_name UNIQUE (organization_id, name);
+ALTER TABLE organizations ADD CONSTRAINT uk_organizations_name UNIQUE (name);
+
+-- Superseded by the constraint indexes above.
+DROP INDEX IF EXISTS idx_bug_project_title;
+DROP INDEX IF EXISTS idx_tasks_project_title;
+DROP INDEX IF EXISTS idx_project_entity_organization_name;
+DROP INDEX IF EXISTS idx_organizations_name;
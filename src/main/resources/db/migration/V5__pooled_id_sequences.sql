@@ -0,0 +1,27 @@
+-- Move the write-heavy tables from identity columns to pooled sequences so Hibernate can
+-- assign ids in memory and batch inserts. Each sequence restarts one allocation block
+-- past the current maximum id; INCREMENT BY must match allocationSize on the entity.
+
+ALTER TABLE organizations ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE organizations_seq INCREMENT BY 50 OWNED BY organizations.id;
+SELECT setval('organizations_seq', COALESCE(MAX(id), 0) + 50, false) FROM organizations;
+
+ALTER TABLE user_entity ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE user_entity_seq INCREMENT BY 50 OWNED BY user_entity.id;
+SELECT setval('user_entity_seq', COALESCE(MAX(id), 0) + 50, false) FROM user_entity;
+
+ALTER TABLE project_entity ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE project_entity_seq INCREMENT BY 50 OWNED BY project_entity.id;
+SELECT setval('project_entity_seq', COALESCE(MAX(id), 0) + 50, false) FROM project_entity;
+
+ALTER TABLE tasks ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE tasks_seq INCREMENT BY 50 OWNED BY tasks.id;
+SELECT setval('tasks_seq', COALESCE(MAX(id), 0) + 50, false) FROM tasks;
+
+ALTER TABLE bug_entity ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE bug_entity_seq INCREMENT BY 50 OWNED BY bug_entity.id;
+SELECT setval('bug_entity_seq', COALESCE(MAX(id), 0) + 50, false) FROM bug_entity;
+
+ALTER TABLE otps ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE otps_seq INCREMENT BY 50 OWNED BY otps.id;
+SELECT setval('otps_seq', COALESCE(MAX(id), 0) + 50, false) FROM otps;
@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_tasks_project_created_id ON tasks (project_id, created_at, id);
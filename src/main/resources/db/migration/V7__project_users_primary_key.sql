@@ -0,0 +1,10 @@
+-- Membership is now written row by row with ON CONFLICT, which needs a key on the join table.
+DELETE FROM project_users a
+USING project_users b
+WHERE a.ctid < b.ctid
+  AND a.project_id = b.project_id
+  AND a.user_id = b.user_id;
+
+ALTER TABLE project_users ADD CONSTRAINT pk_project_users PRIMARY KEY (project_id, user_id);
+
+DROP INDEX IF EXISTS idx_project_users_project_user;
@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_email_outbox_status_updated_at ON email_outbox (status, updated_at);
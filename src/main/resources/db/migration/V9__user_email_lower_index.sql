@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_user_entity_lower_email ON user_entity (lower(email));
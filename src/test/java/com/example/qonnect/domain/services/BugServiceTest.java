@@ -1,8 +1,10 @@
 package com.example.qonnect.domain.services;
 
 import com.example.qonnect.application.output.*;
+import com.example.qonnect.domain.exceptions.BugAlreadyExistsException;
 import com.example.qonnect.domain.exceptions.BugNotFoundException;
 import com.example.qonnect.domain.exceptions.QonnectException;
+import com.example.qonnect.domain.exceptions.TaskNotFoundException;
 import com.example.qonnect.domain.models.*;
 import com.example.qonnect.domain.models.enums.BugPriority;
 import com.example.qonnect.domain.models.enums.BugSeverity;
@@ -20,9 +22,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -90,25 +97,45 @@ class BugServiceTest {
 
     @Test
     void getBugById_success() {
-        when(taskOutputPort.getTaskById(task.getId())).thenReturn(task);
-        when(projectOutputPort.getProjectById(task.getProjectId())).thenReturn(project);
-        when(bugOutputPort.getBugByIdAndTaskId(bug.getId(), task.getId())).thenReturn(bug);
+        when(bugOutputPort.findBugInOrganization(bug.getId(), task.getId(), 1L)).thenReturn(Optional.of(bug));
 
         Bug result = bugService.getBugById(user, task.getId(), bug.getId());
 
         assertEquals(bug.getId(), result.getId());
+        verifyNoInteractions(taskOutputPort, projectOutputPort);
     }
 
     @Test
     void getBugById_shouldThrow_whenBugNotFound() {
+        when(bugOutputPort.findBugInOrganization(bug.getId(), task.getId(), 1L)).thenReturn(Optional.empty());
         when(taskOutputPort.getTaskById(task.getId())).thenReturn(task);
         when(projectOutputPort.getProjectById(task.getProjectId())).thenReturn(project);
-        when(bugOutputPort.getBugByIdAndTaskId(bug.getId(), task.getId())).thenReturn(null);
 
         assertThrows(BugNotFoundException.class,
                 () -> bugService.getBugById(user, task.getId(), bug.getId()));
     }
 
+    @Test
+    void getBugById_shouldDenyAccess_whenTaskBelongsToAnotherOrganization() {
+        project.setOrganizationId(2L);
+        when(bugOutputPort.findBugInOrganization(bug.getId(), task.getId(), 1L)).thenReturn(Optional.empty());
+        when(taskOutputPort.getTaskById(task.getId())).thenReturn(task);
+        when(projectOutputPort.getProjectById(task.getProjectId())).thenReturn(project);
+
+        assertThrows(AccessDeniedException.class,
+                () -> bugService.getBugById(user, task.getId(), bug.getId()));
+    }
+
+    @Test
+    void getBugById_shouldThrowTaskNotFound_whenTaskMissing() {
+        when(bugOutputPort.findBugInOrganization(bug.getId(), task.getId(), 1L)).thenReturn(Optional.empty());
+        when(taskOutputPort.getTaskById(task.getId()))
+                .thenThrow(new TaskNotFoundException(ErrorMessages.TASK_NOT_FOUND, HttpStatus.NOT_FOUND));
+
+        assertThrows(TaskNotFoundException.class,
+                () -> bugService.getBugById(user, task.getId(), bug.getId()));
+    }
+
     @Test
     void updateBugDetails_success() {
         Bug update = new Bug();
@@ -116,9 +143,7 @@ class BugServiceTest {
         update.setTitle("Updated Title");
         update.setDescription("Updated Desc");
 
-        when(taskOutputPort.getTaskById(task.getId())).thenReturn(task);
-        when(projectOutputPort.getProjectById(task.getProjectId())).thenReturn(project);
-        when(bugOutputPort.getBugByIdAndTaskId(update.getId(), task.getId())).thenReturn(bug);
+        when(bugOutputPort.findBugInOrganization(update.getId(), task.getId(), 1L)).thenReturn(Optional.of(bug));
         when(bugOutputPort.saveBug(any())).thenAnswer(inv -> inv.getArgument(0));
 
         Bug result = bugService.updateBugDetails(user, task.getId(), update);
@@ -142,9 +167,7 @@ class BugServiceTest {
         update.setId(bug.getId());
         update.setStatus(BugStatus.IN_PROGRESS);
 
-        when(taskOutputPort.getTaskById(task.getId())).thenReturn(task);
-        when(projectOutputPort.getProjectById(task.getProjectId())).thenReturn(project);
-        when(bugOutputPort.getBugByIdAndTaskId(update.getId(), task.getId())).thenReturn(bug);
+        when(bugOutputPort.findBugInOrganization(update.getId(), task.getId(), 1L)).thenReturn(Optional.of(bug));
         when(bugOutputPort.saveBug(any())).thenAnswer(inv -> inv.getArgument(0));
 
         Bug result = bugService.updateBugStatus(user, task.getId(), update);
@@ -167,9 +190,7 @@ class BugServiceTest {
         update.setId(bug.getId());
         update.setSeverity(BugSeverity.MAJOR);
 
-        when(taskOutputPort.getTaskById(task.getId())).thenReturn(task);
-        when(projectOutputPort.getProjectById(task.getProjectId())).thenReturn(project);
-        when(bugOutputPort.getBugByIdAndTaskId(update.getId(), task.getId())).thenReturn(bug);
+        when(bugOutputPort.findBugInOrganization(update.getId(), task.getId(), 1L)).thenReturn(Optional.of(bug));
         when(bugOutputPort.saveBug(any())).thenAnswer(inv -> inv.getArgument(0));
 
         Bug result = bugService.updateBugSeverity(user, task.getId(), update);
@@ -202,8 +223,7 @@ class BugServiceTest {
     void getAllBugsInTask_success() {
         Page<Bug> page = new PageImpl<>(List.of(bug));
 
-        when(taskOutputPort.getTaskById(task.getId())).thenReturn(task);
-        when(projectOutputPort.getProjectById(task.getProjectId())).thenReturn(project);
+        when(taskOutputPort.existsInOrganization(task.getId(), 1L)).thenReturn(true);
         when(bugOutputPort.getAllBugsByTaskId(task.getId(), pageable)).thenReturn(page);
 
         Page<Bug> result = bugService.getAllBugsInATask(user, task.getId(), pageable);
@@ -249,6 +269,38 @@ class BugServiceTest {
     }
 
 
+    @Test
+    void getBugsByCreatedByIdAfter_shouldStartFromTheNewestRow_whenCursorIsNull() {
+        Slice<Bug> slice = new SliceImpl<>(List.of(bug), PageRequest.of(0, 10), false);
+        when(bugOutputPort.getBugsByCreatedByIdAfter(user.getId(), KeysetCursor.START, 10)).thenReturn(slice);
+
+        Slice<Bug> result = bugService.getBugsByCreatedByIdAfter(user.getId(), null, 10);
+
+        assertEquals(1, result.getNumberOfElements());
+        verify(bugOutputPort).getBugsByCreatedByIdAfter(user.getId(), KeysetCursor.START, 10);
+    }
+
+    @Test
+    void getBugsByAssignedToIdAfter_shouldPassCursorThrough() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2025, 1, 1, 10, 0), 42L);
+        when(bugOutputPort.getBugsByAssignedToIdAfter(user.getId(), cursor, 5))
+                .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 5), false));
+
+        Slice<Bug> result = bugService.getBugsByAssignedToIdAfter(user.getId(), cursor, 5);
+
+        assertEquals(0, result.getNumberOfElements());
+        verify(bugOutputPort).getBugsByAssignedToIdAfter(user.getId(), cursor, 5);
+    }
+
+    @Test
+    void getBugsByAssignedToIdAfter_shouldThrow_whenUserIdIsNull() {
+        QonnectException ex = assertThrows(QonnectException.class, () ->
+                bugService.getBugsByAssignedToIdAfter(null, null, 10));
+
+        assertEquals(ErrorMessages.USER_NOT_FOUND, ex.getMessage());
+        verifyNoInteractions(bugOutputPort);
+    }
+
     @Test
     void testReportBug_Success() {
         Bug bug = Bug.builder()
@@ -261,7 +313,6 @@ class BugServiceTest {
                 .build();
 
         when(projectOutputPort.getProjectById(project.getId())).thenReturn(project);
-        when(bugOutputPort.existsByTitleAndProjectId(bug.getTitle(), bug.getProjectId())).thenReturn(false);
         when(bugOutputPort.saveBug(any(Bug.class))).thenAnswer(inv -> inv.getArgument(0));
 
         Bug saved = bugService.reportBug(user, bug);
@@ -318,9 +369,11 @@ class BugServiceTest {
                 .build();
 
         when(projectOutputPort.getProjectById(project.getId())).thenReturn(project);
-        when(bugOutputPort.existsByTitleAndProjectId(bug.getTitle(), project.getId())).thenReturn(true);
+        when(bugOutputPort.saveBug(any(Bug.class)))
+                .thenThrow(new BugAlreadyExistsException(ErrorMessages.BUG_ALREADY_EXISTS, HttpStatus.CONFLICT));
 
-        assertThrows(IllegalArgumentException.class, () -> bugService.reportBug(user, bug));
+        BugAlreadyExistsException ex = assertThrows(BugAlreadyExistsException.class, () -> bugService.reportBug(user, bug));
+        assertEquals(HttpStatus.CONFLICT, ex.getStatus());
     }
 
     @Test
@@ -0,0 +1,160 @@
+package com.example.qonnect.domain.services;
+
+import com.example.qonnect.application.output.EmailOutboxOutputPort;
+import com.example.qonnect.domain.models.OutboundEmail;
+import com.example.qonnect.domain.models.enums.EmailStatus;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class EmailDeliveryServiceTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Mock private EmailOutboxOutputPort emailOutboxOutputPort;
+
+    private SimpleMeterRegistry meterRegistry;
+    private JavaMailSenderImpl mailSender;
+    private EmailDeliveryService emailDeliveryService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(greenMail.getSmtp().getPort());
+
+        emailDeliveryService = new EmailDeliveryService(emailOutboxOutputPort, new EmailService(mailSender), meterRegistry);
+        emailDeliveryService.setWorkers(2);
+        emailDeliveryService.setBatchSize(2);
+        emailDeliveryService.setMaxAttempts(3);
+        emailDeliveryService.setInitialBackoffMs(1000);
+        emailDeliveryService.setMaxBackoffMs(5000);
+        emailDeliveryService.setLeaseMs(60000);
+        emailDeliveryService.setRetentionMs(Duration.ofHours(24).toMillis());
+        emailDeliveryService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        emailDeliveryService.shutdown();
+    }
+
+    private List<OutboundEmail> queued(int count, int attempts) {
+        return new ArrayList<>(LongStream.rangeClosed(1, count)
+                .mapToObj(id -> OutboundEmail.builder()
+                        .id(id)
+                        .recipient("user" + id + "@example.com")
+                        .subject("Your OTP")
+                        .body("Your OTP is 123456")
+                        .status(EmailStatus.IN_PROGRESS)
+                        .attempts(attempts)
+                        .createdAt(LocalDateTime.now().minusSeconds(1))
+                        .build())
+                .toList());
+    }
+
+    @Test
+    void shouldDeliverClaimedEmailsInBatches() {
+        List<OutboundEmail> due = queued(3, 0);
+        when(emailOutboxOutputPort.claimDue(eq(4), any(Duration.class))).thenReturn(due);
+        when(emailOutboxOutputPort.countPending()).thenReturn(0L);
+
+        emailDeliveryService.drain();
+        awaitDrained();
+
+        assertEquals(3, greenMail.getReceivedMessages().length);
+        assertTrue(due.stream().allMatch(email -> email.getStatus() == EmailStatus.SENT));
+        assertTrue(due.stream().allMatch(email -> email.getSentAt() != null));
+        verify(emailOutboxOutputPort, times(2)).saveAll(anyList());
+        assertEquals(3.0, meterRegistry.get("email.delivery.sent").counter().count());
+        assertEquals(3, meterRegistry.get("email.delivery.latency").timer().count());
+    }
+
+    @Test
+    void shouldScheduleRetryWhenSmtpIsUnavailable() {
+        mailSender.setPort(1);
+        List<OutboundEmail> due = queued(1, 0);
+        when(emailOutboxOutputPort.claimDue(anyInt(), any(Duration.class))).thenReturn(due);
+        when(emailOutboxOutputPort.countPending()).thenReturn(1L);
+
+        emailDeliveryService.drain();
+        awaitDrained();
+
+        OutboundEmail email = due.get(0);
+        assertEquals(EmailStatus.PENDING, email.getStatus());
+        assertEquals(1, email.getAttempts());
+        assertNotNull(email.getLastError());
+        assertTrue(email.getNextAttemptAt().isAfter(LocalDateTime.now()));
+        assertEquals(1.0, meterRegistry.get("email.delivery.failures").counter().count());
+        assertEquals(1.0, meterRegistry.get("email.outbox.pending").gauge().value());
+    }
+
+    @Test
+    void shouldDeadLetterAfterMaxAttempts() {
+        mailSender.setPort(1);
+        List<OutboundEmail> due = queued(1, 2);
+        when(emailOutboxOutputPort.claimDue(anyInt(), any(Duration.class))).thenReturn(due);
+
+        emailDeliveryService.drain();
+        awaitDrained();
+
+        assertEquals(EmailStatus.DEAD, due.get(0).getStatus());
+        assertEquals(3, due.get(0).getAttempts());
+        assertEquals(1.0, meterRegistry.get("email.delivery.dead").counter().count());
+    }
+
+    @Test
+    void shouldDoNothingWhenOutboxIsEmpty() {
+        when(emailOutboxOutputPort.claimDue(anyInt(), any(Duration.class))).thenReturn(List.of());
+
+        emailDeliveryService.drain();
+
+        verify(emailOutboxOutputPort, never()).saveAll(anyList());
+        assertEquals(0, greenMail.getReceivedMessages().length);
+    }
+
+    @Test
+    void shouldPurgeFinishedEmailsOlderThanTheRetention() {
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        when(emailOutboxOutputPort.purgeFinishedBefore(cutoff.capture())).thenReturn(3);
+        LocalDateTime before = LocalDateTime.now().minusHours(24);
+
+        emailDeliveryService.purge();
+
+        assertFalse(cutoff.getValue().isBefore(before));
+        assertTrue(cutoff.getValue().isBefore(LocalDateTime.now().minusHours(23)));
+    }
+
+    @Test
+    void shouldBackOffExponentiallyUpToMax() {
+        assertEquals(Duration.ofMillis(1000), emailDeliveryService.backoff(1));
+        assertEquals(Duration.ofMillis(2000), emailDeliveryService.backoff(2));
+        assertEquals(Duration.ofMillis(5000), emailDeliveryService.backoff(5));
+    }
+
+    /** The last worker to finish refreshes the pending gauge. */
+    private void awaitDrained() {
+        verify(emailOutboxOutputPort, timeout(5000)).countPending();
+    }
+}
@@ -1,34 +1,68 @@
 package com.example.qonnect.domain.services;
 
+import com.example.qonnect.domain.models.OutboundEmail;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
 
-import static org.mockito.Mockito.*;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 class EmailServiceTest {
 
-    private JavaMailSender mailSender;
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
     private EmailService emailService;
 
     @BeforeEach
     void setUp() {
-        mailSender = mock(JavaMailSender.class);
-            mailSender = mock(JavaMailSender.class);
-            emailService = new EmailService(mailSender);
-        }
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(greenMail.getSmtp().getPort());
+        emailService = new EmailService(mailSender);
+    }
 
+    private OutboundEmail email(long id, String to) {
+        return OutboundEmail.builder()
+                .id(id)
+                .recipient(to)
+                .subject("Test Subject")
+                .body("This is a test email.")
+                .build();
+    }
 
+    @Test
+    void testSendBatchDeliversEveryMessage() throws Exception {
+        Map<Long, String> failures = emailService.sendBatch(List.of(
+                email(1L, "praiseoyewole560@gmail.com"),
+                email(2L, "other@example.com")));
+
+        assertTrue(failures.isEmpty());
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(2, received.length);
+        assertEquals("Test Subject", received[0].getSubject());
+    }
 
     @Test
-    void testSendEmail() {
-        String to = "praiseoyewole560@gmail.com";
-        String subject = "Test Subject";
-        String body = "This is a test email.";
+    void testSendBatchReportsFailuresWhenSmtpIsDown() {
+        JavaMailSenderImpl unreachable = new JavaMailSenderImpl();
+        unreachable.setHost("localhost");
+        unreachable.setPort(1);
+        emailService = new EmailService(unreachable);
 
-        emailService.sendEmail(to, subject, body);
+        Map<Long, String> failures = emailService.sendBatch(List.of(
+                email(1L, "praiseoyewole560@gmail.com"),
+                email(2L, "other@example.com")));
 
-        verify(mailSender, times(1)).send(any(SimpleMailMessage.class));
+        assertEquals(2, failures.size());
+        assertTrue(failures.containsKey(1L));
+        assertTrue(failures.containsKey(2L));
     }
 }
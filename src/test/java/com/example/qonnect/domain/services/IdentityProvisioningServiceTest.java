@@ -0,0 +1,220 @@
+package com.example.qonnect.domain.services;
+
+import com.example.qonnect.application.output.IdentityManagementOutputPort;
+import com.example.qonnect.application.output.IdentityProvisioningOutputPort;
+import com.example.qonnect.domain.exceptions.IdentityManagementException;
+import com.example.qonnect.domain.exceptions.UserAlreadyExistException;
+import com.example.qonnect.domain.models.IdentityProvisioning;
+import com.example.qonnect.domain.models.User;
+import com.example.qonnect.domain.models.enums.ProvisioningStatus;
+import com.example.qonnect.domain.models.enums.Role;
+import com.example.qonnect.infrastructure.adapters.input.rest.messages.ErrorMessages;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class IdentityProvisioningServiceTest {
+
+    @Mock private IdentityProvisioningOutputPort identityProvisioningOutputPort;
+    @Mock private IdentityManagementOutputPort identityManagementOutputPort;
+
+    private IdentityProvisioningService identityProvisioningService;
+    private IdentityProvisioning provisioning;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        identityProvisioningService = new IdentityProvisioningService(identityProvisioningOutputPort, identityManagementOutputPort);
+        identityProvisioningService.setWorkers(2);
+        identityProvisioningService.setBatchSize(10);
+        identityProvisioningService.setMaxAttempts(3);
+        identityProvisioningService.setInitialBackoffMs(1000);
+        identityProvisioningService.setMaxBackoffMs(5000);
+        identityProvisioningService.setLeaseMs(60000);
+        identityProvisioningService.init();
+
+        provisioning = IdentityProvisioning.builder()
+                .id(1L)
+                .email("praise@example.com")
+                .firstName("Praise")
+                .lastName("Oyewole")
+                .password("encoded")
+                .role(Role.DEVELOPER)
+                .status(ProvisioningStatus.IN_PROGRESS)
+                .attempts(0)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        identityProvisioningService.shutdown();
+    }
+
+    @Test
+    void shouldProvisionClaimedIdentities() {
+        when(identityProvisioningOutputPort.claimDue(eq(10), any(Duration.class))).thenReturn(List.of(provisioning));
+        when(identityManagementOutputPort.createUser(any(User.class)))
+                .thenAnswer(inv -> {
+                    User user = inv.getArgument(0);
+                    user.setKeycloakId("kc-123");
+                    return user;
+                });
+
+        identityProvisioningService.drain();
+
+        verify(identityProvisioningOutputPort, timeout(1000)).saveProvisioning(provisioning);
+        ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
+        verify(identityManagementOutputPort).createUser(userCaptor.capture());
+        assertEquals("praise@example.com", userCaptor.getValue().getEmail());
+        assertEquals(Role.DEVELOPER, userCaptor.getValue().getRole());
+
+        assertEquals(ProvisioningStatus.PROVISIONED, provisioning.getStatus());
+        assertEquals("kc-123", provisioning.getKeycloakId());
+        assertNull(provisioning.getPassword());
+    }
+
+    @Test
+    void shouldAssignTheRoleOfAnExistingIdentityBeforeMarkingItProvisioned() {
+        when(identityManagementOutputPort.createUser(any(User.class)))
+                .thenThrow(new UserAlreadyExistException(ErrorMessages.USER_EXISTS_ALREADY, HttpStatus.CONFLICT));
+        when(identityManagementOutputPort.assignRole(any(User.class)))
+                .thenAnswer(inv -> {
+                    User user = inv.getArgument(0);
+                    user.setKeycloakId("kc-existing");
+                    return user;
+                });
+
+        identityProvisioningService.provision(provisioning);
+
+        ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
+        verify(identityManagementOutputPort).assignRole(userCaptor.capture());
+        assertEquals(Role.DEVELOPER, userCaptor.getValue().getRole());
+        assertEquals(ProvisioningStatus.PROVISIONED, provisioning.getStatus());
+        assertEquals("kc-existing", provisioning.getKeycloakId());
+        verify(identityProvisioningOutputPort).saveProvisioning(provisioning);
+    }
+
+    @Test
+    void shouldFinishAnAttemptWhoseRoleAssignmentFailedAfterTheIdentityWasCreated() {
+        when(identityManagementOutputPort.createUser(any(User.class)))
+                .thenThrow(new IdentityManagementException("Role assignment failed", HttpStatus.INTERNAL_SERVER_ERROR))
+                .thenThrow(new UserAlreadyExistException(ErrorMessages.USER_EXISTS_ALREADY, HttpStatus.CONFLICT));
+        when(identityManagementOutputPort.assignRole(any(User.class)))
+                .thenAnswer(inv -> {
+                    User user = inv.getArgument(0);
+                    user.setKeycloakId("kc-123");
+                    return user;
+                });
+
+        identityProvisioningService.provision(provisioning);
+        assertEquals(ProvisioningStatus.PENDING, provisioning.getStatus());
+
+        identityProvisioningService.provision(provisioning);
+
+        verify(identityManagementOutputPort).assignRole(any(User.class));
+        assertEquals(ProvisioningStatus.PROVISIONED, provisioning.getStatus());
+        assertEquals("kc-123", provisioning.getKeycloakId());
+        assertEquals(2, provisioning.getAttempts());
+    }
+
+    @Test
+    void shouldRetryWhenTheExistingIdentityCannotBeCompleted() {
+        when(identityManagementOutputPort.createUser(any(User.class)))
+                .thenThrow(new UserAlreadyExistException(ErrorMessages.USER_EXISTS_ALREADY, HttpStatus.CONFLICT));
+        when(identityManagementOutputPort.assignRole(any(User.class)))
+                .thenThrow(new IdentityManagementException("Keycloak unavailable", HttpStatus.INTERNAL_SERVER_ERROR));
+
+        identityProvisioningService.provision(provisioning);
+
+        assertEquals(ProvisioningStatus.PENDING, provisioning.getStatus());
+        assertNull(provisioning.getKeycloakId());
+        assertEquals("Keycloak unavailable", provisioning.getLastError());
+    }
+
+    @Test
+    void shouldRescheduleWithBackoffWhenIdentityServerFails() {
+        when(identityManagementOutputPort.createUser(any(User.class)))
+                .thenThrow(new IdentityManagementException("Keycloak unavailable", HttpStatus.INTERNAL_SERVER_ERROR));
+        LocalDateTime before = LocalDateTime.now();
+
+        identityProvisioningService.provision(provisioning);
+
+        assertEquals(ProvisioningStatus.PENDING, provisioning.getStatus());
+        assertEquals(1, provisioning.getAttempts());
+        assertEquals("encoded", provisioning.getPassword());
+        assertEquals("Keycloak unavailable", provisioning.getLastError());
+        assertFalse(provisioning.getNextAttemptAt().isBefore(before.plusSeconds(1)));
+    }
+
+    @Test
+    void shouldMarkFailedAfterMaxAttempts() {
+        provisioning.setAttempts(2);
+        when(identityManagementOutputPort.createUser(any(User.class)))
+                .thenThrow(new IdentityManagementException("Keycloak unavailable", HttpStatus.INTERNAL_SERVER_ERROR));
+
+        identityProvisioningService.provision(provisioning);
+
+        assertEquals(ProvisioningStatus.FAILED, provisioning.getStatus());
+        assertEquals(3, provisioning.getAttempts());
+        assertNull(provisioning.getPassword());
+    }
+
+    @Test
+    void shouldCapExponentialBackoff() {
+        assertEquals(Duration.ofSeconds(1), identityProvisioningService.backoff(1));
+        assertEquals(Duration.ofSeconds(4), identityProvisioningService.backoff(3));
+        assertEquals(Duration.ofSeconds(5), identityProvisioningService.backoff(10));
+    }
+
+    @Test
+    void shouldReturnWithoutWaitingAndNotClaimAgainUntilTheBatchIsDone() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(identityProvisioningOutputPort.claimDue(eq(10), any(Duration.class))).thenReturn(List.of(provisioning));
+        when(identityManagementOutputPort.createUser(any(User.class))).thenAnswer(inv -> {
+            release.await();
+            return inv.getArgument(0);
+        });
+
+        identityProvisioningService.drain();
+        identityProvisioningService.drain();
+
+        verify(identityProvisioningOutputPort, times(1)).claimDue(eq(10), any(Duration.class));
+        release.countDown();
+        verify(identityProvisioningOutputPort, timeout(1000)).saveProvisioning(provisioning);
+
+        // The worker releases its slot just after saving, so poll until the next drain claims again.
+        for (int i = 0; i < 100 && claims() < 2; i++) {
+            Thread.sleep(10);
+            identityProvisioningService.drain();
+        }
+        assertEquals(2, claims());
+    }
+
+    private long claims() {
+        return mockingDetails(identityProvisioningOutputPort).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("claimDue"))
+                .count();
+    }
+
+    @Test
+    void shouldDoNothingWhenNothingIsDue() {
+        when(identityProvisioningOutputPort.claimDue(eq(10), any(Duration.class))).thenReturn(List.of());
+
+        identityProvisioningService.drain();
+
+        verifyNoInteractions(identityManagementOutputPort);
+    }
+}
@@ -1,29 +1,38 @@
 package com.example.qonnect.domain.services;
 
 import com.example.qonnect.application.output.EmailOutputPort;
-import com.example.qonnect.application.output.IdentityManagementOutputPort;
+import com.example.qonnect.application.output.IdentityProvisioningOutputPort;
 import com.example.qonnect.application.output.OrganizationOutputPort;
 import com.example.qonnect.application.output.UserOutputPort;
 import com.example.qonnect.domain.exceptions.OrganizationAlreadyExistsException;
 import com.example.qonnect.domain.exceptions.UserAlreadyExistException;
 import com.example.qonnect.domain.exceptions.UserNotFoundException;
+import com.example.qonnect.domain.models.Invitation;
 import com.example.qonnect.domain.models.Organization;
+import com.example.qonnect.domain.models.enums.InvitationStatus;
 import com.example.qonnect.domain.models.enums.OtpType;
 import com.example.qonnect.domain.models.enums.Role;
 import com.example.qonnect.domain.models.User;
+import com.example.qonnect.infrastructure.adapters.config.security.RevocationEpochService;
 import com.example.qonnect.infrastructure.adapters.input.rest.messages.ErrorMessages;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.data.domain.*;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -33,10 +42,11 @@ class OrganizationServiceTest {
 
     @Mock private UserOutputPort userOutputPort;
     @Mock private OrganizationOutputPort organizationOutputPort;
-    @Mock private IdentityManagementOutputPort identityManagementOutputPort;
     @Mock private PasswordEncoder passwordEncoder;
     @Mock private OtpService otpService;
     @Mock private EmailOutputPort emailOutputPort;
+    @Mock private RevocationEpochService revocationEpochService;
+    @Mock private IdentityProvisioningOutputPort identityProvisioningOutputPort;
 
     @InjectMocks
     private OrganizationService registrationService;
@@ -50,11 +60,14 @@ class OrganizationServiceTest {
         registrationService = new OrganizationService(
                 userOutputPort,
                 organizationOutputPort,
-                identityManagementOutputPort,
                 passwordEncoder,
                 otpService,
-                emailOutputPort
+                emailOutputPort,
+                revocationEpochService,
+                identityProvisioningOutputPort
         );
+        registrationService.setBulkInviteMaxRows(10);
+        registrationService.setBulkInviteChunkSize(2);
 
         org = Organization.builder()
                 .id(100L)
@@ -74,11 +87,8 @@ class OrganizationServiceTest {
 
     @Test
     void shouldRegisterOrganizationAdminSuccessfully() {
-        when(userOutputPort.userExistsByEmail(user.getEmail())).thenReturn(false);
-        when(organizationOutputPort.existsByName(org.getName())).thenReturn(false);
         when(organizationOutputPort.saveOrganization(any())).thenReturn(org);
         when(passwordEncoder.encode(any())).thenReturn("encodedPassword");
-        when(identityManagementOutputPort.createUser(any())).thenReturn(user);
         when(userOutputPort.saveUser(any())).thenReturn(user);
 
         User result = registrationService.registerOrganizationAdmin(user, org);
@@ -86,32 +96,37 @@ class OrganizationServiceTest {
         assertNotNull(result);
         assertEquals("praise@example.com", result.getEmail());
         assertEquals(Role.ADMIN, result.getRole());
+        verify(identityProvisioningOutputPort).enqueue(user);
         verify(otpService).createOtp(user.getFirstName(), user.getEmail(), OtpType.VERIFICATION);
     }
 
     @Test
     void shouldThrowWhenUserAlreadyExists() {
-        when(userOutputPort.userExistsByEmail(user.getEmail())).thenReturn(true);
+        when(organizationOutputPort.saveOrganization(any())).thenReturn(org);
+        when(passwordEncoder.encode(any())).thenReturn("encodedPassword");
+        when(userOutputPort.saveUser(any()))
+                .thenThrow(new UserAlreadyExistException(ErrorMessages.USER_EXISTS_ALREADY, HttpStatus.CONFLICT));
 
         UserAlreadyExistException exception = assertThrows(UserAlreadyExistException.class,
                 () -> registrationService.registerOrganizationAdmin(user, org));
 
         assertEquals(ErrorMessages.USER_EXISTS_ALREADY, exception.getMessage());
-        verify(userOutputPort).userExistsByEmail(user.getEmail());
-        verifyNoMoreInteractions(userOutputPort, organizationOutputPort, identityManagementOutputPort);
+        verify(userOutputPort, never()).userExistsByEmail(any());
+        verifyNoInteractions(identityProvisioningOutputPort, otpService);
     }
 
     @Test
     void shouldThrowWhenOrganizationAlreadyExists() {
-        when(userOutputPort.userExistsByEmail(user.getEmail())).thenReturn(false);
-        when(organizationOutputPort.existsByName(org.getName())).thenReturn(true);
+        when(passwordEncoder.encode(any())).thenReturn("encodedPassword");
+        when(organizationOutputPort.saveOrganization(any()))
+                .thenThrow(new OrganizationAlreadyExistsException(ErrorMessages.ORGANIZATION_ALREADY_EXISTS, HttpStatus.CONFLICT));
 
         OrganizationAlreadyExistsException exception = assertThrows(OrganizationAlreadyExistsException.class,
                 () -> registrationService.registerOrganizationAdmin(user, org));
 
         assertEquals(ErrorMessages.ORGANIZATION_ALREADY_EXISTS, exception.getMessage());
-        verify(organizationOutputPort).existsByName(org.getName());
-        verifyNoMoreInteractions(identityManagementOutputPort);
+        verify(userOutputPort, never()).saveUser(any());
+        verifyNoInteractions(identityProvisioningOutputPort);
     }
 
     @ParameterizedTest
@@ -159,6 +174,85 @@ class OrganizationServiceTest {
         verify(emailOutputPort).sendEmail(eq(inviteeEmail), contains("You're Invited"), anyString());
     }
 
+    private Invitation invitation(int row, String email, String role) {
+        return Invitation.builder().row(row).email(email).role(role).build();
+    }
+
+    @Test
+    void shouldBulkInviteAndReportEachRow() {
+        User inviter = User.builder()
+                .email("admin@qonnect.com")
+                .role(Role.ADMIN)
+                .organization(org)
+                .build();
+        List<Invitation> invitations = List.of(
+                invitation(1, "one@qonnect.com", "qa_engineer"),
+                invitation(2, "Existing@Qonnect.com", "DEVELOPER"),
+                invitation(3, "ONE@qonnect.com", "DEVELOPER"),
+                invitation(4, "not-an-email", "DEVELOPER"),
+                invitation(5, "two@qonnect.com", "WIZARD"),
+                invitation(6, "three@qonnect.com", "DEVELOPER"));
+
+        when(userOutputPort.getUserByEmail(inviter.getEmail())).thenReturn(inviter);
+        when(userOutputPort.findExistingEmails(anyCollection()))
+                .thenAnswer(inv -> inv.<Collection<String>>getArgument(0).stream().anyMatch("existing@qonnect.com"::equalsIgnoreCase)
+                        ? Set.of("existing@qonnect.com") : Set.of());
+
+        List<Invitation> results = registrationService.inviteUsers(inviter, invitations);
+
+        assertEquals(InvitationStatus.INVITED, results.get(0).getStatus());
+        assertEquals(InvitationStatus.ALREADY_EXISTS, results.get(1).getStatus());
+        assertEquals(InvitationStatus.DUPLICATE, results.get(2).getStatus());
+        assertEquals(InvitationStatus.INVALID, results.get(3).getStatus());
+        assertEquals(ErrorMessages.INVALID_EMAIL_FORMAT, results.get(3).getMessage());
+        assertEquals(InvitationStatus.INVALID, results.get(4).getStatus());
+        assertEquals(ErrorMessages.INVALID_ROLE, results.get(4).getMessage());
+        assertEquals(InvitationStatus.INVITED, results.get(5).getStatus());
+
+        verify(userOutputPort, times(2)).findExistingEmails(anyCollection());
+        ArgumentCaptor<List<User>> invitees = ArgumentCaptor.forClass(List.class);
+        verify(userOutputPort, times(2)).saveInvitees(invitees.capture());
+        List<User> saved = invitees.getAllValues().stream().flatMap(List::stream).toList();
+        assertEquals(List.of("one@qonnect.com", "three@qonnect.com"), saved.stream().map(User::getEmail).toList());
+        assertEquals(Role.QA_ENGINEER, saved.get(0).getRole());
+        assertTrue(saved.stream().allMatch(invitee -> invitee.isInvited() && !invitee.isEnabled()
+                && invitee.getInviteToken() != null && org.equals(invitee.getOrganization())));
+        verify(emailOutputPort, times(2)).sendEmails(argThat(emails -> emails.size() == 1
+                && emails.get(0).getSubject().contains("You're Invited")));
+        verify(userOutputPort, never()).saveUser(any());
+    }
+
+    @Test
+    void shouldRejectBulkInviteOverRowLimit() {
+        User inviter = User.builder()
+                .email("admin@qonnect.com")
+                .role(Role.ADMIN)
+                .organization(org)
+                .build();
+        List<Invitation> invitations = IntStream.rangeClosed(1, 11)
+                .mapToObj(i -> invitation(i, "user" + i + "@qonnect.com", "DEVELOPER"))
+                .toList();
+
+        when(userOutputPort.getUserByEmail(inviter.getEmail())).thenReturn(inviter);
+
+        assertThrows(IllegalArgumentException.class, () -> registrationService.inviteUsers(inviter, invitations));
+        verify(userOutputPort, never()).saveInvitees(any());
+    }
+
+    @Test
+    void shouldThrowWhenBulkInviterIsNotAdmin() {
+        User inviter = User.builder()
+                .email("tester@qonnect.com")
+                .role(Role.QA_ENGINEER)
+                .build();
+
+        when(userOutputPort.getUserByEmail(inviter.getEmail())).thenReturn(inviter);
+
+        assertThrows(AccessDeniedException.class, () ->
+                registrationService.inviteUsers(inviter, List.of(invitation(1, "new@qonnect.com", "DEVELOPER"))));
+        verify(emailOutputPort, never()).sendEmails(any());
+    }
+
     @Test
     void shouldThrowWhenInviterIsNotAdmin() {
         User inviter = User.builder()
@@ -209,7 +303,7 @@ class OrganizationServiceTest {
     @Test
     void shouldRemoveUserFromOrganizationSuccessfully() {
         User admin = User.builder().id(1L).role(Role.ADMIN).build();
-        User userToRemove = User.builder().id(2L).build();
+        User userToRemove = User.builder().id(2L).email("removed@example.com").build();
 
         Organization organization = Organization.builder()
                 .id(10L)
@@ -223,6 +317,7 @@ class OrganizationServiceTest {
         registrationService.removeUserFromAnOrganization(admin, userToRemove.getId(), organization.getId());
 
         verify(organizationOutputPort).removeUserFromOrganization(userToRemove, organization);
+        verify(revocationEpochService).revokeTokensIssuedBefore(eq("removed@example.com"), any(Instant.class));
     }
 
     @Test
@@ -251,6 +346,7 @@ class OrganizationServiceTest {
         registrationService.removeUserFromAnOrganization(admin, outsider.getId(), organization.getId());
 
         verify(organizationOutputPort, never()).removeUserFromOrganization(any(), any());
+        verifyNoInteractions(revocationEpochService);
     }
 
     @Test
@@ -63,16 +63,17 @@ class OtpServiceTest {
                 .expiryTime(LocalDateTime.now().plusMinutes(10))
                 .build();
 
-        when(otpOutputPort.findByEmailAndOtp(testEmail, testCode)).thenReturn(mockOtp);
+        when(otpOutputPort.consumeOtp(testEmail, testCode)).thenReturn(mockOtp);
 
         assertDoesNotThrow(() -> otpService.validateOtp(testEmail, testCode));
-        verify(otpOutputPort).saveOtp(mockOtp);
+        verify(otpOutputPort).consumeOtp(testEmail, testCode);
+        verify(otpOutputPort, never()).saveOtp(any());
     }
 
     @Test
     void testValidateOtp_AlreadyUsed() {
         Otp mockOtp = Otp.builder().used(true).expiryTime(LocalDateTime.now().plusMinutes(5)).build();
-        when(otpOutputPort.findByEmailAndOtp("a@b.com", "123456")).thenReturn(mockOtp);
+        when(otpOutputPort.consumeOtp("a@b.com", "123456")).thenReturn(mockOtp);
 
         OtpException ex = assertThrows(OtpException.class, () -> otpService.validateOtp("a@b.com", "123456"));
         assertEquals(ErrorMessages.OTP_ALREADY_USED, ex.getMessage());
@@ -81,7 +82,7 @@ class OtpServiceTest {
     @Test
     void testValidateOtp_Expired() {
         Otp mockOtp = Otp.builder().used(false).expiryTime(LocalDateTime.now().minusMinutes(1)).build();
-        when(otpOutputPort.findByEmailAndOtp("a@b.com", "123456")).thenReturn(mockOtp);
+        when(otpOutputPort.consumeOtp("a@b.com", "123456")).thenReturn(mockOtp);
 
         OtpException ex = assertThrows(OtpException.class, () -> otpService.validateOtp("a@b.com", "123456"));
         assertEquals(ErrorMessages.OTP_ALREADY_EXPIRED, ex.getMessage());
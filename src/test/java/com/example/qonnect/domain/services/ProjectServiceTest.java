@@ -27,10 +27,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -114,7 +114,6 @@ class ProjectServiceTest {
     @Test
     void shouldCreateProjectSuccessfully_whenValidAdminUser() {
         when(userOutputPort.existById(adminUser.getId())).thenReturn(true);
-        when(projectOutputPort.existsByNameAndOrganizationId(project.getName(), org.getId())).thenReturn(false);
         when(projectOutputPort.saveProject(any(Project.class))).thenAnswer(inv -> inv.getArgument(0));
 
         Project result = projectService.createProject(adminUser, project);
@@ -152,12 +151,11 @@ class ProjectServiceTest {
     @Test
     void shouldThrowException_whenProjectAlreadyExists() {
         when(userOutputPort.existById(adminUser.getId())).thenReturn(true);
-        when(projectOutputPort.existsByNameAndOrganizationId(project.getName(), org.getId())).thenReturn(true);
+        when(projectOutputPort.saveProject(any(Project.class)))
+                .thenThrow(new ProjectAlreadyExistException(ErrorMessages.PROJECT_EXIST_ALREADY, HttpStatus.CONFLICT));
 
         assertThrows(ProjectAlreadyExistException.class,
                 () -> projectService.createProject(adminUser, project));
-
-        verify(projectOutputPort, never()).saveProject(any());
     }
 
 
@@ -239,15 +237,15 @@ class ProjectServiceTest {
         Project targetProject = new Project();
         targetProject.setId(projectId);
         targetProject.setOrganizationId(org.getId());
-        targetProject.setTeamMembers(new ArrayList<>());
 
         when(projectOutputPort.getProjectById(projectId)).thenReturn(targetProject);
         when(userOutputPort.getUserById(userId)).thenReturn(targetUser);
+        when(projectOutputPort.addMember(projectId, userId)).thenReturn(true);
 
         projectService.assignUserToProject(projectId, userId, adminUser);
 
-        assertTrue(targetProject.getTeamMembers().contains(targetUser));
-        verify(projectOutputPort).saveProject(targetProject);
+        verify(projectOutputPort).addMember(projectId, userId);
+        verify(projectOutputPort, never()).saveProject(any());
     }
 
     @Test
@@ -267,13 +265,13 @@ class ProjectServiceTest {
         Project targetProject = new Project();
         targetProject.setId(projectId);
         targetProject.setOrganizationId(org.getId());
-        targetProject.setTeamMembers(new ArrayList<>());
 
         when(projectOutputPort.getProjectById(projectId)).thenReturn(targetProject);
         when(userOutputPort.getUserById(userId)).thenReturn(targetUser);
 
         assertThrows(IllegalArgumentException.class, () ->
                 projectService.assignUserToProject(projectId, userId, adminUser));
+        verify(projectOutputPort, never()).addMember(anyLong(), anyLong());
     }
 
     @Test
@@ -288,10 +286,10 @@ class ProjectServiceTest {
         Project targetProject = new Project();
         targetProject.setId(projectId);
         targetProject.setOrganizationId(org.getId());
-        targetProject.setTeamMembers(new ArrayList<>(List.of(targetUser)));
 
         when(projectOutputPort.getProjectById(projectId)).thenReturn(targetProject);
         when(userOutputPort.getUserById(userId)).thenReturn(targetUser);
+        when(projectOutputPort.addMember(projectId, userId)).thenReturn(false);
 
         assertThrows(ProjectException.class, () ->
                 projectService.assignUserToProject(projectId, userId, adminUser));
@@ -405,8 +403,6 @@ class ProjectServiceTest {
 
         when(userOutputPort.existById(adminUser.getId())).thenReturn(true);
         when(projectOutputPort.findById(projectId)).thenReturn(Optional.of(existingProject));
-        when(projectOutputPort.existsByNameAndOrganizationIdAndNotId(
-                "Updated Project Name", org.getId(), projectId)).thenReturn(false);
         when(projectOutputPort.saveProject(any(Project.class))).thenAnswer(inv -> inv.getArgument(0));
 
         Project result = projectService.updateProject(adminUser, projectId, updatedProject);
@@ -444,15 +440,14 @@ class ProjectServiceTest {
 
         when(userOutputPort.existById(adminUser.getId())).thenReturn(true);
         when(projectOutputPort.findById(projectId)).thenReturn(Optional.of(existingProject));
-        when(projectOutputPort.existsByNameAndOrganizationIdAndNotId(
-                "Duplicate Name", org.getId(), projectId)).thenReturn(true);
+        when(projectOutputPort.saveProject(any(Project.class)))
+                .thenThrow(new ProjectAlreadyExistException(ErrorMessages.PROJECT_EXIST_ALREADY, HttpStatus.CONFLICT));
 
         ProjectAlreadyExistException ex = assertThrows(ProjectAlreadyExistException.class,
                 () -> projectService.updateProject(adminUser, projectId, updatedProject));
 
         assertEquals(ErrorMessages.PROJECT_EXIST_ALREADY, ex.getMessage());
         assertEquals(HttpStatus.CONFLICT, ex.getStatus());
-        verify(projectOutputPort, never()).saveProject(any());
     }
 
     @Test
@@ -623,21 +618,21 @@ class ProjectServiceTest {
         member2.setId(4L);
         member2.setEmail("member2@example.com");
 
-        List<User> teamMembers = Arrays.asList(member1, member2);
-
-        existingProject.setTeamMembers(teamMembers);
+        Pageable memberPage = PageRequest.of(0, 20);
+        Page<User> teamMembers = new PageImpl<>(Arrays.asList(member1, member2), memberPage, 2);
 
         when(userOutputPort.existById(adminUser.getId())).thenReturn(true);
 
         when(projectOutputPort.findById(existingProject.getId()))
                 .thenReturn(Optional.of(existingProject));
+        when(projectOutputPort.getMembers(existingProject.getId(), memberPage)).thenReturn(teamMembers);
 
-        List<User> result = projectService.getAllUsersInAProject(adminUser, existingProject.getId());
+        Page<User> result = projectService.getAllUsersInAProject(adminUser, existingProject.getId(), memberPage);
 
         assertNotNull(result);
-        assertEquals(2, result.size());
-        assertTrue(result.contains(member1));
-        assertTrue(result.contains(member2));
+        assertEquals(2, result.getTotalElements());
+        assertTrue(result.getContent().contains(member1));
+        assertTrue(result.getContent().contains(member2));
     }
 
 
@@ -650,7 +645,7 @@ class ProjectServiceTest {
                 .thenReturn(Optional.empty());
 
         assertThrows(ProjectNotFoundException.class,
-                () -> projectService.getAllUsersInAProject(adminUser, invalidProjectId));
+                () -> projectService.getAllUsersInAProject(adminUser, invalidProjectId, PageRequest.of(0, 20)));
     }
 
     @Test
@@ -658,31 +653,52 @@ class ProjectServiceTest {
         Long projectId = existingProject.getId();
         Long userToRemoveId = developerUser.getId();
 
-        existingProject.setTeamMembers(new ArrayList<>(List.of(adminUser, developerUser)));
-
         when(userOutputPort.existById(adminUser.getId())).thenReturn(true);
         when(projectOutputPort.getProjectById(projectId)).thenReturn(existingProject);
         when(userOutputPort.getUserById(userToRemoveId)).thenReturn(developerUser);
+        when(projectOutputPort.isMember(projectId, adminUser.getId())).thenReturn(true);
 
         projectService.removeUserFromProject(adminUser, projectId, userToRemoveId);
 
-        verify(projectOutputPort).removeUserFromProject(developerUser, existingProject);
+        verify(projectOutputPort).removeMember(projectId, userToRemoveId);
     }
 
     @Test
-    void shouldNotRemoveUserIfNotInProject() {
+    void shouldNotRemoveUserIfRequesterNotInProject() {
         Long projectId = existingProject.getId();
         Long userToRemoveId = developerUser.getId();
 
-        existingProject.setTeamMembers(List.of(adminUser));
-
         when(userOutputPort.existById(adminUser.getId())).thenReturn(true);
         when(projectOutputPort.getProjectById(projectId)).thenReturn(existingProject);
         when(userOutputPort.getUserById(userToRemoveId)).thenReturn(developerUser);
+        when(projectOutputPort.isMember(projectId, adminUser.getId())).thenReturn(false);
 
         projectService.removeUserFromProject(adminUser, projectId, userToRemoveId);
 
-        verify(projectOutputPort, never()).removeUserFromProject(any(), any());
+        verify(projectOutputPort, never()).removeMember(anyLong(), anyLong());
+    }
+
+    @Test
+    void shouldAddUsersToProjectInOneCall_withDuplicatesCollapsed() {
+        Long projectId = existingProject.getId();
+
+        when(userOutputPort.existById(adminUser.getId())).thenReturn(true);
+        when(projectOutputPort.findById(projectId)).thenReturn(Optional.of(existingProject));
+        when(projectOutputPort.addMembers(projectId, Set.of(3L, 4L))).thenReturn(2);
+
+        int added = projectService.addUsersToProject(adminUser, projectId, List.of(3L, 4L, 3L));
+
+        assertEquals(2, added);
+        verify(projectOutputPort).addMembers(projectId, Set.of(3L, 4L));
+    }
+
+    @Test
+    void shouldRejectBulkRemovalByNonAdmin() {
+        adminUser.setRole(Role.DEVELOPER);
+
+        assertThrows(AccessDeniedException.class,
+                () -> projectService.removeUsersFromProject(adminUser, existingProject.getId(), List.of(3L)));
+        verify(projectOutputPort, never()).removeMembers(anyLong(), any());
     }
 
     @Test
@@ -0,0 +1,83 @@
+package com.example.qonnect.domain.services;
+
+import com.example.qonnect.application.output.ProjectCounterOutputPort;
+import com.example.qonnect.application.output.ProjectOutputPort;
+import com.example.qonnect.domain.models.Organization;
+import com.example.qonnect.domain.models.Project;
+import com.example.qonnect.domain.models.ProjectSummary;
+import com.example.qonnect.domain.models.User;
+import com.example.qonnect.domain.models.enums.Role;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.security.access.AccessDeniedException;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ProjectSummaryServiceTest {
+
+    @Mock private ProjectOutputPort projectOutputPort;
+    @Mock private ProjectCounterOutputPort projectCounterOutputPort;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProjectSummaryService projectSummaryService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        projectSummaryService = new ProjectSummaryService(projectOutputPort, projectCounterOutputPort, meterRegistry);
+
+        user = new User();
+        user.setId(1L);
+        user.setRole(Role.DEVELOPER);
+        user.setOrganization(Organization.builder().id(10L).build());
+    }
+
+    @Test
+    void getProjectSummary_shouldReadCounters_whenUserBelongsToProjectOrganization() {
+        when(projectOutputPort.getProjectById(5L)).thenReturn(Project.builder().id(5L).organizationId(10L).build());
+        ProjectSummary summary = ProjectSummary.builder()
+                .projectId(5L)
+                .totalBugs(3)
+                .bugsByStatus(Map.of("OPEN", 3L))
+                .build();
+        when(projectCounterOutputPort.getProjectSummary(5L)).thenReturn(summary);
+
+        ProjectSummary result = projectSummaryService.getProjectSummary(user, 5L);
+
+        assertEquals(3, result.getTotalBugs());
+        assertEquals(3L, result.getBugsByStatus().get("OPEN"));
+    }
+
+    @Test
+    void getProjectSummary_shouldThrow_whenProjectBelongsToAnotherOrganization() {
+        when(projectOutputPort.getProjectById(5L)).thenReturn(Project.builder().id(5L).organizationId(99L).build());
+
+        assertThrows(AccessDeniedException.class, () -> projectSummaryService.getProjectSummary(user, 5L));
+        verifyNoInteractions(projectCounterOutputPort);
+    }
+
+    @Test
+    void reconcile_shouldRecordDriftedRows() {
+        when(projectCounterOutputPort.reconcileCounters()).thenReturn(4);
+
+        projectSummaryService.reconcile();
+
+        assertEquals(4.0, meterRegistry.counter("project.counters.drift").count());
+    }
+
+    @Test
+    void reconcile_shouldSwallowFailures() {
+        when(projectCounterOutputPort.reconcileCounters()).thenThrow(new IllegalStateException("db down"));
+
+        assertDoesNotThrow(() -> projectSummaryService.reconcile());
+        assertEquals(0.0, meterRegistry.counter("project.counters.drift").count());
+    }
+}
@@ -6,20 +6,27 @@ import com.example.qonnect.application.output.UserOutputPort;
 import com.example.qonnect.domain.exceptions.TaskAlreadyAssignedException;
 import com.example.qonnect.domain.exceptions.TaskAlreadyExistException;
 import com.example.qonnect.domain.exceptions.TaskNotFoundException;
+import com.example.qonnect.domain.models.KeysetCursor;
 import com.example.qonnect.domain.models.Organization;
 import com.example.qonnect.domain.models.Project;
 import com.example.qonnect.domain.models.Task;
+import com.example.qonnect.domain.models.TaskFilter;
 import com.example.qonnect.domain.models.User;
 import com.example.qonnect.domain.models.enums.Role;
 import com.example.qonnect.domain.models.enums.TaskStatus;
+import com.example.qonnect.infrastructure.adapters.input.rest.messages.ErrorMessages;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -85,7 +92,6 @@ class TaskServiceTest {
 
         when(userOutputPort.getUserByEmail(adminUser.getEmail())).thenReturn(adminUser);
         when(projectOutputPort.getProjectById(testProject.getId())).thenReturn(testProject);
-        when(taskOutputPort.existsByTitleAndProjectId(task.getTitle(), testProject.getId())).thenReturn(false);
         when(taskOutputPort.saveTask(any(Task.class))).thenAnswer(inv -> {
             Task saved = inv.getArgument(0);
             saved.setId(100L);
@@ -124,7 +130,8 @@ class TaskServiceTest {
 
         when(userOutputPort.getUserByEmail(adminUser.getEmail())).thenReturn(adminUser);
         when(projectOutputPort.getProjectById(testProject.getId())).thenReturn(testProject);
-        when(taskOutputPort.existsByTitleAndProjectId(task.getTitle(), testProject.getId())).thenReturn(true);
+        when(taskOutputPort.saveTask(any(Task.class)))
+                .thenThrow(new TaskAlreadyExistException(ErrorMessages.TASK_ALREADY_EXISTS, HttpStatus.CONFLICT));
 
         assertThrows(TaskAlreadyExistException.class, () ->
                 taskService.createTask(adminUser, task)
@@ -259,17 +266,35 @@ class TaskServiceTest {
                 Task.builder().id(2L).title("Task 2").projectId(projectId).build()
         );
 
+        TaskFilter filter = TaskFilter.builder().status(TaskStatus.PENDING).build();
+        Pageable pageable = PageRequest.of(0, 10);
+
         when(projectOutputPort.getProjectById(projectId)).thenReturn(testProject);
-        when(taskOutputPort.getAllTasksByProjectId(projectId)).thenReturn(mockTasks);
+        when(taskOutputPort.getTasksByProjectId(projectId, filter, true, pageable))
+                .thenReturn(new PageImpl<>(mockTasks, pageable, 2));
 
-        List<Task> result = taskService.getAllTasksInProject(adminUser, projectId);
+        Page<Task> result = taskService.getAllTasksInProject(adminUser, projectId, filter, true, pageable);
 
-        assertEquals(2, result.size());
-        assertEquals("Task 1", result.get(0).getTitle());
-        assertEquals("Task 2", result.get(1).getTitle());
+        assertEquals(2, result.getTotalElements());
+        assertEquals("Task 1", result.getContent().get(0).getTitle());
+        assertEquals("Task 2", result.getContent().get(1).getTitle());
 
         verify(projectOutputPort).getProjectById(projectId);
-        verify(taskOutputPort).getAllTasksByProjectId(projectId);
+        verify(taskOutputPort).getTasksByProjectId(projectId, filter, true, pageable);
+    }
+
+    @Test
+    void getAllTasksInProject_InvertedDueDateRange_ThrowsException() {
+        TaskFilter filter = TaskFilter.builder()
+                .dueFrom(LocalDateTime.now().plusDays(5))
+                .dueTo(LocalDateTime.now())
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () ->
+                taskService.getAllTasksInProject(adminUser, testProject.getId(), filter, false, PageRequest.of(0, 10))
+        );
+
+        verifyNoInteractions(taskOutputPort);
     }
 
     @Test
@@ -280,11 +305,11 @@ class TaskServiceTest {
                 .thenThrow(new TaskNotFoundException("Project not found", org.springframework.http.HttpStatus.NOT_FOUND));
 
         assertThrows(TaskNotFoundException.class, () ->
-                taskService.getAllTasksInProject(adminUser, nonExistentProjectId)
+                taskService.getAllTasksInProject(adminUser, nonExistentProjectId, new TaskFilter(), false, PageRequest.of(0, 10))
         );
 
         verify(projectOutputPort).getProjectById(nonExistentProjectId);
-        verify(taskOutputPort, never()).getAllTasksByProjectId(anyLong());
+        verify(taskOutputPort, never()).getTasksByProjectId(anyLong(), any(), anyBoolean(), any());
     }
 
     @Test
@@ -296,10 +321,8 @@ class TaskServiceTest {
                 .projectId(testProject.getId())
                 .build();
 
-        // Add user as a team member of the project
-        testProject.setTeamMembers(List.of(regularUser));
-
         when(projectOutputPort.getProjectById(testProject.getId())).thenReturn(testProject);
+        when(projectOutputPort.isMember(testProject.getId(), regularUser.getId())).thenReturn(true);
         when(taskOutputPort.getTaskById(taskId)).thenReturn(task);
 
         Task result = taskService.viewTaskInProject(regularUser, testProject.getId(), taskId);
@@ -316,9 +339,8 @@ class TaskServiceTest {
     void viewTaskInProject_NotTeamMember_ThrowsAccessDenied() {
         Long taskId = 302L;
 
-        testProject.setTeamMembers(List.of(adminUser));
-
         when(projectOutputPort.getProjectById(testProject.getId())).thenReturn(testProject);
+        when(projectOutputPort.isMember(testProject.getId(), regularUser.getId())).thenReturn(false);
 
         assertThrows(AccessDeniedException.class, () -> {
             taskService.viewTaskInProject(regularUser, testProject.getId(), taskId);
@@ -332,7 +354,7 @@ class TaskServiceTest {
     void viewTaskInProject_TaskNotInProject_Throws() {
         Long taskId = 303L;
 
-        testProject.setTeamMembers(List.of(regularUser));
+        when(projectOutputPort.isMember(testProject.getId(), regularUser.getId())).thenReturn(true);
 
         Task task = Task.builder()
                 .id(taskId)
@@ -483,6 +505,19 @@ class TaskServiceTest {
         verify(taskOutputPort).getTasksByUserId(userId, pageable);
     }
 
+    @Test
+    void getTasksByUserIdAfter_shouldStartFromTheNewestRow_whenCursorIsNull() {
+        Task task = Task.builder().id(1L).title("Task 1").build();
+        Slice<Task> slice = new SliceImpl<>(List.of(task), PageRequest.of(0, 10), true);
+        when(taskOutputPort.getTasksByUserIdAfter(7L, KeysetCursor.START, 10)).thenReturn(slice);
+
+        Slice<Task> result = taskService.getTasksByUserIdAfter(7L, null, 10);
+
+        assertTrue(result.hasNext());
+        assertEquals("Task 1", result.getContent().get(0).getTitle());
+        verify(taskOutputPort).getTasksByUserIdAfter(7L, KeysetCursor.START, 10);
+    }
+
 
 
 
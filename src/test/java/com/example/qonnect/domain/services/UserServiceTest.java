@@ -1,6 +1,7 @@
 package com.example.qonnect.domain.services;
 
 import com.example.qonnect.application.output.IdentityManagementOutputPort;
+import com.example.qonnect.application.output.IdentityProvisioningOutputPort;
 import com.example.qonnect.application.output.UserOutputPort;
 import com.example.qonnect.domain.exceptions.IdentityManagementException;
 import com.example.qonnect.domain.exceptions.OtpException;
@@ -9,6 +10,7 @@ import com.example.qonnect.domain.exceptions.UserNotFoundException;
 import com.example.qonnect.domain.models.enums.OtpType;
 import com.example.qonnect.domain.models.enums.Role;
 import com.example.qonnect.domain.models.User;
+import com.example.qonnect.infrastructure.adapters.config.security.RevocationEpochService;
 import com.example.qonnect.infrastructure.adapters.config.security.TokenBlacklistService;
 import com.example.qonnect.infrastructure.adapters.input.rest.messages.ErrorMessages;
 import org.apache.http.auth.InvalidCredentialsException;
@@ -39,6 +41,8 @@ class UserServiceTest {
     @Mock private IdentityManagementOutputPort identityManagementOutputPort;
     @Mock private OtpService otpService;
     @Mock private TokenBlacklistService tokenBlacklistService;
+    @Mock private RevocationEpochService revocationEpochService;
+    @Mock private IdentityProvisioningOutputPort identityProvisioningOutputPort;
     @Mock private JwtDecoder jwtDecoder;
     @Mock private Jwt jwt;
 
@@ -57,7 +61,9 @@ class UserServiceTest {
                 identityManagementOutputPort,
                 otpService,
                 jwtDecoder,
-                tokenBlacklistService
+                tokenBlacklistService,
+                revocationEpochService,
+                identityProvisioningOutputPort
         );
 
         user = User.builder()
@@ -158,6 +164,7 @@ class UserServiceTest {
         userService.completeReset(user.getEmail(), otp, newPassword);
 
         assertTrue(passwordEncoder.matches(newPassword, user.getPassword())); // ✅ validate properly
+        verify(revocationEpochService).revokeTokensIssuedBefore(eq(user.getEmail()), any(Instant.class));
     }
 
 
@@ -177,6 +184,7 @@ class UserServiceTest {
         assertEquals(ErrorMessages.INVALID_OTP, ex.getMessage());
         verify(otpService).validateOtp(user.getEmail(), invalidOtp);
         verify(identityManagementOutputPort, never()).resetPassword(any());
+        verifyNoInteractions(revocationEpochService);
     }
 
     @Test
@@ -212,6 +220,7 @@ class UserServiceTest {
         assertEquals(newPassword, passedUser.getNewPassword());
 
         verify(userOutputPort).saveUser(user);
+        verify(revocationEpochService).revokeTokensIssuedBefore(eq(email), any(Instant.class));
     }
 
     @Test
@@ -294,6 +303,20 @@ class UserServiceTest {
         verify(identityManagementOutputPort).logout(user, refreshToken);
         verify(jwtDecoder).decode(accessToken);
         verify(tokenBlacklistService).blacklistToken(eq(jti), anyLong());
+        verifyNoInteractions(revocationEpochService);
+    }
+
+    @Test
+    void shouldLogoutByBumpingRevocationEpochInEpochMode() {
+        User user = new User();
+        user.setEmail("test@example.com");
+        userService.setRevocationMode("epoch");
+
+        userService.logout(user, "dummyRefreshToken", "dummyAccessToken");
+
+        verify(identityManagementOutputPort).logout(user, "dummyRefreshToken");
+        verify(revocationEpochService).revokeTokensIssuedBefore(eq("test@example.com"), any(Instant.class));
+        verifyNoInteractions(jwtDecoder, tokenBlacklistService);
     }
 
 
@@ -372,6 +395,59 @@ class UserServiceTest {
 
 
 
+    @Test
+    void testLoginRehashesPasswordStoredWithWeakerCost() throws Exception {
+        String rawPassword = "Password@123";
+        String weakHash = new BCryptPasswordEncoder(4).encode(rawPassword);
+
+        User storedUser = new User();
+        storedUser.setEmail("test@example.com");
+        storedUser.setPassword(weakHash);
+        storedUser.setEnabled(true);
+
+        User loginRequest = new User();
+        loginRequest.setEmail("test@example.com");
+        loginRequest.setPassword(rawPassword);
+
+        when(userOutputPort.getUserByEmail("test@example.com")).thenReturn(storedUser);
+        when(userOutputPort.saveUser(storedUser)).thenReturn(storedUser);
+
+        userService.login(loginRequest);
+
+        assertNotEquals(weakHash, storedUser.getPassword());
+        assertFalse(passwordEncoder.upgradeEncoding(storedUser.getPassword()));
+        assertTrue(passwordEncoder.matches(rawPassword, storedUser.getPassword()));
+        verify(identityManagementOutputPort).resetPassword(storedUser);
+        verify(userOutputPort).saveUser(storedUser);
+        verify(identityManagementOutputPort).login(storedUser);
+    }
+
+    @Test
+    void testLoginSucceedsWithTheCurrentHashWhenTheRehashCannotBeSynced() throws Exception {
+        String rawPassword = "Password@123";
+        String weakHash = new BCryptPasswordEncoder(4).encode(rawPassword);
+
+        User storedUser = new User();
+        storedUser.setEmail("test@example.com");
+        storedUser.setPassword(weakHash);
+        storedUser.setEnabled(true);
+
+        User loginRequest = new User();
+        loginRequest.setEmail("test@example.com");
+        loginRequest.setPassword(rawPassword);
+
+        when(userOutputPort.getUserByEmail("test@example.com")).thenReturn(storedUser);
+        doThrow(new IdentityManagementException(ErrorMessages.PASSWORD_RESET_FAILED, HttpStatus.INTERNAL_SERVER_ERROR))
+                .when(identityManagementOutputPort).resetPassword(storedUser);
+
+        User loggedIn = userService.login(loginRequest);
+
+        assertSame(storedUser, loggedIn);
+        assertEquals(weakHash, storedUser.getPassword());
+        verify(userOutputPort, never()).saveUser(any());
+        verify(identityManagementOutputPort).login(storedUser);
+    }
+
     @Test
     void testLoginFails_UserNotFound() {
         User loginRequest = new User();
@@ -441,8 +517,35 @@ class UserServiceTest {
         assertTrue(user.isEnabled());
         assertFalse(user.isInvited());
 
-        verify(identityManagementOutputPort).createUser(user);
         verify(userOutputPort).saveUser(user);
+        verify(identityProvisioningOutputPort).enqueue(user);
+        verifyNoInteractions(identityManagementOutputPort);
+    }
+
+    @Test
+    void testSignUp_savesUserAndQueuesIdentityProvisioning() {
+        user.setRole(Role.DEVELOPER);
+        when(userOutputPort.saveUser(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        User result = userService.signUp(user);
+
+        assertFalse(result.isEnabled());
+        assertTrue(passwordEncoder.matches("Password@123", result.getPassword()));
+        verify(identityProvisioningOutputPort).enqueue(result);
+        verify(otpService).createOtp(user.getFirstName(), user.getEmail(), VERIFICATION);
+        verifyNoInteractions(identityManagementOutputPort);
+    }
+
+    @Test
+    void testSignUp_translatedDuplicateEmailStopsBeforeProvisioning() {
+        user.setRole(Role.DEVELOPER);
+        when(userOutputPort.saveUser(any()))
+                .thenThrow(new UserAlreadyExistException(ErrorMessages.USER_EXISTS_ALREADY, HttpStatus.CONFLICT));
+
+        assertThrows(UserAlreadyExistException.class, () -> userService.signUp(user));
+
+        verify(userOutputPort, never()).userExistsByEmail(any());
+        verifyNoInteractions(identityProvisioningOutputPort, otpService);
     }
 
 
@@ -0,0 +1,102 @@
+package com.example.qonnect.infrastructure.adapters.config.cacheConfig;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SecondLevelCacheConfigTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SecondLevelCacheConfig secondLevelCacheConfig;
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        secondLevelCacheConfig = new SecondLevelCacheConfig();
+        ReflectionTestUtils.setField(secondLevelCacheConfig, "organizationsMaxSize", 100L);
+        ReflectionTestUtils.setField(secondLevelCacheConfig, "organizationsTtlSeconds", 600L);
+        ReflectionTestUtils.setField(secondLevelCacheConfig, "projectsMaxSize", 200L);
+        ReflectionTestUtils.setField(secondLevelCacheConfig, "projectsTtlSeconds", 300L);
+
+        cacheManager = secondLevelCacheConfig.secondLevelCacheManager(meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cacheManager.close();
+    }
+
+    @Test
+    void shouldSizeAndExpireEachRegion() {
+        assertRegion(SecondLevelCacheConfig.ORGANIZATIONS_REGION, 100, 600);
+        assertRegion(SecondLevelCacheConfig.ORGANIZATION_NAMES_REGION, 100, 600);
+        assertRegion(SecondLevelCacheConfig.PROJECTS_REGION, 200, 300);
+    }
+
+    @Test
+    void shouldStoreEntriesByReference() {
+        assertFalse(configuration(SecondLevelCacheConfig.PROJECTS_REGION).isStoreByValue());
+    }
+
+    @Test
+    void shouldExposeHitAndMissMetricsPerRegion() {
+        Cache<Object, Object> projects = cacheManager.getCache(SecondLevelCacheConfig.PROJECTS_REGION);
+        projects.put(1L, "project");
+        projects.get(1L);
+        projects.get(2L);
+
+        assertEquals(1.0, meterRegistry.get("cache.gets")
+                .tag("cache", SecondLevelCacheConfig.PROJECTS_REGION).tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets")
+                .tag("cache", SecondLevelCacheConfig.PROJECTS_REGION).tag("result", "miss").functionCounter().count());
+        assertEquals(0.0, meterRegistry.get("cache.gets")
+                .tag("cache", SecondLevelCacheConfig.ORGANIZATIONS_REGION).tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void shouldHandTheCacheManagerToHibernate() {
+        Map<String, Object> properties = new HashMap<>();
+
+        secondLevelCacheConfig.secondLevelCacheCustomizer(cacheManager).customize(properties);
+
+        assertSame(cacheManager, properties.get(ConfigSettings.CACHE_MANAGER));
+    }
+
+    @Test
+    void shouldNotCollideWithAnotherContextsRegions() {
+        CacheManager other = secondLevelCacheConfig.secondLevelCacheManager(new SimpleMeterRegistry());
+        try {
+            assertNotSame(cacheManager, other);
+            assertNotNull(other.getCache(SecondLevelCacheConfig.PROJECTS_REGION));
+        } finally {
+            other.close();
+        }
+    }
+
+    private void assertRegion(String region, long maxSize, long ttlSeconds) {
+        CaffeineConfiguration<?, ?> configuration = configuration(region);
+        assertEquals(OptionalLong.of(maxSize), configuration.getMaximumSize(), region);
+        assertEquals(OptionalLong.of(TimeUnit.SECONDS.toNanos(ttlSeconds)), configuration.getExpireAfterWrite(), region);
+    }
+
+    @SuppressWarnings("unchecked")
+    private CaffeineConfiguration<?, ?> configuration(String region) {
+        Cache<Object, Object> cache = cacheManager.getCache(region);
+        assertNotNull(cache, region);
+        return cache.getConfiguration(CaffeineConfiguration.class);
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.qonnect.infrastructure.adapters.config.cacheConfig;
+
+import com.example.qonnect.infrastructure.adapters.output.persistence.entities.OrganizationEntity;
+import com.example.qonnect.infrastructure.adapters.output.persistence.entities.ProjectEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SecondLevelCacheInvalidatorTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+    @Mock
+    private jakarta.persistence.Cache jpaCache;
+    @Mock
+    private Cache cache;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SecondLevelCacheInvalidator invalidator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        invalidator = new SecondLevelCacheInvalidator(redisTemplate, entityManagerFactory, meterRegistry);
+        invalidator.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldBroadcastImmediatelyOutsideATransaction() {
+        invalidator.evictProject(7L);
+
+        verify(redisTemplate).convertAndSend(SecondLevelCacheInvalidator.EVICTION_CHANNEL, "project:7");
+    }
+
+    @Test
+    void shouldDeferBroadcastUntilTheTransactionCommits() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        invalidator.evictOrganization(3L);
+        verifyNoInteractions(redisTemplate);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(redisTemplate).convertAndSend(SecondLevelCacheInvalidator.EVICTION_CHANNEL, "organization:3");
+    }
+
+    @Test
+    void shouldNotFailTheWriteWhenRedisIsDown() {
+        doThrow(new RuntimeException("down")).when(redisTemplate).convertAndSend(anyString(), anyString());
+
+        assertDoesNotThrow(() -> invalidator.evictOrganizationTree(3L));
+    }
+
+    @Test
+    void remoteProjectEvictionShouldDropTheProject() {
+        stubCache();
+
+        invalidator.onMessage(message("project:7"), null);
+
+        verify(cache).evictEntityData(ProjectEntity.class, 7L);
+        assertEquals(1.0, meterRegistry.get("l2.cache.remote.evictions").counter().count());
+    }
+
+    @Test
+    void remoteOrganizationEvictionShouldDropTheOrganizationAndNaturalIds() {
+        stubCache();
+
+        invalidator.onMessage(message("organization:3"), null);
+
+        verify(cache).evictEntityData(OrganizationEntity.class, 3L);
+        verify(cache).evictNaturalIdData(OrganizationEntity.class);
+        verify(cache, never()).evictEntityData(ProjectEntity.class);
+    }
+
+    @Test
+    void remoteOrganizationTreeEvictionShouldAlsoDropCascadedProjects() {
+        stubCache();
+
+        invalidator.onMessage(message("organization-tree:3"), null);
+
+        verify(cache).evictEntityData(OrganizationEntity.class, 3L);
+        verify(cache).evictEntityData(ProjectEntity.class);
+    }
+
+    @Test
+    void shouldIgnoreMalformedEvictions() {
+        stubCache();
+
+        invalidator.onMessage(message("project:abc"), null);
+        invalidator.onMessage(message("bug:1"), null);
+
+        verifyNoInteractions(cache);
+        assertEquals(0.0, meterRegistry.get("l2.cache.remote.evictions").counter().count());
+    }
+
+    private void stubCache() {
+        when(entityManagerFactory.getCache()).thenReturn(jpaCache);
+        when(jpaCache.unwrap(Cache.class)).thenReturn(cache);
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(SecondLevelCacheInvalidator.EVICTION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
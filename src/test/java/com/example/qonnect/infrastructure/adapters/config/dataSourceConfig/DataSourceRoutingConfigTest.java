@@ -0,0 +1,111 @@
+package com.example.qonnect.infrastructure.adapters.config.dataSourceConfig;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DataSourceRoutingConfigTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private DataSourceRoutingConfig dataSourceRoutingConfig;
+    private DataSourceProperties dataSourceProperties;
+    private MockEnvironment environment;
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        dataSourceProperties = new DataSourceProperties();
+        dataSourceProperties.setUrl("jdbc:h2:mem:config-primary;MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+        dataSourceProperties.setUsername("sa");
+        dataSourceProperties.setPassword("");
+        dataSourceProperties.afterPropertiesSet();
+        environment = new MockEnvironment()
+                .withProperty("spring.datasource.hikari.data-source-properties.reWriteBatchedInserts", "true");
+
+        dataSourceRoutingConfig = new DataSourceRoutingConfig();
+        ReflectionTestUtils.setField(dataSourceRoutingConfig, "replicaUrls",
+                "jdbc:h2:mem:config-replica-a;MODE=PostgreSQL, ,jdbc:h2:mem:config-replica-b;MODE=PostgreSQL");
+        ReflectionTestUtils.setField(dataSourceRoutingConfig, "replicaUsername", "sa");
+        ReflectionTestUtils.setField(dataSourceRoutingConfig, "replicaPassword", "");
+        ReflectionTestUtils.setField(dataSourceRoutingConfig, "replicaMaxPoolSize", 3);
+        ReflectionTestUtils.setField(dataSourceRoutingConfig, "replicaConnectionTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(dataSourceRoutingConfig, "maxLagMs", 1000L);
+        ReflectionTestUtils.setField(dataSourceRoutingConfig, "maxSampleAgeMs", 15000L);
+        ReflectionTestUtils.setField(dataSourceRoutingConfig, "lagQuery", "SELECT 0");
+
+        routingDataSource = dataSourceRoutingConfig.readWriteRoutingDataSource(dataSourceProperties, environment, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        routingDataSource.close();
+    }
+
+    @Test
+    void shouldBuildANamedReadOnlyPoolPerReplica() {
+        List<HikariDataSource> replicas = replicas();
+
+        assertEquals(List.of("replica-1", "replica-2"), replicas.stream().map(HikariDataSource::getPoolName).toList());
+        assertEquals("jdbc:h2:mem:config-replica-b;MODE=PostgreSQL", replicas.get(1).getJdbcUrl());
+        assertTrue(replicas.stream().allMatch(HikariDataSource::isReadOnly));
+        assertTrue(replicas.stream().allMatch(replica -> replica.getMaximumPoolSize() == 3));
+    }
+
+    @Test
+    void shouldKeepThePrimaryHikariSettingsOnEveryPool() {
+        HikariDataSource primary = (HikariDataSource) ReflectionTestUtils.getField(routingDataSource, "primary");
+
+        assertEquals("primary", primary.getPoolName());
+        assertFalse(primary.isReadOnly());
+        assertEquals("true", primary.getDataSourceProperties().getProperty("reWriteBatchedInserts"));
+        assertEquals("true", replicas().get(0).getDataSourceProperties().getProperty("reWriteBatchedInserts"));
+    }
+
+    @Test
+    void shouldPublishPoolMetricsPerPool() {
+        assertEquals(1.0, meterRegistry.get("datasource.replica.available").tag("pool", "replica-1").gauge().value());
+        assertNotNull(meterRegistry.find("hikaricp.connections").tag("pool", "replica-1").gauge());
+    }
+
+    @Test
+    void shouldExposeTheRouterBehindALazyConnectionProxy() {
+        DataSource dataSource = dataSourceRoutingConfig.dataSource(routingDataSource);
+
+        assertInstanceOf(LazyConnectionDataSourceProxy.class, dataSource);
+        assertSame(routingDataSource, ((LazyConnectionDataSourceProxy) dataSource).getTargetDataSource());
+    }
+
+    @Test
+    void shouldReleaseHibernateConnectionsAfterEachTransaction() {
+        Map<String, Object> properties = new HashMap<>();
+
+        dataSourceRoutingConfig.routingConnectionHandlingCustomizer().customize(properties);
+
+        assertEquals(PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION,
+                properties.get(AvailableSettings.CONNECTION_HANDLING));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<HikariDataSource> replicas() {
+        List<Object> replicas = (List<Object>) ReflectionTestUtils.getField(routingDataSource, "replicas");
+        return replicas.stream()
+                .map(replica -> (HikariDataSource) ReflectionTestUtils.getField(replica, "dataSource"))
+                .toList();
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.qonnect.infrastructure.adapters.config.dataSourceConfig;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Routes between two in-memory H2 databases running in PostgreSQL mode. Each one reports its own
+ * name and a replication lag that the tests can move.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private static final String LAG_QUERY = "SELECT lag_ms FROM replication_status";
+
+    private SimpleMeterRegistry meterRegistry;
+    private JdbcTemplate primaryAdmin;
+    private JdbcTemplate replicaAdmin;
+    private ReadWriteRoutingDataSource routingDataSource;
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate readWriteTransaction;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        DataSource primary = instance("primary");
+        DataSource replica = instance("replica");
+        primaryAdmin = new JdbcTemplate(primary);
+        replicaAdmin = new JdbcTemplate(replica);
+
+        routingDataSource = new ReadWriteRoutingDataSource(primary, Map.of("replica-1", replica), LAG_QUERY, 1000, 15000, meterRegistry);
+        routingDataSource.checkReplicas();
+
+        dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        primaryAdmin.execute("SHUTDOWN");
+        replicaAdmin.execute("SHUTDOWN");
+    }
+
+    @Test
+    void readOnlyTransactionsShouldUseTheReplica() {
+        assertEquals("replica", readOnlyTransaction.execute(status -> currentNode()));
+    }
+
+    @Test
+    void readWriteTransactionsAndPlainStatementsShouldUseThePrimary() {
+        assertEquals("primary", readWriteTransaction.execute(status -> currentNode()));
+        assertEquals("primary", currentNode());
+    }
+
+    @Test
+    void shouldFallBackToThePrimaryWhenTheReplicaLagsTooFarBehind() {
+        replicaAdmin.update("UPDATE replication_status SET lag_ms = 5000");
+        routingDataSource.checkReplicas();
+
+        assertEquals("primary", readOnlyTransaction.execute(status -> currentNode()));
+        assertEquals(5000.0, meterRegistry.get("datasource.replica.lag").tag("pool", "replica-1").gauge().value());
+        assertEquals(0.0, meterRegistry.get("datasource.replica.available").tag("pool", "replica-1").gauge().value());
+        assertEquals(1.0, meterRegistry.get("datasource.routing.fallbacks").counter().count());
+
+        replicaAdmin.update("UPDATE replication_status SET lag_ms = 10");
+        routingDataSource.checkReplicas();
+
+        assertEquals("replica", readOnlyTransaction.execute(status -> currentNode()));
+    }
+
+    @Test
+    void shouldFallBackToThePrimaryWhenTheReplicaFailsItsHealthCheck() {
+        replicaAdmin.execute("DROP TABLE replication_status");
+        routingDataSource.checkReplicas();
+
+        assertEquals("primary", readOnlyTransaction.execute(status -> currentNode()));
+        assertEquals(0.0, meterRegistry.get("datasource.replica.available").tag("pool", "replica-1").gauge().value());
+    }
+
+    @Test
+    void shouldFallBackToThePrimaryWhenTheReplicaIsNotStreaming() {
+        replicaAdmin.update("UPDATE replication_status SET lag_ms = NULL");
+        routingDataSource.checkReplicas();
+
+        assertEquals("primary", readOnlyTransaction.execute(status -> currentNode()));
+        assertEquals(0.0, meterRegistry.get("datasource.replica.available").tag("pool", "replica-1").gauge().value());
+
+        replicaAdmin.update("UPDATE replication_status SET lag_ms = 0");
+        routingDataSource.checkReplicas();
+
+        assertEquals("replica", readOnlyTransaction.execute(status -> currentNode()));
+    }
+
+    @Test
+    void shouldFallBackToThePrimaryWhenTheLastHealthCheckIsTooOld() {
+        routingDataSource.setClock(Clock.offset(Clock.systemUTC(), Duration.ofSeconds(16)));
+
+        assertEquals("primary", readOnlyTransaction.execute(status -> currentNode()));
+        assertEquals(0.0, meterRegistry.get("datasource.replica.available").tag("pool", "replica-1").gauge().value());
+
+        routingDataSource.checkReplicas();
+
+        assertEquals("replica", readOnlyTransaction.execute(status -> currentNode()));
+    }
+
+    @Test
+    void jpaTransactionsShouldRouteIndividuallyWithinAnOpenInViewEntityManager() {
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setPackagesToScan(getClass().getPackageName());
+        factoryBean.setJpaPropertyMap(Map.of(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION));
+        factoryBean.afterPropertiesSet();
+        EntityManagerFactory entityManagerFactory = factoryBean.getObject();
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+        TransactionTemplate jpaReadOnlyTransaction = new TransactionTemplate(transactionManager);
+        jpaReadOnlyTransaction.setReadOnly(true);
+
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+        try {
+            assertEquals("replica", jpaReadOnlyTransaction.execute(status -> currentNode(entityManager)));
+            assertEquals("primary", new TransactionTemplate(transactionManager).execute(status -> currentNode(entityManager)));
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            entityManager.close();
+            factoryBean.destroy();
+        }
+    }
+
+    @Test
+    void shouldUseThePrimaryForReadsWhenNoReplicaIsConfigured() {
+        ReadWriteRoutingDataSource primaryOnly = new ReadWriteRoutingDataSource(
+                instance("standalone"), Map.of(), LAG_QUERY, 1000, 15000, meterRegistry);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(primaryOnly);
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transaction.setReadOnly(true);
+
+        assertEquals("standalone", transaction.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("SELECT name FROM node", String.class)));
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static String currentNode(EntityManager entityManager) {
+        return (String) entityManager.createNativeQuery("SELECT name FROM node").getSingleResult();
+    }
+
+    private static DataSource instance(String name) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate admin = new JdbcTemplate(dataSource);
+        admin.execute("CREATE TABLE node (name VARCHAR(32))");
+        admin.update("INSERT INTO node (name) VALUES (?)", name);
+        admin.execute("CREATE TABLE replication_status (lag_ms BIGINT)");
+        admin.update("INSERT INTO replication_status (lag_ms) VALUES (0)");
+        return dataSource;
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.qonnect.infrastructure.adapters.config.dataSourceConfig;
+
+import com.example.qonnect.infrastructure.adapters.config.cacheConfig.SecondLevelCacheConfig;
+import com.example.qonnect.infrastructure.adapters.output.persistence.entities.OrganizationEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.cache.CacheManager;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplicaReadJpaDialectTest {
+
+    private CacheManager cacheManager;
+    private LocalContainerEntityManagerFactoryBean factoryBean;
+    private EntityManagerFactory entityManagerFactory;
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate readWriteTransaction;
+    private Long organizationId;
+
+    @BeforeEach
+    void setUp() {
+        SecondLevelCacheConfig secondLevelCacheConfig = new SecondLevelCacheConfig();
+        ReflectionTestUtils.setField(secondLevelCacheConfig, "organizationsMaxSize", 100L);
+        ReflectionTestUtils.setField(secondLevelCacheConfig, "organizationsTtlSeconds", 600L);
+        ReflectionTestUtils.setField(secondLevelCacheConfig, "projectsMaxSize", 100L);
+        ReflectionTestUtils.setField(secondLevelCacheConfig, "projectsTtlSeconds", 600L);
+        cacheManager = secondLevelCacheConfig.secondLevelCacheManager(new SimpleMeterRegistry());
+
+        Map<String, Object> jpaProperties = new HashMap<>();
+        jpaProperties.put(AvailableSettings.PHYSICAL_NAMING_STRATEGY, CamelCaseToUnderscoresNamingStrategy.class.getName());
+        jpaProperties.put(AvailableSettings.IMPLICIT_NAMING_STRATEGY, SpringImplicitNamingStrategy.class.getName());
+        jpaProperties.put(AvailableSettings.HBM2DDL_AUTO, "create");
+        jpaProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, "true");
+        jpaProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+        jpaProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+        jpaProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+
+        factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(new DriverManagerDataSource(
+                "jdbc:h2:mem:replica-reads-" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", ""));
+        factoryBean.setJpaVendorAdapter(new DataSourceRoutingConfig().jpaVendorAdapter(new JpaProperties()));
+        factoryBean.setPackagesToScan(OrganizationEntity.class.getPackageName());
+        factoryBean.setJpaPropertyMap(jpaProperties);
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+        transactionManager.afterPropertiesSet();
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+
+        OrganizationEntity organization = new OrganizationEntity();
+        organization.setName("Acme");
+        organizationId = readWriteTransaction.execute(status -> {
+            EntityManager entityManager = entityManager();
+            entityManager.persist(organization);
+            return organization.getId();
+        });
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        factoryBean.destroy();
+        cacheManager.close();
+    }
+
+    @Test
+    void readOnlyTransactionsShouldNotPopulateTheSecondLevelCache() {
+        readOnlyTransaction.executeWithoutResult(status -> entityManager().find(OrganizationEntity.class, organizationId));
+
+        assertFalse(entityManagerFactory.getCache().contains(OrganizationEntity.class, organizationId));
+    }
+
+    @Test
+    void readOnlyQueriesShouldNotPopulateTheSecondLevelCache() {
+        readOnlyTransaction.executeWithoutResult(status -> entityManager()
+                .createQuery("SELECT o FROM OrganizationEntity o WHERE o.name = :name", OrganizationEntity.class)
+                .setParameter("name", "Acme")
+                .getSingleResult());
+
+        assertFalse(entityManagerFactory.getCache().contains(OrganizationEntity.class, organizationId));
+    }
+
+    @Test
+    void readWriteTransactionsShouldStillPopulateTheSecondLevelCache() {
+        readWriteTransaction.executeWithoutResult(status -> entityManager().find(OrganizationEntity.class, organizationId));
+
+        assertTrue(entityManagerFactory.getCache().contains(OrganizationEntity.class, organizationId));
+    }
+
+    @Test
+    void shouldRestoreTheCacheModeOfAnOpenInViewSession() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> entityManager.find(OrganizationEntity.class, organizationId));
+            assertFalse(entityManagerFactory.getCache().contains(OrganizationEntity.class, organizationId));
+            assertEquals(CacheMode.NORMAL, entityManager.unwrap(Session.class).getCacheMode());
+
+            entityManager.clear();
+            readWriteTransaction.executeWithoutResult(status -> entityManager.find(OrganizationEntity.class, organizationId));
+            assertTrue(entityManagerFactory.getCache().contains(OrganizationEntity.class, organizationId));
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            entityManager.close();
+        }
+    }
+
+    private EntityManager entityManager() {
+        return ((EntityManagerHolder) TransactionSynchronizationManager.getResource(entityManagerFactory)).getEntityManager();
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.qonnect.infrastructure.adapters.config.generalAppConfig;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HttpClientConfigTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient httpClient;
+    private HttpClientConfig httpClientConfig;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        httpClientConfig = new HttpClientConfig();
+        ReflectionTestUtils.setField(httpClientConfig, "maxTotal", 20);
+        ReflectionTestUtils.setField(httpClientConfig, "maxPerRoute", 10);
+        ReflectionTestUtils.setField(httpClientConfig, "connectTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(httpClientConfig, "readTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(httpClientConfig, "acquireTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(httpClientConfig, "keepAliveSeconds", 30L);
+
+        connectionManager = httpClientConfig.restConnectionManager(meterRegistry);
+        httpClient = httpClientConfig.restHttpClient(connectionManager);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        httpClient.close();
+        connectionManager.close();
+    }
+
+    @Test
+    void shouldApplyPoolLimits() {
+        assertEquals(20, connectionManager.getMaxTotal());
+        assertEquals(10, connectionManager.getDefaultMaxPerRoute());
+    }
+
+    @Test
+    void shouldExposePoolMetrics() {
+        assertEquals(20.0, meterRegistry.get("httpcomponents.httpclient.pool.total.max")
+                .tag("httpclient", "rest-template").gauge().value());
+        assertNotNull(meterRegistry.get("httpcomponents.httpclient.pool.total.connections")
+                .tag("httpclient", "rest-template").tag("state", "leased").gauge());
+    }
+
+    @Test
+    void shouldBackRestTemplateWithPooledClient() {
+        RestTemplate restTemplate = httpClientConfig.restTemplate(httpClient);
+
+        HttpComponentsClientHttpRequestFactory requestFactory =
+                assertInstanceOf(HttpComponentsClientHttpRequestFactory.class, restTemplate.getRequestFactory());
+        assertSame(httpClient, requestFactory.getHttpClient());
+    }
+}
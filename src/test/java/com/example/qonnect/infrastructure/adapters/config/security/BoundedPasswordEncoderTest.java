@@ -0,0 +1,116 @@
+package com.example.qonnect.infrastructure.adapters.config.security;
+
+import com.example.qonnect.domain.exceptions.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private BoundedPasswordEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (encoder != null) {
+            encoder.destroy();
+        }
+    }
+
+    @Test
+    void shouldEncodeAndMatchOnTheHashingPool() {
+        encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 2, 4, 5000, meterRegistry);
+
+        String hash = encoder.encode("Password@123");
+
+        assertTrue(encoder.matches("Password@123", hash));
+        assertFalse(encoder.matches("wrong", hash));
+        assertEquals(1, meterRegistry.get("password.hash").tag("operation", "encode").timer().count());
+        assertEquals(2, meterRegistry.get("password.hash").tag("operation", "matches").timer().count());
+    }
+
+    @Test
+    void shouldRejectWithTooManyRequestsWhenQueueIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        encoder = new BoundedPasswordEncoder(blockingEncoder(release), 1, 1, 5000, meterRegistry);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+        waitForActive(1);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+        waitForQueueDepth(1);
+
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class, () -> encoder.encode("c"));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, exception.getStatus());
+        assertEquals(1.0, meterRegistry.get("password.hash.rejected").counter().count());
+
+        release.countDown();
+        assertEquals("hashed", running.get(5, TimeUnit.SECONDS));
+        assertEquals("hashed", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void shouldRejectWhenHashingExceedsMaxWait() {
+        CountDownLatch release = new CountDownLatch(1);
+        encoder = new BoundedPasswordEncoder(blockingEncoder(release), 1, 1, 50, meterRegistry);
+
+        assertThrows(TooManyRequestsException.class, () -> encoder.encode("a"));
+        release.countDown();
+    }
+
+    @Test
+    void shouldDelegateUpgradeEncoding() {
+        encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(12), 1, 1, 5000, meterRegistry);
+
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("Password@123")));
+    }
+
+    private PasswordEncoder blockingEncoder(CountDownLatch release) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "hashed";
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return "hashed".equals(encode(rawPassword));
+            }
+        };
+    }
+
+    private void waitForActive(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (meterRegistry.get("password.hash.active").gauge().value() < expected
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private void waitForQueueDepth(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (meterRegistry.get("password.hash.queue.depth").gauge().value() < expected
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
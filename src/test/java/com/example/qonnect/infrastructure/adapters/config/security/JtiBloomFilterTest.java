@@ -0,0 +1,40 @@
+package com.example.qonnect.infrastructure.adapters.config.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JtiBloomFilterTest {
+
+    @Test
+    void shouldContainEveryInsertedValue() {
+        JtiBloomFilter filter = new JtiBloomFilter(10_000, 0.001);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("jti-" + i);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("jti-" + i));
+        }
+        assertEquals(10_000, filter.size());
+    }
+
+    @Test
+    void shouldStayNearConfiguredFalsePositiveRate() {
+        JtiBloomFilter filter = new JtiBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(UUID.randomUUID().toString());
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+    }
+}
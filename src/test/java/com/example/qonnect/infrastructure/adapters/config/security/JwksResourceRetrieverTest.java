@@ -0,0 +1,69 @@
+package com.example.qonnect.infrastructure.adapters.config.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwksResourceRetrieverTest {
+
+    @TempDir
+    Path tempDir;
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwksResourceRetriever retriever;
+    private Instant now;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        now = Instant.parse("2025-01-01T00:00:00Z");
+        retriever = new JwksResourceRetriever(meterRegistry);
+        retriever.setConnectTimeoutMs(500);
+        retriever.setReadTimeoutMs(500);
+        retriever.setClock(Clock.fixed(now, ZoneOffset.UTC));
+        retriever.init();
+    }
+
+    @Test
+    void shouldRecordSuccessfulFetchAndResetStaleness() throws Exception {
+        Path jwks = Files.writeString(tempDir.resolve("jwks.json"), "{\"keys\":[]}");
+
+        String content = retriever.retrieveResource(jwks.toUri().toURL()).getContent();
+
+        assertEquals("{\"keys\":[]}", content);
+        assertEquals(1, meterRegistry.get("jwks.fetch").tag("outcome", "success").timer().count());
+        assertEquals(0.0, meterRegistry.get("jwks.staleness.seconds").gauge().value());
+    }
+
+    @Test
+    void shouldReportStalenessSinceLastSuccessfulFetch() throws Exception {
+        Path jwks = Files.writeString(tempDir.resolve("jwks.json"), "{\"keys\":[]}");
+        retriever.retrieveResource(jwks.toUri().toURL());
+
+        retriever.setClock(Clock.fixed(now.plus(Duration.ofSeconds(90)), ZoneOffset.UTC));
+
+        assertEquals(90.0, meterRegistry.get("jwks.staleness.seconds").gauge().value());
+    }
+
+    @Test
+    void shouldRecordFailedFetch() throws Exception {
+        URL missing = tempDir.resolve("missing.json").toUri().toURL();
+
+        assertThrows(IOException.class, () -> retriever.retrieveResource(missing));
+
+        assertEquals(1, meterRegistry.get("jwks.fetch").tag("outcome", "failure").timer().count());
+        assertTrue(Double.isNaN(meterRegistry.get("jwks.staleness.seconds").gauge().value()));
+    }
+}
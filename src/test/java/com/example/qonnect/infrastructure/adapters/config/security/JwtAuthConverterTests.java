@@ -9,9 +9,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
 import org.springframework.security.core.GrantedAuthority;
@@ -31,7 +32,9 @@ class JwtAuthConverterTests {
     @Mock
     private UserOutputPort userOutputPort;
 
-    @InjectMocks
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
     private JwtAuthConverter jwtAuthConverter;
 
     private User testUser;
@@ -39,6 +42,12 @@ class JwtAuthConverterTests {
 
     @BeforeEach
     void setUp() {
+        PrincipalCache principalCache = new PrincipalCache(redisTemplate, new SimpleMeterRegistry());
+        principalCache.setMaxSize(100);
+        principalCache.setTtlSeconds(60);
+        principalCache.init();
+        jwtAuthConverter = new JwtAuthConverter(userOutputPort, principalCache);
+
         testUser = new User();
         testUser.setId(1L);
         testUser.setEmail("test@example.com");
@@ -201,4 +210,20 @@ class JwtAuthConverterTests {
         assertEquals(ErrorMessages.USER_NOT_FOUND, exception.getMessage());
         verify(userOutputPort).getUserByEmail("test@example.com");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should serve repeated conversions for the same user from the principal cache")
+    void convert_RepeatedForSameUser_ShouldLoadUserOnce() {
+        Jwt jwt = jwtBuilder
+                .claim("email", "test@example.com")
+                .build();
+
+        when(userOutputPort.getUserByEmail("test@example.com")).thenReturn(testUser);
+
+        jwtAuthConverter.convert(jwt);
+        JwtAuthenticationToken result = (JwtAuthenticationToken) jwtAuthConverter.convert(jwt);
+
+        assertEquals("test@example.com", result.getName());
+        verify(userOutputPort, times(1)).getUserByEmail("test@example.com");
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.qonnect.infrastructure.adapters.config.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtBlacklistValidatorTest {
+
+    @Mock
+    private TokenBlacklistService tokenBlacklistService;
+
+    private JwtBlacklistValidator validator;
+
+    @BeforeEach
+    void setUp() {
+        validator = new JwtBlacklistValidator(tokenBlacklistService);
+    }
+
+    private Jwt jwtWithJti(String jti) {
+        Jwt.Builder builder = Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .claim("email", "test@example.com")
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(300));
+        if (jti != null) {
+            builder.jti(jti);
+        }
+        return builder.build();
+    }
+
+    @Test
+    void shouldAcceptTokenThatIsNotBlacklisted() {
+        when(tokenBlacklistService.isBlacklisted("abc")).thenReturn(false);
+
+        OAuth2TokenValidatorResult result = validator.validate(jwtWithJti("abc"));
+
+        assertFalse(result.hasErrors());
+    }
+
+    @Test
+    void shouldRejectBlacklistedToken() {
+        when(tokenBlacklistService.isBlacklisted("abc")).thenReturn(true);
+
+        OAuth2TokenValidatorResult result = validator.validate(jwtWithJti("abc"));
+
+        assertTrue(result.hasErrors());
+        assertEquals(OAuth2ErrorCodes.INVALID_TOKEN, result.getErrors().iterator().next().getErrorCode());
+    }
+
+    @Test
+    void shouldSkipLookupWhenTokenHasNoJti() {
+        OAuth2TokenValidatorResult result = validator.validate(jwtWithJti(null));
+
+        assertFalse(result.hasErrors());
+        verifyNoInteractions(tokenBlacklistService);
+    }
+}
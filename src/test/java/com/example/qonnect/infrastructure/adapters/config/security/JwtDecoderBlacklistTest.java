@@ -0,0 +1,85 @@
+package com.example.qonnect.infrastructure.adapters.config.security;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * The blacklist check is chained onto the decoder, so a request verifies its token once and
+ * consults the blacklist once, instead of a separate filter decoding the token a second time.
+ */
+@ExtendWith(MockitoExtension.class)
+class JwtDecoderBlacklistTest {
+
+    @Mock
+    private TokenBlacklistService tokenBlacklistService;
+
+    private KeyPair keyPair;
+    private NimbusJwtDecoder decoder;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        keyPair = generator.generateKeyPair();
+
+        decoder = NimbusJwtDecoder.withPublicKey((RSAPublicKey) keyPair.getPublic()).build();
+        decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(
+                JwtValidators.createDefault(),
+                new JwtBlacklistValidator(tokenBlacklistService)));
+    }
+
+    @Test
+    void shouldConsultTheBlacklistOncePerDecode() throws Exception {
+        when(tokenBlacklistService.isBlacklisted("live-jti")).thenReturn(false);
+
+        Jwt jwt = decoder.decode(sign("live-jti"));
+
+        assertEquals("live-jti", jwt.getId());
+        verify(tokenBlacklistService, times(1)).isBlacklisted("live-jti");
+    }
+
+    @Test
+    void shouldRejectABlacklistedTokenDuringDecode() throws Exception {
+        when(tokenBlacklistService.isBlacklisted("revoked-jti")).thenReturn(true);
+        String token = sign("revoked-jti");
+
+        assertThrows(JwtValidationException.class, () -> decoder.decode(token));
+        verify(tokenBlacklistService, times(1)).isBlacklisted("revoked-jti");
+    }
+
+    private String sign(String jti) throws Exception {
+        SignedJWT signed = new SignedJWT(
+                new JWSHeader(JWSAlgorithm.RS256),
+                new JWTClaimsSet.Builder()
+                        .subject("user")
+                        .claim("email", "user@example.com")
+                        .jwtID(jti)
+                        .issueTime(new Date())
+                        .expirationTime(Date.from(Instant.now().plusSeconds(300)))
+                        .build());
+        signed.sign(new RSASSASigner(keyPair.getPrivate()));
+        return signed.serialize();
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.qonnect.infrastructure.adapters.config.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtRevocationEpochValidatorTest {
+
+    @Mock
+    private RevocationEpochService revocationEpochService;
+
+    private JwtRevocationEpochValidator validator;
+    private Jwt jwt;
+    private Instant issuedAt;
+
+    @BeforeEach
+    void setUp() {
+        validator = new JwtRevocationEpochValidator(revocationEpochService);
+        issuedAt = Instant.now().minusSeconds(60);
+        jwt = Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .claim("email", "test@example.com")
+                .issuedAt(issuedAt)
+                .expiresAt(issuedAt.plusSeconds(300))
+                .build();
+    }
+
+    @Test
+    void shouldRejectTokenIssuedBeforeEpoch() {
+        when(revocationEpochService.isRevoked("test@example.com", issuedAt)).thenReturn(true);
+
+        OAuth2TokenValidatorResult result = validator.validate(jwt);
+
+        assertTrue(result.hasErrors());
+        assertEquals(OAuth2ErrorCodes.INVALID_TOKEN, result.getErrors().iterator().next().getErrorCode());
+    }
+
+    @Test
+    void shouldAcceptTokenIssuedAfterEpoch() {
+        when(revocationEpochService.isRevoked("test@example.com", issuedAt)).thenReturn(false);
+
+        assertFalse(validator.validate(jwt).hasErrors());
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.qonnect.infrastructure.adapters.config.security;
+
+import com.example.qonnect.application.output.UserOutputPort;
+import com.example.qonnect.domain.models.User;
+import com.example.qonnect.domain.models.enums.Role;
+import com.example.qonnect.infrastructure.adapters.output.local.LocalIdentityAdapter;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationProvider;
+import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs local-mode tokens through the production decoder and the bearer token filter that guards
+ * every authenticated endpoint.
+ */
+@ExtendWith(MockitoExtension.class)
+class JwtTokenTypeValidatorTest {
+
+    @Mock
+    private UserOutputPort userOutputPort;
+    @Mock
+    private TokenBlacklistService tokenBlacklistService;
+    @Mock
+    private RevocationEpochService revocationEpochService;
+
+    private User loggedIn;
+    private BearerTokenAuthenticationFilter bearerTokenFilter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        LocalSigningKey localSigningKey = new LocalSigningKey();
+        localSigningKey.init();
+        LocalIdentityAdapter localIdentityAdapter =
+                new LocalIdentityAdapter(userOutputPort, localSigningKey, tokenBlacklistService);
+        localIdentityAdapter.setIssuer("qonnect-test");
+        localIdentityAdapter.setAccessTokenTtlSeconds(300);
+        localIdentityAdapter.setRefreshTokenTtlSeconds(1800);
+        loggedIn = localIdentityAdapter.login(User.builder()
+                .email("praise@example.com")
+                .keycloakId("local-id")
+                .role(Role.DEVELOPER)
+                .build());
+
+        JwtDecoder jwtDecoder = new SecurityConfig().jwtDecoder(
+                new JwtTokenTypeValidator(),
+                new JwtBlacklistValidator(tokenBlacklistService),
+                new JwtRevocationEpochValidator(revocationEpochService),
+                new ImmutableJWKSet<>(localSigningKey.publicJwkSet()));
+        bearerTokenFilter = new BearerTokenAuthenticationFilter(
+                new ProviderManager(new JwtAuthenticationProvider(jwtDecoder)));
+    }
+
+    @Test
+    void accessTokenShouldReachAProtectedEndpoint() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+
+        MockHttpServletResponse response = callProtectedEndpoint(loggedIn.getAccessToken(), chain);
+
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        assertNotNull(chain.getRequest());
+    }
+
+    @Test
+    void refreshTokenShouldBeRejectedWith401() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+
+        MockHttpServletResponse response = callProtectedEndpoint(loggedIn.getRefreshToken(), chain);
+
+        assertEquals(HttpServletResponse.SC_UNAUTHORIZED, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+
+    private MockHttpServletResponse callProtectedEndpoint(String token, MockFilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/projects");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            bearerTokenFilter.doFilter(request, response, chain);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+}
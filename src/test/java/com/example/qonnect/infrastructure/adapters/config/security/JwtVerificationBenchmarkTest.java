@@ -0,0 +1,103 @@
+package com.example.qonnect.infrastructure.adapters.config.security;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.util.Date;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Verifies a 2048-bit RS256 token the way a request used to (a blacklist filter decoding it, then the
+ * resource server decoding it again) and the way it does now (one decode with the blacklist validator
+ * chained on). Run with {@code mvn test -Dbenchmark=true -Dtest=JwtVerificationBenchmarkTest}.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class JwtVerificationBenchmarkTest {
+
+    private static final int WARMUP_REQUESTS = 5_000;
+    private static final int ROUNDS = 20;
+    private static final int REQUESTS_PER_ROUND = 1_000;
+
+    @Test
+    void compareVerificationCostPerRequest() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        String token = sign(keyPair);
+
+        TokenBlacklistService tokenBlacklistService = mock(TokenBlacklistService.class, withSettings().stubOnly());
+        when(tokenBlacklistService.isBlacklisted("benchmark-jti")).thenReturn(false);
+
+        NimbusJwtDecoder resourceServerDecoder = NimbusJwtDecoder.withPublicKey((RSAPublicKey) keyPair.getPublic()).build();
+        NimbusJwtDecoder chainedDecoder = NimbusJwtDecoder.withPublicKey((RSAPublicKey) keyPair.getPublic()).build();
+        chainedDecoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(
+                JwtValidators.createDefault(),
+                new JwtBlacklistValidator(tokenBlacklistService)));
+
+        Consumer<String> filterThenResourceServer = bearer -> {
+            Jwt jwt = resourceServerDecoder.decode(bearer);
+            tokenBlacklistService.isBlacklisted(jwt.getId());
+            resourceServerDecoder.decode(bearer);
+        };
+        Consumer<String> chained = chainedDecoder::decode;
+
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            filterThenResourceServer.accept(token);
+            chained.accept(token);
+        }
+        // Alternate the two paths so JIT and CPU frequency drift weigh on both alike.
+        long beforeNanos = 0;
+        long afterNanos = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            beforeNanos += elapsedNanos(filterThenResourceServer, token);
+            afterNanos += elapsedNanos(chained, token);
+        }
+        double before = beforeNanos / 1_000.0 / (ROUNDS * REQUESTS_PER_ROUND);
+        double after = afterNanos / 1_000.0 / (ROUNDS * REQUESTS_PER_ROUND);
+
+        log.info("JWT verification ({} requests per path): filter+decoder={}us chained decoder={}us ({}x)",
+                ROUNDS * REQUESTS_PER_ROUND, String.format("%.1f", before), String.format("%.1f", after), String.format("%.1f", before / after));
+        assertTrue(after < before, "one chained decode should cost less than decoding the token twice");
+    }
+
+    private static long elapsedNanos(Consumer<String> verification, String token) {
+        long start = System.nanoTime();
+        for (int i = 0; i < REQUESTS_PER_ROUND; i++) {
+            verification.accept(token);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static String sign(KeyPair keyPair) throws Exception {
+        SignedJWT signed = new SignedJWT(
+                new JWSHeader(JWSAlgorithm.RS256),
+                new JWTClaimsSet.Builder()
+                        .subject("user")
+                        .jwtID("benchmark-jti")
+                        .issueTime(new Date())
+                        .expirationTime(Date.from(Instant.now().plusSeconds(3600)))
+                        .build());
+        signed.sign(new RSASSASigner(keyPair.getPrivate()));
+        return signed.serialize();
+    }
+}
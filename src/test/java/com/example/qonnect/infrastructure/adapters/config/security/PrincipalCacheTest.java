@@ -0,0 +1,120 @@
+package com.example.qonnect.infrastructure.adapters.config.security;
+
+import com.example.qonnect.domain.models.Organization;
+import com.example.qonnect.domain.models.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PrincipalCacheTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PrincipalCache principalCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        principalCache = new PrincipalCache(redisTemplate, meterRegistry);
+        principalCache.setMaxSize(100);
+        principalCache.setTtlSeconds(60);
+        principalCache.init();
+        loads = new AtomicInteger();
+    }
+
+    private User load(String email) {
+        loads.incrementAndGet();
+        return User.builder().id(1L).email(email).build();
+    }
+
+    @Test
+    void shouldLoadOnceAndServeFromCache() {
+        principalCache.get("test@example.com", this::load);
+        User cached = principalCache.get("test@example.com", this::load);
+
+        assertEquals("test@example.com", cached.getEmail());
+        assertEquals(1, loads.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void evictShouldInvalidateLocallyAndBroadcast() {
+        principalCache.get("test@example.com", this::load);
+
+        principalCache.evict("test@example.com");
+        principalCache.get("test@example.com", this::load);
+
+        assertEquals(2, loads.get());
+        verify(redisTemplate).convertAndSend(PrincipalCache.EVICTION_CHANNEL, "test@example.com");
+    }
+
+    @Test
+    void remoteEvictionShouldInvalidateWithoutRebroadcasting() {
+        principalCache.get("test@example.com", this::load);
+
+        principalCache.onMessage(new DefaultMessage(
+                PrincipalCache.EVICTION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "test@example.com".getBytes(StandardCharsets.UTF_8)), null);
+        principalCache.get("test@example.com", this::load);
+
+        assertEquals(2, loads.get());
+        assertEquals(1.0, meterRegistry.get("principal.cache.remote.evictions").counter().count());
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    void evictInsideATransactionShouldEvictAgainAndBroadcastOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            principalCache.evict("test@example.com");
+            principalCache.get("test@example.com", this::load);
+            verifyNoInteractions(redisTemplate);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        principalCache.get("test@example.com", this::load);
+
+        assertEquals(2, loads.get());
+        verify(redisTemplate).convertAndSend(PrincipalCache.EVICTION_CHANNEL, "test@example.com");
+    }
+
+    @Test
+    void shouldHandOutCopiesSoOneRequestCannotMutateAnother() {
+        User first = principalCache.get("test@example.com", email -> User.builder().id(1L).email(email)
+                .organization(Organization.builder().id(9L).name("Acme").build()).build());
+        first.setEmail("changed@example.com");
+        first.getOrganization().setName("Changed");
+
+        User second = principalCache.get("test@example.com", this::load);
+
+        assertNotSame(first, second);
+        assertEquals("test@example.com", second.getEmail());
+        assertEquals("Acme", second.getOrganization().getName());
+    }
+
+    @Test
+    void evictShouldIgnoreNullEmail() {
+        principalCache.evict(null);
+        verifyNoInteractions(redisTemplate);
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.qonnect.infrastructure.adapters.config.security;
+
+import com.example.qonnect.domain.models.Organization;
+import com.example.qonnect.domain.models.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimitFilterTest {
+
+    @Mock
+    private TokenBucketRateLimiter rateLimiter;
+
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new RateLimitFilter(rateLimiter, new ObjectMapper().registerModule(new JavaTimeModule()));
+        filter.setEnabled(true);
+        filter.setAuthIpCapacity(30);
+        filter.setAuthIpRefillPerMinute(30);
+        filter.setAuthEmailCapacity(5);
+        filter.setAuthEmailRefillPerMinute(2);
+        filter.setTenantCapacity(600);
+        filter.setTenantRefillPerMinute(3000);
+        filter.setMaxInspectedBodyBytes(4096);
+        filter.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private MockHttpServletRequest loginRequest(String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/users/login");
+        request.setRemoteAddr("10.0.0.1");
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    @Test
+    void shouldLimitLoginPerIpAndPerEmailAndKeepBodyReadable() throws Exception {
+        when(rateLimiter.tryAcquire(any(), anyString())).thenReturn(RateLimitDecision.ALLOWED);
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(loginRequest("{\"email\":\"User@Example.com\",\"password\":\"x\"}"), new MockHttpServletResponse(), chain);
+
+        ArgumentCaptor<RateLimitPolicy> policies = ArgumentCaptor.forClass(RateLimitPolicy.class);
+        verify(rateLimiter).tryAcquire(policies.capture(), eq("10.0.0.1"));
+        verify(rateLimiter).tryAcquire(policies.capture(), eq("user@example.com"));
+        assertEquals("auth-ip", policies.getAllValues().get(0).getName());
+        assertEquals("auth-email", policies.getAllValues().get(1).getName());
+        String forwardedBody = new String(chain.getRequest().getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        assertTrue(forwardedBody.contains("User@Example.com"));
+    }
+
+    @Test
+    void shouldInspectBodiesSentWithoutAContentLength() throws Exception {
+        when(rateLimiter.tryAcquire(any(), anyString())).thenReturn(RateLimitDecision.ALLOWED);
+        MockHttpServletRequest chunked = new MockHttpServletRequest("POST", "/api/v1/users/login") {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        chunked.setContent("{\"email\":\"user@example.com\"}".getBytes(StandardCharsets.UTF_8));
+
+        filter.doFilter(chunked, new MockHttpServletResponse(), new MockFilterChain());
+
+        verify(rateLimiter).tryAcquire(argThat(policy -> policy.getName().equals("auth-email")), eq("user@example.com"));
+    }
+
+    @Test
+    void shouldLimitPasswordResetCompletionPerEmailQueryParameter() throws Exception {
+        when(rateLimiter.tryAcquire(any(), anyString())).thenReturn(RateLimitDecision.ALLOWED);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/users/password/reset/complete");
+        request.setRemoteAddr("10.0.0.1");
+        request.setQueryString("email=Victim@Example.com");
+        request.addParameter("email", "Victim@Example.com");
+        request.setContentType("application/json");
+        request.setContent("{\"otp\":\"123456\",\"newPassword\":\"x\"}".getBytes(StandardCharsets.UTF_8));
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        verify(rateLimiter).tryAcquire(argThat(policy -> policy.getName().equals("auth-email")), eq("victim@example.com"));
+    }
+
+    @Test
+    void shouldForwardBodiesLargerThanTheInspectionLimitIntact() throws Exception {
+        filter.setMaxInspectedBodyBytes(16);
+        when(rateLimiter.tryAcquire(any(), anyString())).thenReturn(RateLimitDecision.ALLOWED);
+        String body = "{\"email\":\"user@example.com\",\"password\":\"" + "x".repeat(100) + "\"}";
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(loginRequest(body), new MockHttpServletResponse(), chain);
+
+        verify(rateLimiter, never()).tryAcquire(argThat(policy -> policy.getName().equals("auth-email")), anyString());
+        assertEquals(body, new String(chain.getRequest().getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldLimitEveryPathVariantThatReachesAnAuthEndpoint() throws Exception {
+        when(rateLimiter.tryAcquire(any(), anyString())).thenReturn(RateLimitDecision.ALLOWED);
+
+        for (String uri : List.of("/api/v1/users/login/", "/api/v1/users/login;a=b", "//api/v1/users//login", "/api/v1/users/%6Cogin")) {
+            MockHttpServletRequest request = loginRequest("{}");
+            request.setRequestURI(uri);
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        }
+
+        verify(rateLimiter, times(4)).tryAcquire(argThat(policy -> policy.getName().equals("auth-ip")), eq("10.0.0.1"));
+    }
+
+    @Test
+    void bufferedBodyShouldSupportNonBlockingReads() throws Exception {
+        CachedBodyHttpServletRequest cached = new CachedBodyHttpServletRequest(loginRequest("{\"email\":\"a@b.c\"}"), 4096);
+        ServletInputStream in = cached.getInputStream();
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        ReadListener listener = mock(ReadListener.class);
+        doAnswer(invocation -> {
+            while (in.isReady() && !in.isFinished()) {
+                read.write(in.read());
+            }
+            return null;
+        }).when(listener).onDataAvailable();
+
+        in.setReadListener(listener);
+
+        InOrder order = inOrder(listener);
+        order.verify(listener).onDataAvailable();
+        order.verify(listener).onAllDataRead();
+        assertEquals("{\"email\":\"a@b.c\"}", read.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldReturn429WithRetryAfterWhenRejected() throws Exception {
+        when(rateLimiter.tryAcquire(any(), eq("10.0.0.1"))).thenReturn(new RateLimitDecision(false, 12_000));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(loginRequest("{\"email\":\"user@example.com\"}"), response, chain);
+
+        assertEquals(429, response.getStatus());
+        assertEquals("12", response.getHeader("Retry-After"));
+        assertTrue(response.getContentAsString().contains("429"));
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void shouldLimitAuthenticatedTrafficPerOrganization() throws Exception {
+        User user = User.builder().email("dev@example.com").organization(Organization.builder().id(7L).build()).build();
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(user, null));
+        when(rateLimiter.tryAcquire(any(), eq("7"))).thenReturn(RateLimitDecision.ALLOWED);
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/projects"), new MockHttpServletResponse(), chain);
+
+        verify(rateLimiter).tryAcquire(argThat(policy -> policy.getName().equals("tenant")), eq("7"));
+        verifyNoMoreInteractions(rateLimiter);
+        assertNotNull(chain.getRequest());
+    }
+
+    @Test
+    void shouldSkipWhenDisabled() throws Exception {
+        filter.setEnabled(false);
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(loginRequest("{\"email\":\"user@example.com\"}"), new MockHttpServletResponse(), chain);
+
+        verifyNoInteractions(rateLimiter);
+        assertNotNull(chain.getRequest());
+    }
+}
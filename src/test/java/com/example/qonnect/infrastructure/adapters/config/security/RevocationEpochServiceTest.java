@@ -0,0 +1,81 @@
+package com.example.qonnect.infrastructure.adapters.config.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RevocationEpochServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private RevocationEpochService revocationEpochService;
+
+    @BeforeEach
+    void setUp() {
+        revocationEpochService = new RevocationEpochService(redisTemplate, new SimpleMeterRegistry());
+        revocationEpochService.setEpochTtlSeconds(3600);
+        revocationEpochService.setCacheMaxSize(100);
+        revocationEpochService.setCacheTtlSeconds(60);
+        revocationEpochService.init();
+    }
+
+    @Test
+    void shouldRevokeTokensIssuedBeforeEpoch() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        Instant epoch = Instant.ofEpochSecond(1_700_000_000L);
+
+        revocationEpochService.revokeTokensIssuedBefore("user@example.com", epoch);
+
+        assertTrue(revocationEpochService.isRevoked("user@example.com", epoch.minusSeconds(1)));
+        assertFalse(revocationEpochService.isRevoked("user@example.com", epoch));
+        verify(valueOperations).set("revocation-epoch:user@example.com", "1700000000", 3600, TimeUnit.SECONDS);
+        verify(redisTemplate).convertAndSend(RevocationEpochService.EPOCH_CHANNEL, "user@example.com|1700000000");
+    }
+
+    @Test
+    void shouldLoadEpochFromRedisOnceAndCacheIt() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("revocation-epoch:user@example.com")).thenReturn("1700000000");
+
+        assertTrue(revocationEpochService.isRevoked("user@example.com", Instant.ofEpochSecond(1_600_000_000L)));
+        assertFalse(revocationEpochService.isRevoked("user@example.com", Instant.ofEpochSecond(1_800_000_000L)));
+
+        verify(valueOperations, times(1)).get("revocation-epoch:user@example.com");
+    }
+
+    @Test
+    void shouldNotRevokeWhenUserHasNoEpoch() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("revocation-epoch:user@example.com")).thenReturn(null);
+
+        assertFalse(revocationEpochService.isRevoked("user@example.com", Instant.now()));
+    }
+
+    @Test
+    void shouldApplyEpochPublishedByAnotherInstance() {
+        revocationEpochService.onMessage(new DefaultMessage(
+                RevocationEpochService.EPOCH_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "user@example.com|1700000000".getBytes(StandardCharsets.UTF_8)), null);
+
+        assertTrue(revocationEpochService.isRevoked("user@example.com", Instant.ofEpochSecond(1_699_999_999L)));
+        verifyNoInteractions(valueOperations);
+    }
+}
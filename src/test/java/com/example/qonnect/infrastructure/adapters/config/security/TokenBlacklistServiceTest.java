@@ -0,0 +1,167 @@
+package com.example.qonnect.infrastructure.adapters.config.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TokenBlacklistServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TokenBlacklistService tokenBlacklistService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        stubScan(List.of("blacklist:revoked-on-startup"));
+
+        tokenBlacklistService = new TokenBlacklistService(redisTemplate, meterRegistry);
+        tokenBlacklistService.setExpectedInsertions(1000);
+        tokenBlacklistService.setFalsePositiveRate(0.001);
+        tokenBlacklistService.init();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubScan(List<String> keys) {
+        Iterator<String> iterator = keys.iterator();
+        Cursor<String> cursor = mock(Cursor.class);
+        when(cursor.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+        when(cursor.next()).thenAnswer(invocation -> iterator.next());
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+    }
+
+    @Test
+    void shouldNotQueryRedisForTokenThatWasNeverRevoked() {
+        assertFalse(tokenBlacklistService.isBlacklisted("never-revoked"));
+
+        verify(redisTemplate, never()).hasKey(any());
+    }
+
+    @Test
+    void shouldLoadExistingBlacklistOnStartup() {
+        when(redisTemplate.hasKey("blacklist:revoked-on-startup")).thenReturn(true);
+
+        assertTrue(tokenBlacklistService.isBlacklisted("revoked-on-startup"));
+    }
+
+    @Test
+    void shouldStoreAddAndBroadcastBlacklistedToken() {
+        tokenBlacklistService.blacklistToken("jti-1", 300);
+        when(redisTemplate.hasKey("blacklist:jti-1")).thenReturn(true);
+
+        assertTrue(tokenBlacklistService.isBlacklisted("jti-1"));
+        verify(valueOperations).set("blacklist:jti-1", "blacklisted", 300, TimeUnit.SECONDS);
+        verify(redisTemplate).convertAndSend(TokenBlacklistService.BLACKLIST_CHANNEL, "jti-1");
+    }
+
+    @Test
+    void shouldAddTokensRevokedOnOtherInstances() {
+        tokenBlacklistService.onMessage(new DefaultMessage(
+                TokenBlacklistService.BLACKLIST_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "remote-jti".getBytes(StandardCharsets.UTF_8)), null);
+        when(redisTemplate.hasKey("blacklist:remote-jti")).thenReturn(true);
+
+        assertTrue(tokenBlacklistService.isBlacklisted("remote-jti"));
+        assertEquals(2.0, meterRegistry.get("token.blacklist.bloom.size").gauge().value());
+    }
+
+    @Test
+    void shouldCountFalsePositiveWhenRedisDisagrees() {
+        tokenBlacklistService.onMessage(new DefaultMessage(
+                TokenBlacklistService.BLACKLIST_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "expired-jti".getBytes(StandardCharsets.UTF_8)), null);
+        when(redisTemplate.hasKey("blacklist:expired-jti")).thenReturn(false);
+
+        assertFalse(tokenBlacklistService.isBlacklisted("expired-jti"));
+        assertEquals(1.0, meterRegistry.get("token.blacklist.bloom.false.positives").counter().count());
+    }
+
+    @Test
+    void shouldDropExpiredEntriesOnRebuild() {
+        stubScan(List.of());
+
+        tokenBlacklistService.rebuildBloomFilter();
+
+        assertFalse(tokenBlacklistService.isBlacklisted("revoked-on-startup"));
+        verify(redisTemplate, never()).hasKey(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldNotLoseRevocationsAddedWhileTheFilterIsSwapped() throws Exception {
+        // Keys land in "Redis" before the broadcast, as in blacklistToken; each scan sees a snapshot.
+        Set<String> redisKeys = ConcurrentHashMap.newKeySet();
+        when(redisTemplate.scan(any(ScanOptions.class))).thenAnswer(invocation -> {
+            Iterator<String> snapshot = new ArrayList<>(redisKeys).iterator();
+            Cursor<String> cursor = mock(Cursor.class);
+            when(cursor.hasNext()).thenAnswer(hasNext -> snapshot.hasNext());
+            when(cursor.next()).thenAnswer(next -> snapshot.next());
+            return cursor;
+        });
+        when(redisTemplate.hasKey(any())).thenReturn(true);
+        int revocations = 20_000;
+        AtomicBoolean adding = new AtomicBoolean(true);
+        Thread rebuilder = new Thread(() -> {
+            while (adding.get()) {
+                tokenBlacklistService.rebuildBloomFilter();
+            }
+        });
+
+        rebuilder.start();
+        for (int i = 0; i < revocations; i++) {
+            redisKeys.add("blacklist:concurrent-" + i);
+            tokenBlacklistService.onMessage(new DefaultMessage(
+                    TokenBlacklistService.BLACKLIST_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                    ("concurrent-" + i).getBytes(StandardCharsets.UTF_8)), null);
+        }
+        adding.set(false);
+        rebuilder.join();
+
+        for (int i = 0; i < revocations; i++) {
+            assertTrue(tokenBlacklistService.isBlacklisted("concurrent-" + i), "concurrent-" + i);
+        }
+    }
+
+    @Test
+    void shouldFallBackToRedisWhenInitialRebuildFails() {
+        when(redisTemplate.scan(any(ScanOptions.class))).thenThrow(new RuntimeException("Redis down"));
+        TokenBlacklistService service = new TokenBlacklistService(redisTemplate, new SimpleMeterRegistry());
+        service.setExpectedInsertions(1000);
+        service.setFalsePositiveRate(0.001);
+        service.init();
+        when(redisTemplate.hasKey("blacklist:unknown")).thenReturn(true);
+
+        assertTrue(service.isBlacklisted("unknown"));
+    }
+}
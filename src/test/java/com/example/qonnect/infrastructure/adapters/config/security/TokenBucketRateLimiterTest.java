@@ -0,0 +1,90 @@
+package com.example.qonnect.infrastructure.adapters.config.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenBucketRateLimiterTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TokenBucketRateLimiter rateLimiter;
+
+    private final RateLimitPolicy tenant = new RateLimitPolicy("tenant", 600, 3000);
+    private final RateLimitPolicy login = new RateLimitPolicy("auth-email", 5, 2);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimiter = new TokenBucketRateLimiter(redisTemplate, meterRegistry);
+        rateLimiter.setPrefetch(10);
+        rateLimiter.setLocalLeaseMs(60_000);
+        rateLimiter.setLocalMaxKeys(100);
+        rateLimiter.init();
+    }
+
+    private double decisions(String policy, String outcome, String source) {
+        return meterRegistry.counter("rate.limit.decisions", "policy", policy, "outcome", outcome, "source", source).count();
+    }
+
+    @Test
+    void shouldServePrefetchedPermitsLocally() {
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("rate-limit:tenant:42")), eq("600"), anyString(), eq("10")))
+                .thenReturn(List.of(10L, 0L));
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(rateLimiter.tryAcquire(tenant, "42").isAllowed());
+        }
+
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(), any(), any());
+        assertEquals(1.0, decisions("tenant", "allowed", "redis"));
+        assertEquals(9.0, decisions("tenant", "allowed", "local"));
+    }
+
+    @Test
+    void shouldNotPrefetchForSmallBuckets() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), eq("5"), anyString(), eq("1")))
+                .thenReturn(List.of(1L, 0L));
+
+        assertTrue(rateLimiter.tryAcquire(login, "user@example.com").isAllowed());
+        assertTrue(rateLimiter.tryAcquire(login, "user@example.com").isAllowed());
+
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), anyList(), any(), any(), any());
+    }
+
+    @Test
+    void shouldRejectWithRetryAfterWhenBucketIsEmpty() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any()))
+                .thenReturn(List.of(0L, 29_500L));
+
+        RateLimitDecision decision = rateLimiter.tryAcquire(login, "user@example.com");
+
+        assertFalse(decision.isAllowed());
+        assertEquals(30, decision.retryAfterSeconds());
+        assertEquals(1.0, decisions("auth-email", "rejected", "redis"));
+    }
+
+    @Test
+    void shouldFailOpenWhenRedisIsUnavailable() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        assertTrue(rateLimiter.tryAcquire(login, "user@example.com").isAllowed());
+        assertEquals(1.0, decisions("auth-email", "error", "redis"));
+    }
+}
@@ -99,6 +99,15 @@ class KeycloakAdapterTest {
         assertThrows(UserAlreadyExistException.class, () -> identityPort.createUser(testUser));
     }
 
+    @Test
+    void shouldOnlyMatchExactUsername_whenCheckingIfUserExists() {
+        identityPort.createUser(testUser);
+        createdEmails.add(testUser.getEmail());
+
+        assertTrue(identityPort.doesUserExist(testUser.getEmail()));
+        assertFalse(identityPort.doesUserExist("user@example.com"));
+    }
+
     @Test
     void shouldThrowIdentityManagerException_whenUserInputIsInvalid() {
         testUser.setEmail("");
@@ -0,0 +1,103 @@
+package com.example.qonnect.infrastructure.adapters.output.local;
+
+import com.example.qonnect.application.output.UserOutputPort;
+import com.example.qonnect.domain.models.User;
+import com.example.qonnect.domain.models.enums.Role;
+import com.example.qonnect.infrastructure.adapters.config.security.LocalSigningKey;
+import com.example.qonnect.infrastructure.adapters.config.security.TokenBlacklistService;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class LocalIdentityAdapterTest {
+
+    @Mock private UserOutputPort userOutputPort;
+    @Mock private TokenBlacklistService tokenBlacklistService;
+
+    private LocalSigningKey localSigningKey;
+    private LocalIdentityAdapter localIdentityAdapter;
+    private NimbusJwtDecoder jwtDecoder;
+    private User user;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this);
+        localSigningKey = new LocalSigningKey();
+        localSigningKey.init();
+
+        localIdentityAdapter = new LocalIdentityAdapter(userOutputPort, localSigningKey, tokenBlacklistService);
+        localIdentityAdapter.setIssuer("qonnect-test");
+        localIdentityAdapter.setAccessTokenTtlSeconds(300);
+        localIdentityAdapter.setRefreshTokenTtlSeconds(1800);
+
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256,
+                new ImmutableJWKSet<>(localSigningKey.publicJwkSet())));
+        jwtDecoder = new NimbusJwtDecoder(processor);
+
+        user = User.builder()
+                .email("praise@example.com")
+                .keycloakId("local-id")
+                .role(Role.DEVELOPER)
+                .build();
+    }
+
+    @Test
+    void shouldIssueTokensVerifiableWithPublishedJwks() {
+        User loggedIn = localIdentityAdapter.login(user);
+
+        Jwt jwt = jwtDecoder.decode(loggedIn.getAccessToken());
+
+        assertEquals("praise@example.com", jwt.getClaimAsString("email"));
+        assertEquals("local-id", jwt.getSubject());
+        assertEquals(localSigningKey.keyId(), jwt.getHeaders().get("kid"));
+        assertNotNull(jwt.getId());
+        Map<String, Object> realmAccess = jwt.getClaim("realm_access");
+        assertEquals(List.of("DEVELOPER"), realmAccess.get("roles"));
+        assertEquals(300, loggedIn.getExpiresIn());
+        assertEquals("Bearer", loggedIn.getTokenType());
+        assertNotNull(loggedIn.getRefreshToken());
+    }
+
+    @Test
+    void shouldAssignLocalIdentifierOnCreate() {
+        User newUser = User.builder().email("new@example.com").build();
+
+        User created = localIdentityAdapter.createUser(newUser);
+
+        assertNotNull(created.getKeycloakId());
+    }
+
+    @Test
+    void shouldBlacklistRefreshTokenOnLogout() {
+        User loggedIn = localIdentityAdapter.login(user);
+        String refreshJti = jwtDecoder.decode(loggedIn.getRefreshToken()).getId();
+
+        localIdentityAdapter.logout(user, loggedIn.getRefreshToken());
+
+        verify(tokenBlacklistService).blacklistToken(eq(refreshJti), anyLong());
+    }
+
+    @Test
+    void shouldIgnoreInvalidRefreshTokenOnLogout() {
+        localIdentityAdapter.logout(user, "not-a-token");
+
+        verify(tokenBlacklistService, never()).blacklistToken(anyString(), anyLong());
+    }
+}
@@ -153,6 +153,17 @@ class BugPersistenceAdapterTest {
                 () -> adapter.getBugByIdAndTaskId(999L, 999L));
     }
 
+    @Test
+    void shouldFindBugOnlyWithinItsTasksOrganization() {
+        Optional<Bug> inScope = adapter.findBugInOrganization(bug.getId(), task.getId(), organization.getId());
+        assertTrue(inScope.isPresent());
+        assertEquals("Adapter Test Bug", inScope.get().getTitle());
+        assertEquals(createdBy.getId(), inScope.get().getCreatedBy().getId());
+
+        assertTrue(adapter.findBugInOrganization(bug.getId(), task.getId(), organization.getId() + 1).isEmpty());
+        assertTrue(adapter.findBugInOrganization(bug.getId(), task.getId() + 1, organization.getId()).isEmpty());
+    }
+
     @Test
     void shouldGetAllBugsByProjectId() {
         adapter.saveBug(bug);
@@ -174,6 +185,35 @@ class BugPersistenceAdapterTest {
 
     }
 
+    @Test
+    void shouldWalkBugsByProjectIdWithCursorWithoutGapsOrDuplicates() {
+        LocalDateTime sameInstant = bug.getCreatedAt();
+        Bug tied = adapter.saveBug(Bug.builder()
+                .title("Tied Bug")
+                .description("Same created at as the first bug")
+                .taskId(task.getId())
+                .projectId(project.getId())
+                .createdBy(createdBy)
+                .severity(BugSeverity.MINOR)
+                .status(BugStatus.OPEN)
+                .createdAt(sameInstant)
+                .build());
+
+        Slice<Bug> first = adapter.getBugsByProjectIdAfter(project.getId(), KeysetCursor.START, 1);
+        assertEquals(1, first.getNumberOfElements());
+        assertTrue(first.hasNext());
+        assertEquals(tied.getId(), first.getContent().get(0).getId());
+
+        Bug last = first.getContent().get(0);
+        Slice<Bug> second = adapter.getBugsByProjectIdAfter(project.getId(),
+                new KeysetCursor(last.getCreatedAt(), last.getId()), 1);
+        assertEquals(1, second.getNumberOfElements());
+        assertFalse(second.hasNext());
+        assertEquals(bug.getId(), second.getContent().get(0).getId());
+
+        bugRepository.deleteById(tied.getId());
+    }
+
     @Test
     void shouldGetAllBugsByTaskId() {
         adapter.saveBug(bug);
@@ -285,16 +325,4 @@ class BugPersistenceAdapterTest {
     void shouldThrow_whenDeletingNonExistingBug() {
         assertThrows(BugNotFoundException.class, () -> adapter.deleteBug(12345L));
     }
-
-
-    @Test
-    void shouldReturnTrue_whenBugExistsByTitleAndProjectId() {
-        adapter.saveBug(bug);
-        assertTrue(adapter.existsByTitleAndProjectId(bug.getTitle(), project.getId()));
-    }
-
-    @Test
-    void shouldReturnFalse_whenBugDoesNotExistByTitleAndProjectId() {
-        assertFalse(adapter.existsByTitleAndProjectId("Unknown Bug", project.getId()));
-    }
 }
\ No newline at end of file
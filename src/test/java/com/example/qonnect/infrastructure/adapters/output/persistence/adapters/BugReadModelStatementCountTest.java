@@ -0,0 +1,126 @@
+package com.example.qonnect.infrastructure.adapters.output.persistence.adapters;
+
+import com.example.qonnect.application.output.OrganizationOutputPort;
+import com.example.qonnect.application.output.ProjectOutputPort;
+import com.example.qonnect.application.output.TaskOutputPort;
+import com.example.qonnect.application.output.UserOutputPort;
+import com.example.qonnect.domain.models.*;
+import com.example.qonnect.domain.models.enums.BugSeverity;
+import com.example.qonnect.domain.models.enums.BugStatus;
+import com.example.qonnect.domain.models.enums.Role;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class BugReadModelStatementCountTest {
+
+    private static final int BUG_COUNT = 25;
+
+    @Autowired
+    private BugPersistenceAdapter adapter;
+    @Autowired
+    private UserOutputPort userOutputPort;
+    @Autowired
+    private ProjectOutputPort projectOutputPort;
+    @Autowired
+    private TaskOutputPort taskOutputPort;
+    @Autowired
+    private OrganizationOutputPort organizationOutputPort;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final Pageable pageable = PageRequest.of(0, 50, Sort.by("createdAt").descending());
+    private Project project;
+    private Task task;
+    private User createdBy;
+    private User assignedTo;
+
+    @BeforeEach
+    void setUp() {
+        Organization organization = organizationOutputPort.saveOrganization(
+                Organization.builder().name("Statement Count Org").build());
+        project = projectOutputPort.saveProject(
+                Project.builder().name("Statement Count Project").organizationId(organization.getId()).build());
+        task = taskOutputPort.saveTask(
+                Task.builder().title("Statement Count Task").projectId(project.getId()).build());
+        createdBy = userOutputPort.saveUser(User.builder()
+                .firstName("Qa").lastName("Reporter").email("statement-reporter@example.com")
+                .role(Role.QA_ENGINEER).organization(organization).build());
+        assignedTo = userOutputPort.saveUser(User.builder()
+                .firstName("Dev").lastName("Assignee").email("statement-assignee@example.com")
+                .role(Role.DEVELOPER).organization(organization).build());
+
+        for (int i = 0; i < BUG_COUNT; i++) {
+            adapter.saveBug(Bug.builder()
+                    .title("Bug " + i)
+                    .description("Statement count bug " + i)
+                    .projectId(project.getId())
+                    .taskId(task.getId())
+                    .createdBy(createdBy)
+                    .assignedTo(assignedTo)
+                    .severity(BugSeverity.MINOR)
+                    .status(BugStatus.OPEN)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private Page<Bug> countingStatements(Supplier<Page<Bug>> query) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        Page<Bug> page = query.get();
+        assertEquals(1, statistics.getPrepareStatementCount());
+        return page;
+    }
+
+    @Test
+    void projectPageShouldBeSingleStatement() {
+        Page<Bug> page = countingStatements(() -> adapter.getAllBugsByProjectId(project.getId(), pageable));
+
+        assertEquals(BUG_COUNT, page.getContent().size());
+        Bug first = page.getContent().get(0);
+        assertEquals(project.getId(), first.getProjectId());
+        assertEquals(task.getId(), first.getTaskId());
+        assertEquals("statement-reporter@example.com", first.getCreatedBy().getEmail());
+        assertEquals(assignedTo.getId(), first.getAssignedTo().getId());
+    }
+
+    @Test
+    void taskPageShouldBeSingleStatement() {
+        Page<Bug> page = countingStatements(() -> adapter.getAllBugsByTaskId(task.getId(), pageable));
+        assertEquals(BUG_COUNT, page.getContent().size());
+    }
+
+    @Test
+    void assigneePageShouldBeSingleStatement() {
+        Page<Bug> page = countingStatements(() -> adapter.getBugsByUserId(assignedTo.getId(), pageable));
+        assertEquals(BUG_COUNT, page.getContent().size());
+    }
+
+    @Test
+    void creatorPageShouldBeSingleStatement() {
+        Page<Bug> page = countingStatements(() -> adapter.getBugsByCreatedById(createdBy.getId(), pageable));
+        assertEquals(BUG_COUNT, page.getContent().size());
+    }
+}
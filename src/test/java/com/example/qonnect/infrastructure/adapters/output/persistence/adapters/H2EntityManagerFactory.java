@@ -0,0 +1,40 @@
+package com.example.qonnect.infrastructure.adapters.output.persistence.adapters;
+
+import com.example.qonnect.infrastructure.adapters.output.persistence.entities.OrganizationEntity;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Builds the application's entities on a throwaway in-memory H2 database in PostgreSQL mode, with Spring Boot's
+ * naming strategies, for persistence tests that do not need the full application context.
+ */
+final class H2EntityManagerFactory {
+
+    private H2EntityManagerFactory() {
+    }
+
+    static LocalContainerEntityManagerFactoryBean create(Map<String, Object> properties) {
+        Map<String, Object> jpaProperties = new HashMap<>(properties);
+        jpaProperties.put(AvailableSettings.PHYSICAL_NAMING_STRATEGY, CamelCaseToUnderscoresNamingStrategy.class.getName());
+        jpaProperties.put(AvailableSettings.IMPLICIT_NAMING_STRATEGY, SpringImplicitNamingStrategy.class.getName());
+        jpaProperties.put(AvailableSettings.HBM2DDL_AUTO, "create");
+        jpaProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, "false");
+
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(new DriverManagerDataSource(
+                "jdbc:h2:mem:entities-" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", ""));
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setPackagesToScan(OrganizationEntity.class.getPackageName());
+        factoryBean.setJpaPropertyMap(jpaProperties);
+        factoryBean.afterPropertiesSet();
+        return factoryBean;
+    }
+}
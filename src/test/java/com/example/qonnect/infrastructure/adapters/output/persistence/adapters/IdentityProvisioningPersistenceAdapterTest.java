@@ -0,0 +1,72 @@
+package com.example.qonnect.infrastructure.adapters.output.persistence.adapters;
+
+import com.example.qonnect.domain.models.IdentityProvisioning;
+import com.example.qonnect.domain.models.User;
+import com.example.qonnect.domain.models.enums.ProvisioningStatus;
+import com.example.qonnect.domain.models.enums.Role;
+import com.example.qonnect.infrastructure.adapters.output.persistence.repositories.IdentityProvisioningRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class IdentityProvisioningPersistenceAdapterTest {
+
+    @Autowired
+    private IdentityProvisioningPersistenceAdapter identityProvisioningPersistenceAdapter;
+
+    @Autowired
+    private IdentityProvisioningRepository identityProvisioningRepository;
+
+    private User user() {
+        return User.builder()
+                .email("provision@example.com")
+                .firstName("Praise")
+                .lastName("Oyewole")
+                .password("encoded")
+                .role(Role.DEVELOPER)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        identityProvisioningRepository.deleteAll();
+    }
+
+    @Test
+    void enqueue_shouldCreatePendingRow() {
+        IdentityProvisioning queued = identityProvisioningPersistenceAdapter.enqueue(user());
+
+        assertNotNull(queued.getId());
+        assertEquals(ProvisioningStatus.PENDING, queued.getStatus());
+        assertEquals(0, queued.getAttempts());
+    }
+
+    @Test
+    void enqueue_shouldBeIdempotentOnEmail() {
+        IdentityProvisioning first = identityProvisioningPersistenceAdapter.enqueue(user());
+        IdentityProvisioning second = identityProvisioningPersistenceAdapter.enqueue(user());
+
+        assertEquals(first.getId(), second.getId());
+        assertEquals(1, identityProvisioningRepository.count());
+    }
+
+    @Test
+    void claimDue_shouldLeaseDueRows() {
+        identityProvisioningPersistenceAdapter.enqueue(user());
+
+        List<IdentityProvisioning> claimed = identityProvisioningPersistenceAdapter.claimDue(10, Duration.ofMinutes(1));
+
+        assertEquals(1, claimed.size());
+        assertEquals(ProvisioningStatus.IN_PROGRESS, claimed.get(0).getStatus());
+        assertTrue(identityProvisioningPersistenceAdapter.claimDue(10, Duration.ofMinutes(1)).isEmpty());
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.qonnect.infrastructure.adapters.output.persistence.adapters;
+
+import com.example.qonnect.domain.models.Organization;
+import com.example.qonnect.domain.models.User;
+import com.example.qonnect.domain.models.enums.Role;
+import com.example.qonnect.infrastructure.adapters.output.persistence.entities.OrganizationEntity;
+import com.example.qonnect.infrastructure.adapters.output.persistence.repositories.OrganizationRepository;
+import com.example.qonnect.infrastructure.adapters.output.persistence.repositories.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Saves a bulk invite through the real entities and counts the JDBC statements Hibernate prepares.
+ */
+class InviteeBatchInsertTest {
+
+    private static final int INVITEES = 120;
+
+    private LocalContainerEntityManagerFactoryBean factoryBean;
+    private Statistics statistics;
+    private TransactionTemplate transaction;
+    private UserPersistenceAdapter userPersistenceAdapter;
+    private UserRepository userRepository;
+    private Organization organization;
+
+    @BeforeEach
+    void setUp() {
+        factoryBean = H2EntityManagerFactory.create(Map.of(
+                AvailableSettings.STATEMENT_BATCH_SIZE, "50",
+                AvailableSettings.ORDER_INSERTS, "true",
+                AvailableSettings.GENERATE_STATISTICS, "true"));
+        EntityManagerFactory entityManagerFactory = factoryBean.getObject();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        transaction = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory));
+
+        EntityManager entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        JpaRepositoryFactory repositoryFactory = new JpaRepositoryFactory(entityManager);
+        userRepository = repositoryFactory.getRepository(UserRepository.class);
+        OrganizationRepository organizationRepository = repositoryFactory.getRepository(OrganizationRepository.class);
+        userPersistenceAdapter = new UserPersistenceAdapter(userRepository, null, null, organizationRepository);
+
+        OrganizationEntity organizationEntity = new OrganizationEntity();
+        organizationEntity.setName("Batch Org");
+        Long organizationId = transaction.execute(status -> organizationRepository.save(organizationEntity).getId());
+        organization = Organization.builder().id(organizationId).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        factoryBean.destroy();
+    }
+
+    @Test
+    void shouldInsertInviteesInJdbcBatches() {
+        List<User> invitees = IntStream.range(0, INVITEES)
+                .mapToObj(i -> User.builder()
+                        .email("invitee" + i + "@example.com")
+                        .role(Role.DEVELOPER)
+                        .organization(organization)
+                        .inviteToken(UUID.randomUUID().toString())
+                        .tokenExpiresAt(LocalDateTime.now().plusDays(7))
+                        .build())
+                .toList();
+        statistics.clear();
+
+        transaction.executeWithoutResult(status -> userPersistenceAdapter.saveInvitees(invitees));
+
+        assertEquals(INVITEES, statistics.getEntityInsertCount());
+        // 120 rows at a batch size of 50 are three insert batches plus a few pooled sequence fetches.
+        assertTrue(statistics.getPrepareStatementCount() <= 8,
+                "prepared " + statistics.getPrepareStatementCount() + " statements for " + INVITEES + " invitees");
+        assertEquals(INVITEES, userRepository.count());
+    }
+}
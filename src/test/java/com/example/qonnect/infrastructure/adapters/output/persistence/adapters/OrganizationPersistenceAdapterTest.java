@@ -97,16 +97,6 @@ class OrganizationPersistenceAdapterTest {
         adapter.deleteById(saved.getId());
     }
 
-    @Test
-    void shouldReturnTrueWhenOrganizationExistsByName() {
-        assertTrue(adapter.existsByName("Test Organization"));
-    }
-
-    @Test
-    void shouldReturnFalseWhenOrganizationDoesNotExistByName() {
-        assertFalse(adapter.existsByName("Nonexistent Org"));
-    }
-
     @Test
     void shouldFindOrganizationById() {
         Organization found = adapter.getOrganizationById(organization.getId());
@@ -20,7 +20,7 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
-@SpringBootTest
+@SpringBootTest(properties = "app.otp.store=database")
 @Transactional
 class OtpPersistenceAdapterTest {
 
@@ -53,6 +53,14 @@ class OtpPersistenceAdapterTest {
         otpRepository.deleteById(savedOtp.getId());
     }
 
+    @Test
+    void consumeOtp_shouldMarkOtpUsedAndReturnPreviousState() {
+        Otp consumed = otpPersistenceAdapter.consumeOtp("user@example.com", "123456");
+
+        assertFalse(consumed.isUsed());
+        assertTrue(otpRepository.findById(savedOtp.getId()).orElseThrow().isUsed());
+    }
+
     @Test
     void findByEmailAndOtp_shouldReturnOtp() {
         Otp result = otpPersistenceAdapter.findByEmailAndOtp("user@example.com", "123456");
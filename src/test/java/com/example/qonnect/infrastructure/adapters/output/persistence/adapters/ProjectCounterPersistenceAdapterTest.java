@@ -0,0 +1,126 @@
+package com.example.qonnect.infrastructure.adapters.output.persistence.adapters;
+
+import com.example.qonnect.application.output.OrganizationOutputPort;
+import com.example.qonnect.application.output.ProjectOutputPort;
+import com.example.qonnect.domain.models.*;
+import com.example.qonnect.domain.models.enums.BugSeverity;
+import com.example.qonnect.domain.models.enums.BugStatus;
+import com.example.qonnect.domain.models.enums.TaskStatus;
+import com.example.qonnect.infrastructure.adapters.output.persistence.repositories.ProjectBugCounterRepository;
+import com.example.qonnect.infrastructure.adapters.output.persistence.repositories.ProjectTaskCounterRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class ProjectCounterPersistenceAdapterTest {
+
+    @Autowired
+    private ProjectCounterPersistenceAdapter adapter;
+    @Autowired
+    private BugPersistenceAdapter bugPersistenceAdapter;
+    @Autowired
+    private TaskPersistenceAdapter taskPersistenceAdapter;
+    @Autowired
+    private ProjectOutputPort projectOutputPort;
+    @Autowired
+    private OrganizationOutputPort organizationOutputPort;
+    @Autowired
+    private ProjectBugCounterRepository bugCounterRepository;
+    @Autowired
+    private ProjectTaskCounterRepository taskCounterRepository;
+
+    private Project project;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        Organization organization = organizationOutputPort.saveOrganization(
+                Organization.builder().name("Counter Org").build());
+        project = projectOutputPort.saveProject(
+                Project.builder().name("Counter Project").organizationId(organization.getId()).build());
+        task = taskPersistenceAdapter.saveTask(
+                Task.builder().title("Counter Task").projectId(project.getId()).status(TaskStatus.PENDING).build());
+    }
+
+    private Bug saveBug(String title, BugStatus status, BugSeverity severity) {
+        return bugPersistenceAdapter.saveBug(Bug.builder()
+                .title(title)
+                .projectId(project.getId())
+                .taskId(task.getId())
+                .status(status)
+                .severity(severity)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    @Test
+    void shouldCountBugsAndTasksAsTheyAreSaved() {
+        saveBug("A", BugStatus.OPEN, BugSeverity.MAJOR);
+        saveBug("B", BugStatus.OPEN, BugSeverity.MINOR);
+
+        ProjectSummary summary = adapter.getProjectSummary(project.getId());
+
+        assertEquals(2, summary.getTotalBugs());
+        assertEquals(2L, summary.getBugsByStatus().get("OPEN"));
+        assertEquals(1L, summary.getBugsByStatusAndSeverity().get("OPEN").get("MAJOR"));
+        assertEquals(1, summary.getTotalTasks());
+        assertEquals(1L, summary.getTasksByStatus().get("PENDING"));
+    }
+
+    @Test
+    void shouldMoveBugBetweenCountersWhenStatusChanges() {
+        Bug bug = saveBug("A", BugStatus.OPEN, BugSeverity.MAJOR);
+        bug.setStatus(BugStatus.CLOSED);
+        bugPersistenceAdapter.saveBug(bug);
+
+        ProjectSummary summary = adapter.getProjectSummary(project.getId());
+
+        assertEquals(1, summary.getTotalBugs());
+        assertNull(summary.getBugsByStatus().get("OPEN"));
+        assertEquals(1L, summary.getBugsByStatus().get("CLOSED"));
+    }
+
+    @Test
+    void shouldDecrementWhenBugsAndTasksAreDeleted() {
+        Bug bug = saveBug("A", BugStatus.OPEN, BugSeverity.MAJOR);
+        saveBug("B", BugStatus.OPEN, BugSeverity.MAJOR);
+        bugPersistenceAdapter.deleteBug(bug.getId());
+        assertEquals(1, adapter.countBugsByProjectId(project.getId()));
+
+        taskPersistenceAdapter.deleteTaskById(task.getId());
+
+        ProjectSummary summary = adapter.getProjectSummary(project.getId());
+        assertEquals(0, summary.getTotalBugs());
+        assertEquals(0, summary.getTotalTasks());
+    }
+
+    @Test
+    void shouldDropBugAndTaskCountersWithTheProject() {
+        saveBug("A", BugStatus.OPEN, BugSeverity.MAJOR);
+        assertFalse(bugCounterRepository.findByProjectId(project.getId()).isEmpty());
+        assertFalse(taskCounterRepository.findByProjectId(project.getId()).isEmpty());
+
+        adapter.onProjectDeleted(project.getId());
+
+        assertTrue(bugCounterRepository.findByProjectId(project.getId()).isEmpty());
+        assertTrue(taskCounterRepository.findByProjectId(project.getId()).isEmpty());
+    }
+
+    @Test
+    void reconcileShouldRepairDriftedCounters() {
+        saveBug("A", BugStatus.OPEN, BugSeverity.MAJOR);
+        bugCounterRepository.adjust(project.getId(), "OPEN", "MAJOR", 5);
+
+        assertTrue(adapter.reconcileCounters() >= 1);
+        assertEquals(1, adapter.countBugsByProjectId(project.getId()));
+        assertEquals(0, adapter.reconcileCounters());
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.qonnect.infrastructure.adapters.output.persistence.adapters;
+
+import com.example.qonnect.domain.models.enums.Role;
+import com.example.qonnect.infrastructure.adapters.output.persistence.entities.ProjectEntity;
+import com.example.qonnect.infrastructure.adapters.output.persistence.entities.UserEntity;
+import com.example.qonnect.infrastructure.adapters.output.persistence.repositories.ProjectRepository;
+import com.example.qonnect.infrastructure.adapters.output.persistence.repositories.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pages through a project's members the way ProjectController requests them.
+ */
+class ProjectMembersPagingTest {
+
+    private static final int MEMBERS = 25;
+    private static final int PAGE_SIZE = 10;
+
+    private LocalContainerEntityManagerFactoryBean factoryBean;
+    private TransactionTemplate transaction;
+    private UserRepository userRepository;
+    private List<Long> memberIds;
+    private Long projectId;
+
+    @BeforeEach
+    void setUp() {
+        factoryBean = H2EntityManagerFactory.create(Map.of());
+        EntityManagerFactory entityManagerFactory = factoryBean.getObject();
+        transaction = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory));
+        JpaRepositoryFactory repositoryFactory = new JpaRepositoryFactory(
+                SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory));
+        userRepository = repositoryFactory.getRepository(UserRepository.class);
+        ProjectRepository projectRepository = repositoryFactory.getRepository(ProjectRepository.class);
+
+        transaction.executeWithoutResult(status -> {
+            List<UserEntity> members = new ArrayList<>(userRepository.saveAll(IntStream.range(0, MEMBERS)
+                    .mapToObj(ProjectMembersPagingTest::user)
+                    .toList()));
+            memberIds = members.stream().map(UserEntity::getId).sorted().toList();
+            Collections.reverse(members);
+            ProjectEntity project = new ProjectEntity();
+            project.setName("Paged Project");
+            project.setTeamMembers(members);
+            projectId = projectRepository.save(project).getId();
+            projectRepository.save(otherProject(members.subList(0, 5)));
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        factoryBean.destroy();
+    }
+
+    @Test
+    void shouldPageThroughEveryMemberOnceInIdOrder() {
+        List<Long> seen = new ArrayList<>();
+        Page<UserEntity> page;
+        int number = 0;
+        do {
+            PageRequest pageable = PageRequest.of(number++, PAGE_SIZE, Sort.by("id"));
+            page = transaction.execute(status -> userRepository.findMembersByProjectId(projectId, pageable));
+            seen.addAll(page.getContent().stream().map(UserEntity::getId).toList());
+        } while (page.hasNext());
+
+        assertEquals(3, number);
+        assertEquals(MEMBERS, page.getTotalElements());
+        assertEquals(memberIds, seen);
+    }
+
+    private static UserEntity user(int i) {
+        UserEntity user = new UserEntity();
+        user.setEmail("member" + i + "@example.com");
+        user.setRole(Role.DEVELOPER);
+        return user;
+    }
+
+    private static ProjectEntity otherProject(List<UserEntity> members) {
+        ProjectEntity project = new ProjectEntity();
+        project.setName("Other Project");
+        project.setTeamMembers(new ArrayList<>(members));
+        return project;
+    }
+}
@@ -9,8 +9,10 @@ import com.example.qonnect.domain.models.enums.Role;
 import com.example.qonnect.domain.models.User;
 import com.example.qonnect.infrastructure.adapters.input.rest.messages.ErrorMessages;
 import com.example.qonnect.infrastructure.adapters.output.persistence.entities.OrganizationEntity;
+import com.example.qonnect.infrastructure.adapters.output.persistence.entities.UserEntity;
 import com.example.qonnect.infrastructure.adapters.output.persistence.repositories.OrganizationRepository;
 import com.example.qonnect.infrastructure.adapters.output.persistence.repositories.ProjectRepository;
+import com.example.qonnect.infrastructure.adapters.output.persistence.repositories.UserRepository;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,7 +25,6 @@ import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -48,6 +49,8 @@ class ProjectPersistenceAdapterTest {
     private OrganizationPersistenceAdapter organizationPersistenceAdapter;
     @Autowired
     private ProjectRepository projectRepository;
+    @Autowired
+    private UserRepository userRepository;
 
     @BeforeEach
     void setUp() {
@@ -105,17 +108,6 @@ class ProjectPersistenceAdapterTest {
         projectPersistenceAdapter.deleteProjectById(saved.getId());
     }
 
-    @Test
-    void shouldReturnTrue_whenProjectExistsByNameAndOrganizationId() {
-        Project saved = adapter.saveProject(project);
-
-        boolean exists = adapter.existsByNameAndOrganizationId("Qonnect", project.getOrganizationId());
-
-        assertTrue(exists);
-        projectPersistenceAdapter.deleteProjectById(saved.getId());
-
-    }
-
     @Test
     void shouldGetAllProjectsSuccessfully_whenProjectsExist() {
         Project project1 = Project.builder()
@@ -258,94 +250,6 @@ class ProjectPersistenceAdapterTest {
         assertEquals(HttpStatus.NOT_FOUND, ex.getStatus());
     }
 
-    @Test
-    void shouldReturnTrue_whenProjectNameExistsExcludingCurrentProject() {
-        Project project1 = Project.builder()
-                .name("Existing Project")
-                .description("First project")
-                .createdById(user.getId())
-                .organizationId(org.getId())
-                .createdAt(LocalDateTime.now())
-                .build();
-
-        Project project2 = Project.builder()
-                .name("Another Project")
-                .description("Second project")
-                .createdById(user.getId())
-                .organizationId(org.getId())
-                .createdAt(LocalDateTime.now())
-                .build();
-
-        Project saved1 = adapter.saveProject(project1);
-        Project saved2 = adapter.saveProject(project2);
-
-
-        boolean exists = adapter.existsByNameAndOrganizationIdAndNotId(
-                "Existing Project", org.getId(), saved2.getId());
-
-
-        assertTrue(exists);
-
-        projectPersistenceAdapter.deleteProjectById(saved1.getId());
-        projectPersistenceAdapter.deleteProjectById(saved2.getId());
-
-    }
-
-    @Test
-    void shouldReturnFalse_whenProjectNameDoesNotExistExcludingCurrentProject() {
-        Project saved = adapter.saveProject(project);
-
-        boolean exists = adapter.existsByNameAndOrganizationIdAndNotId(
-                "Qonnect", org.getId(), saved.getId());
-
-        assertFalse(exists);
-        projectPersistenceAdapter.deleteProjectById(saved.getId());
-
-    }
-
-    @Test
-    void shouldReturnFalse_whenProjectNameDoesNotExistAtAll() {
-        Project saved = adapter.saveProject(project);
-
-        boolean exists = adapter.existsByNameAndOrganizationIdAndNotId(
-                "Non-existent Project", org.getId(), saved.getId());
-
-        assertFalse(exists);
-        projectPersistenceAdapter.deleteProjectById(saved.getId());
-
-    }
-
-    @Test
-    void shouldReturnTrue_whenProjectNameExistsInDifferentOrganization() {
-        OrganizationEntity anotherOrgEntity = OrganizationEntity.builder()
-                .name("Another Organization")
-                .build();
-        OrganizationEntity savedAnotherOrg = organizationRepository.save(anotherOrgEntity);
-
-        Project projectInAnotherOrg = Project.builder()
-                .name("Qonnect")
-                .description("Same name in different org")
-                .createdById(user.getId())
-                .organizationId(savedAnotherOrg.getId())
-                .createdAt(LocalDateTime.now())
-                .build();
-
-        Project saved1 = adapter.saveProject(project);
-        Project saved2 = adapter.saveProject(projectInAnotherOrg);
-
-
-        boolean exists = adapter.existsByNameAndOrganizationIdAndNotId(
-                "Qonnect", org.getId(), saved1.getId());
-
-
-        assertFalse(exists);
-
-        organizationPersistenceAdapter.deleteById(savedAnotherOrg.getId());
-        projectPersistenceAdapter.deleteProjectById(saved1.getId());
-        projectPersistenceAdapter.deleteProjectById(saved2.getId());
-
-    }
-
     @Test
     void shouldUpdateProjectSuccessfully_whenProjectExists() {
         Project saved = adapter.saveProject(project);
@@ -379,29 +283,36 @@ class ProjectPersistenceAdapterTest {
 
 
     @Test
-    void shouldRemoveUserFromProjectSuccessfully() {
+    void shouldManageMembershipDirectlyOnJoinTable() {
         Project savedProject = adapter.saveProject(project);
+        UserEntity member1 = userRepository.save(member("member1@example.com"));
+        UserEntity member2 = userRepository.save(member("member2@example.com"));
 
-        User user1 = new User();
-        user1.setId(100L);
-        user1.setEmail("user1@example.com");
-
-        User user2 = new User();
-        user2.setId(101L);
-        user2.setEmail("user2@example.com");
+        assertTrue(adapter.addMember(savedProject.getId(), member1.getId()));
+        assertFalse(adapter.addMember(savedProject.getId(), member1.getId()));
+        assertTrue(adapter.isMember(savedProject.getId(), member1.getId()));
+        assertFalse(adapter.isMember(savedProject.getId(), member2.getId()));
 
-        savedProject.setTeamMembers(new ArrayList<>(List.of(user1, user2)));
+        assertEquals(1, adapter.addMembers(savedProject.getId(), List.of(member1.getId(), member2.getId())));
 
-        adapter.removeUserFromProject(user1, savedProject);
+        Page<User> members = adapter.getMembers(savedProject.getId(), PageRequest.of(0, 1, Sort.by("id")));
+        assertEquals(2, members.getTotalElements());
+        assertEquals(member1.getId(), members.getContent().get(0).getId());
 
-        Project updatedProject = adapter.getProjectById(savedProject.getId());
-
-        assertNotNull(updatedProject);
-        assertFalse(updatedProject.getTeamMembers().stream()
-                .anyMatch(u -> u.getId().equals(user1.getId())));
+        assertTrue(adapter.removeMember(savedProject.getId(), member1.getId()));
+        assertFalse(adapter.isMember(savedProject.getId(), member1.getId()));
+        assertEquals(1, adapter.removeMembers(savedProject.getId(), List.of(member1.getId(), member2.getId())));
 
         projectPersistenceAdapter.deleteProjectById(savedProject.getId());
+        userRepository.deleteAll(List.of(member1, member2));
+    }
 
+    private UserEntity member(String email) {
+        UserEntity entity = new UserEntity();
+        entity.setEmail(email);
+        entity.setRole(Role.DEVELOPER);
+        entity.setOrganization(organizationRepository.findById(org.getId()).orElseThrow());
+        return entity;
     }
 
 }
@@ -0,0 +1,124 @@
+package com.example.qonnect.infrastructure.adapters.output.persistence.adapters;
+
+import com.example.qonnect.domain.models.KeysetCursor;
+import com.example.qonnect.domain.models.Task;
+import com.example.qonnect.domain.models.enums.Role;
+import com.example.qonnect.infrastructure.adapters.output.persistence.entities.BugEntity;
+import com.example.qonnect.infrastructure.adapters.output.persistence.entities.TaskEntity;
+import com.example.qonnect.infrastructure.adapters.output.persistence.entities.UserEntity;
+import com.example.qonnect.infrastructure.adapters.output.persistence.mappers.TaskPersistenceMapperImpl;
+import com.example.qonnect.infrastructure.adapters.output.persistence.repositories.BugRepository;
+import com.example.qonnect.infrastructure.adapters.output.persistence.repositories.TaskRepository;
+import com.example.qonnect.infrastructure.adapters.output.persistence.repositories.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Seeks through a user's tasks the way the cursor endpoint does, with bugs on every task.
+ */
+class TaskCursorPagingTest {
+
+    private static final int TASKS = 12;
+    private static final int PAGE_SIZE = 5;
+
+    private LocalContainerEntityManagerFactoryBean factoryBean;
+    private Statistics statistics;
+    private TransactionTemplate transaction;
+    private TaskPersistenceAdapter taskPersistenceAdapter;
+    private List<Long> newestFirst;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        factoryBean = H2EntityManagerFactory.create(Map.of(AvailableSettings.GENERATE_STATISTICS, "true"));
+        EntityManagerFactory entityManagerFactory = factoryBean.getObject();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        transaction = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory));
+        JpaRepositoryFactory repositoryFactory = new JpaRepositoryFactory(
+                SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory));
+        UserRepository userRepository = repositoryFactory.getRepository(UserRepository.class);
+        TaskRepository taskRepository = repositoryFactory.getRepository(TaskRepository.class);
+        BugRepository bugRepository = repositoryFactory.getRepository(BugRepository.class);
+        taskPersistenceAdapter = new TaskPersistenceAdapter(taskRepository, new TaskPersistenceMapperImpl(), null);
+
+        LocalDateTime start = LocalDateTime.of(2026, 1, 1, 9, 0);
+        transaction.executeWithoutResult(status -> {
+            UserEntity user = new UserEntity();
+            user.setEmail("assignee@example.com");
+            user.setRole(Role.DEVELOPER);
+            user = userRepository.save(user);
+            userId = user.getId();
+
+            List<TaskEntity> tasks = new ArrayList<>();
+            for (int i = 0; i < TASKS; i++) {
+                TaskEntity task = new TaskEntity();
+                task.setTitle("Task " + i);
+                task.setProjectId(1L);
+                task.setAssignedTo(user);
+                // Pairs share a timestamp so the id tiebreak is exercised.
+                task.setCreatedAt(start.plusMinutes(i / 2));
+                tasks.add(taskRepository.save(task));
+            }
+            for (TaskEntity task : tasks) {
+                IntStream.range(0, 2).forEach(i -> {
+                    BugEntity bug = new BugEntity();
+                    bug.setTitle(task.getTitle() + " bug " + i);
+                    bug.setTask(task);
+                    bug.setCreatedBy(task.getAssignedTo());
+                    bugRepository.save(bug);
+                });
+            }
+            newestFirst = tasks.stream()
+                    .sorted(Comparator.comparing(TaskEntity::getCreatedAt).thenComparing(TaskEntity::getId).reversed())
+                    .map(TaskEntity::getId)
+                    .toList();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        factoryBean.destroy();
+    }
+
+    @Test
+    void shouldSeekThroughEveryTaskWithOneStatementPerPage() {
+        List<Long> seen = new ArrayList<>();
+        KeysetCursor cursor = KeysetCursor.START;
+        int pages = 0;
+        Slice<Task> page;
+        do {
+            KeysetCursor after = cursor;
+            statistics.clear();
+            page = transaction.execute(status -> taskPersistenceAdapter.getTasksByUserIdAfter(userId, after, PAGE_SIZE));
+            assertEquals(1, statistics.getPrepareStatementCount(), "statements for page " + pages);
+            pages++;
+            seen.addAll(page.getContent().stream().map(Task::getId).toList());
+            Task last = page.getContent().get(page.getContent().size() - 1);
+            cursor = new KeysetCursor(last.getCreatedAt(), last.getId());
+        } while (page.hasNext());
+
+        assertEquals(3, pages);
+        assertEquals(newestFirst, seen);
+        assertNull(page.getContent().get(0).getBugs());
+    }
+}
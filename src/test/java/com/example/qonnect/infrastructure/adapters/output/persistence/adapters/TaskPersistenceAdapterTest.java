@@ -4,6 +4,7 @@ import com.example.qonnect.domain.exceptions.TaskNotFoundException;
 import com.example.qonnect.domain.models.Organization;
 import com.example.qonnect.domain.models.Project;
 import com.example.qonnect.domain.models.Task;
+import com.example.qonnect.domain.models.TaskFilter;
 import com.example.qonnect.domain.models.User;
 import com.example.qonnect.domain.models.enums.Role;
 import com.example.qonnect.domain.models.enums.TaskStatus;
@@ -162,11 +163,19 @@ class TaskPersistenceAdapterTest {
         Task saved1 = taskPersistenceAdapter.saveTask(task1);
         Task saved2 = taskPersistenceAdapter.saveTask(task2);
 
-        List<Task> taskList = taskPersistenceAdapter.getAllTasksByProjectId(project.getId());
+        List<Task> taskList = taskPersistenceAdapter
+                .getTasksByProjectId(project.getId(), new TaskFilter(), true, PageRequest.of(0, 10))
+                .getContent();
 
         assertEquals(3, taskList.size());
         assertTrue(taskList.stream().anyMatch(t -> t.getTitle().equals("Task 1")));
         assertTrue(taskList.stream().anyMatch(t -> t.getTitle().equals("Task 2")));
+        assertTrue(taskList.stream().allMatch(t -> t.getBugCount() == 0L && t.getBugs() == null));
+
+        TaskFilter inProgress = TaskFilter.builder().status(TaskStatus.IN_PROGRESS).build();
+        assertTrue(taskPersistenceAdapter
+                .getTasksByProjectId(project.getId(), inProgress, false, PageRequest.of(0, 10))
+                .isEmpty());
 
         projectPersistenceAdapter.deleteProjectById(savedProject.getId());
         taskPersistenceAdapter.deleteTaskById(saved1.getId());
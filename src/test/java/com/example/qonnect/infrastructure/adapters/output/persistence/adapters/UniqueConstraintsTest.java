@@ -0,0 +1,31 @@
+package com.example.qonnect.infrastructure.adapters.output.persistence.adapters;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UniqueConstraintsTest {
+
+    @Test
+    void shouldMatchTheNamedNaturalKey() {
+        assertTrue(UniqueConstraints.isViolation(violation("uk_organizations_name"), UniqueConstraints.ORGANIZATION_NAME));
+        assertTrue(UniqueConstraints.isViolation(violation("PUBLIC.UK_TASKS_PROJECT_TITLE"), UniqueConstraints.TASK_TITLE));
+    }
+
+    @Test
+    void shouldNotTreatOtherUniqueViolationsAsNaturalKeyConflicts() {
+        assertFalse(UniqueConstraints.isViolation(violation("pk_project_users"), UniqueConstraints.PROJECT_NAME));
+        assertFalse(UniqueConstraints.isViolation(violation("uk_user_entity_email"), UniqueConstraints.ORGANIZATION_NAME));
+        assertFalse(UniqueConstraints.isViolation(violation(null), UniqueConstraints.BUG_TITLE));
+    }
+
+    private static DataIntegrityViolationException violation(String constraint) {
+        SQLException sql = new SQLException("duplicate key value violates unique constraint", "23505");
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", sql, constraint));
+    }
+}
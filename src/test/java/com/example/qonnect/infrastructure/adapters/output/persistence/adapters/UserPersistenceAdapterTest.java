@@ -22,6 +22,9 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
@@ -82,6 +85,13 @@ class UserPersistenceAdapterTest {
         assertTrue(userPersistenceAdapter.userExistsByEmail(savedUser.getEmail()));
     }
 
+    @Test
+    void findExistingEmails_shouldIgnoreCase() {
+        Set<String> existing = userPersistenceAdapter.findExistingEmails(List.of("Test@Example.com", "new@example.com"));
+
+        assertEquals(Set.of("test@example.com"), existing);
+    }
+
     @Test
     void getUserById_shouldReturnUser() {
         User result = userPersistenceAdapter.getUserById(savedUser.getId());
@@ -0,0 +1,86 @@
+package com.example.qonnect.infrastructure.adapters.output.persistence.repositories;
+
+import com.example.qonnect.domain.models.enums.BugPriority;
+import com.example.qonnect.domain.models.enums.BugSeverity;
+import com.example.qonnect.domain.models.enums.BugStatus;
+import com.example.qonnect.infrastructure.adapters.output.persistence.entities.BugEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Inserts 100k bugs through the entity manager with JDBC batching disabled (one round trip
+ * per row, as with identity ids) and with the configured batch size. Needs the application
+ * database; run with {@code mvn test -Dbenchmark=true -Dtest=BugInsertBenchmarkTest}.
+ */
+@Slf4j
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class BugInsertBenchmarkTest {
+
+    private static final int ROWS = 100_000;
+    private static final int ROWS_PER_TRANSACTION = 1_000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void compareInsertThroughput() {
+        double unbatched = rowsPerSecond(1);
+        double batched = rowsPerSecond(null);
+
+        log.info("Bug inserts ({} rows): unbatched={} rows/s batched={} rows/s ({}x)",
+                ROWS, Math.round(unbatched), Math.round(batched), String.format("%.1f", batched / unbatched));
+        assertTrue(batched > unbatched, "batched inserts should outrun one round trip per row");
+    }
+
+    private double rowsPerSecond(Integer jdbcBatchSize) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        String prefix = "benchmark-" + UUID.randomUUID() + "-";
+
+        long start = System.nanoTime();
+        for (int offset = 0; offset < ROWS; offset += ROWS_PER_TRANSACTION) {
+            int first = offset;
+            transaction.executeWithoutResult(status -> {
+                entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+                for (int i = first; i < first + ROWS_PER_TRANSACTION; i++) {
+                    entityManager.persist(bug(prefix + i));
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+        long elapsed = System.nanoTime() - start;
+
+        transaction.executeWithoutResult(status -> entityManager
+                .createQuery("DELETE FROM BugEntity b WHERE b.title LIKE :prefix")
+                .setParameter("prefix", prefix + "%")
+                .executeUpdate());
+        return ROWS / (elapsed / 1_000_000_000.0);
+    }
+
+    private static BugEntity bug(String title) {
+        BugEntity bug = new BugEntity();
+        bug.setTitle(title);
+        bug.setDescription("Inserted by BugInsertBenchmarkTest");
+        bug.setStatus(BugStatus.OPEN);
+        bug.setPriority(BugPriority.MEDIUM);
+        bug.setSeverity(BugSeverity.MINOR);
+        bug.setCreatedAt(LocalDateTime.now());
+        return bug;
+    }
+}
@@ -0,0 +1,249 @@
+package com.example.qonnect.infrastructure.adapters.output.persistence.repositories;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.mapping.PropertyPath;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Fails when a repository method filters on columns that no index or key in db/migration can serve.
+ * Derived queries are checked from their method names; hand-written queries must be listed in {@link #QUERY_LOOKUPS}.
+ */
+class RepositoryIndexCoverageTest {
+
+    private static final Map<String, List<String>> QUERY_LOOKUPS = Map.ofEntries(
+            Map.entry("BugRepository.findCounterKeyById", List.of("bug_entity", "id")),
+            Map.entry("BugRepository.findSummaryInOrganization", List.of("bug_entity", "id")),
+            Map.entry("BugRepository.findSummaryContentByProjectId", List.of("bug_entity", "project_id")),
+            Map.entry("BugRepository.findSummariesByTaskId", List.of("bug_entity", "task_id")),
+            Map.entry("BugRepository.findSummariesByAssignedToId", List.of("bug_entity", "assigned_to")),
+            Map.entry("BugRepository.findSummariesByCreatedById", List.of("bug_entity", "created_by")),
+            Map.entry("BugRepository.findSummariesByProjectIdAfter", List.of("bug_entity", "project_id", "created_at", "id")),
+            Map.entry("BugRepository.findSummariesByTaskIdAfter", List.of("bug_entity", "task_id", "created_at", "id")),
+            Map.entry("BugRepository.findSummariesByAssignedToIdAfter", List.of("bug_entity", "assigned_to", "created_at", "id")),
+            Map.entry("BugRepository.findSummariesByCreatedByIdAfter", List.of("bug_entity", "created_by", "created_at", "id")),
+            Map.entry("TaskRepository.existsInOrganization", List.of("tasks", "id")),
+            Map.entry("TaskRepository.findCounterKeyById", List.of("tasks", "id")),
+            Map.entry("TaskRepository.findSummariesByProjectId", List.of("tasks", "project_id")),
+            Map.entry("TaskRepository.findSummariesWithBugCountByProjectId", List.of("tasks", "project_id")),
+            Map.entry("TaskRepository.findByAssignedToIdAfter", List.of("tasks", "assigned_to_user_id", "created_at", "id")),
+            Map.entry("UserRepository.findExistingEmails", List.of("user_entity", "lower(email)")),
+            Map.entry("ProjectRepository.isMember", List.of("project_users", "project_id", "user_id")),
+            Map.entry("ProjectRepository.insertMember", List.of("project_users", "project_id", "user_id")),
+            Map.entry("ProjectRepository.deleteMember", List.of("project_users", "project_id", "user_id")),
+            Map.entry("ProjectRepository.insertMembers", List.of("project_entity", "id")),
+            Map.entry("ProjectRepository.deleteMembers", List.of("project_users", "project_id")),
+            Map.entry("UserRepository.findMembersByProjectId", List.of("project_users", "project_id")),
+            Map.entry("EmailOutboxRepository.lockDue", List.of("email_outbox", "status", "next_attempt_at")),
+            Map.entry("EmailOutboxRepository.deleteFinishedBefore", List.of("email_outbox", "status", "updated_at")),
+            Map.entry("IdentityProvisioningRepository.lockDue", List.of("identity_provisioning", "status", "next_attempt_at")),
+            Map.entry("ProjectBugCounterRepository.adjust", List.of("project_bug_counters", "project_id", "status", "severity")),
+            Map.entry("ProjectBugCounterRepository.subtractBugsOfTask", List.of("bug_entity", "task_id")),
+            Map.entry("ProjectBugCounterRepository.deleteByProjectId", List.of("project_bug_counters", "project_id")),
+            Map.entry("ProjectBugCounterRepository.sumByProjectId", List.of("project_bug_counters", "project_id")),
+            Map.entry("ProjectTaskCounterRepository.adjust", List.of("project_task_counters", "project_id", "status")),
+            Map.entry("ProjectTaskCounterRepository.deleteByProjectId", List.of("project_task_counters", "project_id")),
+            Map.entry("ProjectTaskCounterRepository.sumByProjectId", List.of("project_task_counters", "project_id"))
+    );
+
+    /** Whole-table aggregations where a sequential scan is the intended plan. */
+    private static final Set<String> FULL_SCANS = Set.of(
+            "ProjectBugCounterRepository.reconcile",
+            "ProjectTaskCounterRepository.reconcile"
+    );
+
+    private static final Pattern MIGRATION_VERSION = Pattern.compile("V(\\d+)__.*\\.sql");
+    private static final Pattern CREATE_TABLE = Pattern.compile("CREATE TABLE (?:IF NOT EXISTS )?(\\w+)\\s*\\((.*)\\)", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    private static final Pattern TABLE_KEY = Pattern.compile(
+            "(?:CONSTRAINT (\\w+) )?(?:PRIMARY KEY|UNIQUE)\\s*\\(([^)]+)\\)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern ADD_KEY = Pattern.compile(
+            "ALTER TABLE (\\w+) ADD CONSTRAINT (\\w+) (?:PRIMARY KEY|UNIQUE)\\s*\\(([^)]+)\\)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern CREATE_INDEX = Pattern.compile(
+            "CREATE (?:UNIQUE )?INDEX (?:IF NOT EXISTS )?(\\w+) ON (\\w+)\\s*\\((.+)\\)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern DROP_INDEX = Pattern.compile("DROP INDEX (?:IF EXISTS )?(\\w+)", Pattern.CASE_INSENSITIVE);
+
+    /** table -> index or key name -> columns, as left by applying every migration in version order. */
+    private static final Map<String, Map<String, List<String>>> indexes = new HashMap<>();
+
+    @BeforeAll
+    static void readMigrations() throws IOException {
+        Resource[] migrations = new PathMatchingResourcePatternResolver().getResources("classpath:db/migration/V*__*.sql");
+        Arrays.sort(migrations, Comparator.comparingInt(RepositoryIndexCoverageTest::version));
+        for (Resource migration : migrations) {
+            String sql = migration.getContentAsString(StandardCharsets.UTF_8).replaceAll("--[^\\n]*", "");
+            for (String statement : sql.split(";")) {
+                apply(statement.trim());
+            }
+        }
+        assertTrue(indexes.containsKey("bug_entity"), "no migrations found on the classpath");
+    }
+
+    private static int version(Resource migration) {
+        Matcher matcher = MIGRATION_VERSION.matcher(Objects.requireNonNull(migration.getFilename()));
+        return matcher.matches() ? Integer.parseInt(matcher.group(1)) : Integer.MAX_VALUE;
+    }
+
+    private static void apply(String statement) {
+        Matcher matcher;
+        if ((matcher = CREATE_TABLE.matcher(statement)).lookingAt()) {
+            String table = matcher.group(1);
+            Matcher key = TABLE_KEY.matcher(matcher.group(2));
+            while (key.find()) {
+                addIndex(table, key.group(1) != null ? key.group(1) : table + "_" + key.start(), key.group(2));
+            }
+        } else if ((matcher = ADD_KEY.matcher(statement)).lookingAt()) {
+            addIndex(matcher.group(1), matcher.group(2), matcher.group(3));
+        } else if ((matcher = CREATE_INDEX.matcher(statement)).lookingAt()) {
+            addIndex(matcher.group(2), matcher.group(1), matcher.group(3));
+        } else if ((matcher = DROP_INDEX.matcher(statement)).lookingAt()) {
+            String name = matcher.group(1).toLowerCase(Locale.ROOT);
+            indexes.values().forEach(byName -> byName.remove(name));
+        }
+    }
+
+    private static void addIndex(String table, String name, String columns) {
+        List<String> parsed = Arrays.stream(columns.split(",")).map(c -> c.trim().toLowerCase(Locale.ROOT)).toList();
+        indexes.computeIfAbsent(table.toLowerCase(Locale.ROOT), t -> new LinkedHashMap<>())
+                .put(name.toLowerCase(Locale.ROOT), parsed);
+    }
+
+    @Test
+    void everyRepositoryLookupHasASupportingIndex() throws ClassNotFoundException {
+        List<String> uncovered = new ArrayList<>();
+        Set<String> listedButMissing = new HashSet<>(QUERY_LOOKUPS.keySet());
+
+        for (Class<?> repository : repositories()) {
+            Class<?> entity = ResolvableType.forClass(repository).as(JpaRepository.class).resolveGeneric(0);
+            for (Method method : repository.getDeclaredMethods()) {
+                if (method.isDefault() || method.isSynthetic() || java.lang.reflect.Modifier.isStatic(method.getModifiers())) {
+                    continue;
+                }
+                String key = repository.getSimpleName() + "." + method.getName();
+                listedButMissing.remove(key);
+                if (FULL_SCANS.contains(key)) {
+                    continue;
+                }
+
+                if (method.isAnnotationPresent(Query.class)) {
+                    List<String> lookup = QUERY_LOOKUPS.get(key);
+                    if (lookup == null) {
+                        uncovered.add(key + " has a @Query but no entry in QUERY_LOOKUPS");
+                    } else if (!covered(lookup.get(0), new HashSet<>(lookup.subList(1, lookup.size())))) {
+                        uncovered.add(key + " -> " + lookup);
+                    }
+                    continue;
+                }
+
+                PartTree tree = new PartTree(method.getName(), entity);
+                for (PartTree.OrPart orPart : tree) {
+                    Set<String> columns = new HashSet<>();
+                    for (Part part : orPart) {
+                        columns.add(column(entity, part.getProperty()));
+                    }
+                    if (!columns.isEmpty() && !covered(tableName(entity), columns)) {
+                        uncovered.add(key + " -> " + tableName(entity) + columns);
+                    }
+                }
+            }
+        }
+
+        if (!listedButMissing.isEmpty()) {
+            uncovered.add("QUERY_LOOKUPS lists methods that no longer exist: " + listedButMissing);
+        }
+        if (!uncovered.isEmpty()) {
+            fail("Repository lookups without a supporting index in db/migration:\n  " + String.join("\n  ", uncovered));
+        }
+    }
+
+    /** An index serves a lookup when its leading columns are all constrained by the lookup. */
+    private static boolean covered(String table, Set<String> columns) {
+        for (List<String> index : indexes.getOrDefault(table, Map.of()).values()) {
+            int prefix = Math.min(index.size(), columns.size());
+            if (columns.containsAll(index.subList(0, prefix))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<Class<?>> repositories() throws ClassNotFoundException {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                return beanDefinition.getMetadata().isInterface();
+            }
+        };
+        scanner.addIncludeFilter(new AssignableTypeFilter(JpaRepository.class));
+        List<Class<?>> repositories = new ArrayList<>();
+        for (BeanDefinition candidate : scanner.findCandidateComponents(RepositoryIndexCoverageTest.class.getPackageName())) {
+            repositories.add(Class.forName(candidate.getBeanClassName()));
+        }
+        assertTrue(repositories.size() > 1, "no repositories found");
+        return repositories;
+    }
+
+    private static String tableName(Class<?> entity) {
+        Table table = entity.getAnnotation(Table.class);
+        if (table != null && StringUtils.hasText(table.name())) {
+            return table.name();
+        }
+        return snakeCase(entity.getSimpleName());
+    }
+
+    private static String column(Class<?> entity, PropertyPath path) {
+        Field field = findField(entity, path.getSegment());
+        JoinColumn joinColumn = field.getAnnotation(JoinColumn.class);
+        if (joinColumn != null && StringUtils.hasText(joinColumn.name())) {
+            return joinColumn.name();
+        }
+        if (field.isAnnotationPresent(ManyToOne.class)) {
+            return snakeCase(field.getName()) + "_id";
+        }
+        Column column = field.getAnnotation(Column.class);
+        if (column != null && StringUtils.hasText(column.name())) {
+            return column.name();
+        }
+        return snakeCase(field.getName());
+    }
+
+    private static Field findField(Class<?> type, String name) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            try {
+                return current.getDeclaredField(name);
+            } catch (NoSuchFieldException ignored) {
+                // keep walking up
+            }
+        }
+        throw new IllegalStateException(type.getSimpleName() + " has no field " + name);
+    }
+
+    private static String snakeCase(String name) {
+        return name.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toLowerCase(Locale.ROOT);
+    }
+}
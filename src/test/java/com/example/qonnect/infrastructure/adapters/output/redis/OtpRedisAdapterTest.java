@@ -0,0 +1,93 @@
+package com.example.qonnect.infrastructure.adapters.output.redis;
+
+import com.example.qonnect.domain.exceptions.OtpNotFoundException;
+import com.example.qonnect.domain.models.Otp;
+import com.example.qonnect.domain.models.enums.OtpType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OtpRedisAdapterTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private OtpRedisAdapter otpRedisAdapter;
+
+    @BeforeEach
+    void setUp() {
+        otpRedisAdapter = new OtpRedisAdapter(redisTemplate);
+    }
+
+    @Test
+    void shouldStoreOtpUnderTypedKeyWithTtl() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        Otp otp = Otp.builder()
+                .email("user@example.com")
+                .otp("123456")
+                .otpType(OtpType.VERIFICATION)
+                .expiryTime(LocalDateTime.now().plusMinutes(10))
+                .build();
+
+        otpRedisAdapter.saveOtp(otp);
+
+        ArgumentCaptor<Duration> ttl = ArgumentCaptor.forClass(Duration.class);
+        verify(valueOperations).set(eq("otp:user@example.com:VERIFICATION"), eq("123456"), ttl.capture());
+        assertTrue(ttl.getValue().compareTo(Duration.ofMinutes(9)) > 0);
+        assertTrue(ttl.getValue().compareTo(Duration.ofMinutes(10)) <= 0);
+    }
+
+    @Test
+    void shouldNotStoreAlreadyExpiredOtp() {
+        Otp otp = Otp.builder()
+                .email("user@example.com")
+                .otp("123456")
+                .otpType(OtpType.RESET_PASSWORD)
+                .expiryTime(LocalDateTime.now().minusSeconds(1))
+                .build();
+
+        otpRedisAdapter.saveOtp(otp);
+
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    void shouldConsumeOtpAtomically() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), eq("123456")))
+                .thenReturn(List.of(2L, 60_000L));
+
+        Otp consumed = otpRedisAdapter.consumeOtp("user@example.com", "123456");
+
+        assertEquals(OtpType.VERIFICATION, consumed.getOtpType());
+        assertFalse(consumed.isUsed());
+        assertTrue(consumed.getExpiryTime().isAfter(LocalDateTime.now().plusSeconds(50)));
+        verify(redisTemplate).execute(any(RedisScript.class),
+                eq(List.of("otp:user@example.com:RESET_PASSWORD", "otp:user@example.com:VERIFICATION")),
+                eq("123456"));
+    }
+
+    @Test
+    void shouldRejectUnknownOrAlreadyConsumedOtp() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), eq("000000"))).thenReturn(null);
+
+        assertThrows(OtpNotFoundException.class, () -> otpRedisAdapter.consumeOtp("user@example.com", "000000"));
+    }
+}